@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.compatibility;
+
+import java.awt.Font;
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.awt.event.ContainerEvent;
+import java.awt.event.ContainerListener;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import javax.swing.Icon;
+import javax.swing.JComponent;
+import javax.swing.JMenuItem;
+import javax.swing.KeyStroke;
+
+import com.intellij.util.ui.UIUtilities;
+
+/**
+ * Caches the {@link MenuItemLayoutHelper}s of the items of a popup menu. An item only computes its layout
+ * again if one of its layout inputs or the shared column widths stored on the popup have changed.
+ * Adding or removing items resets the cached column widths of the popup.
+ */
+final class MenuItemLayoutCache implements ContainerListener {
+
+    private static final String KEY_CACHE = "MenuItemLayoutHelper.layoutCache";
+    private static final Object[] SHARED_KEYS = {
+            MenuItemLayoutHelper.MAX_ARROW_WIDTH,
+            MenuItemLayoutHelper.MAX_CHECK_WIDTH,
+            MenuItemLayoutHelper.MAX_ICON_WIDTH,
+            MenuItemLayoutHelper.MAX_NON_CHECK_ICON_WIDTH,
+            MenuItemLayoutHelper.MAX_TEXT_WIDTH,
+            MenuItemLayoutHelper.MAX_ACC_WIDTH,
+            MenuItemLayoutHelper.MAX_LABEL_WIDTH,
+            UIUtilities.BASICMENUITEMUI_MAX_TEXT_OFFSET};
+
+    private final JComponent parent;
+    private final Map<JMenuItem, Entries> entries = new WeakHashMap<>();
+
+    private MenuItemLayoutCache(final JComponent parent) {
+        this.parent = parent;
+    }
+
+    static MenuItemLayoutHelper getLayoutHelper(final JMenuItem mi, final Icon checkIcon, final Icon arrowIcon,
+            final Rectangle viewRect, final int defaultTextIconGap, final String acceleratorDelimiter,
+            final boolean leftToRight, final Font font, final Font acceleratorFont, final String propertyPrefix) {
+        boolean useCheckAndArrow = com.intellij.util.ui.MenuItemLayoutHelper.useCheckAndArrow(mi);
+        JComponent parent = com.intellij.util.ui.MenuItemLayoutHelper.getMenuItemParent(mi);
+        if (parent == null) {
+            return new com.intellij.util.ui.MenuItemLayoutHelper(mi, checkIcon, arrowIcon, viewRect,
+                    defaultTextIconGap, acceleratorDelimiter, leftToRight, font, acceleratorFont, useCheckAndArrow,
+                    propertyPrefix);
+        }
+        MenuItemLayoutCache cache = getCache(parent);
+        boolean preferredSizeLayout = viewRect.width == Integer.MAX_VALUE;
+        Entries itemEntries = cache.entries.computeIfAbsent(mi, k -> new Entries());
+        Entry entry = preferredSizeLayout ? itemEntries.preferredSizeEntry : itemEntries.paintEntry;
+
+        LayoutKey key = new LayoutKey(mi, checkIcon, arrowIcon, viewRect, defaultTextIconGap, acceleratorDelimiter,
+                leftToRight, font, acceleratorFont, useCheckAndArrow, propertyPrefix);
+        if (entry != null && entry.key.equals(key) && Arrays.equals(entry.sharedValues, cache.sharedValues())) {
+            return entry.helper;
+        }
+        MenuItemLayoutHelper helper = new com.intellij.util.ui.MenuItemLayoutHelper(mi, checkIcon, arrowIcon,
+                new Rectangle(viewRect), defaultTextIconGap, acceleratorDelimiter, leftToRight, font,
+                acceleratorFont, useCheckAndArrow, propertyPrefix);
+        // The helper may have widened the shared columns. Record them afterwards so the entry stays valid
+        // until a sibling changes them again.
+        entry = new Entry(key, cache.sharedValues(), helper);
+        if (preferredSizeLayout) {
+            itemEntries.preferredSizeEntry = entry;
+        } else {
+            itemEntries.paintEntry = entry;
+        }
+        return helper;
+    }
+
+    static void invalidate(final JMenuItem mi) {
+        JComponent parent = com.intellij.util.ui.MenuItemLayoutHelper.getMenuItemParent(mi);
+        if (parent == null) return;
+        Object cache = parent.getClientProperty(KEY_CACHE);
+        if (cache instanceof MenuItemLayoutCache) {
+            ((MenuItemLayoutCache) cache).entries.remove(mi);
+        }
+    }
+
+    private static MenuItemLayoutCache getCache(final JComponent parent) {
+        Object cache = parent.getClientProperty(KEY_CACHE);
+        if (cache instanceof MenuItemLayoutCache) return (MenuItemLayoutCache) cache;
+        MenuItemLayoutCache layoutCache = new MenuItemLayoutCache(parent);
+        parent.addContainerListener(layoutCache);
+        parent.putClientProperty(KEY_CACHE, layoutCache);
+        return layoutCache;
+    }
+
+    private int[] sharedValues() {
+        int[] values = new int[SHARED_KEYS.length];
+        for (int i = 0; i < values.length; i++) {
+            Object value = parent.getClientProperty(SHARED_KEYS[i]);
+            values[i] = value instanceof Integer ? (Integer) value : 0;
+        }
+        return values;
+    }
+
+    private void reset() {
+        entries.clear();
+        com.intellij.util.ui.MenuItemLayoutHelper.clearUsedClientProperties(parent);
+    }
+
+    @Override
+    public void componentAdded(final ContainerEvent e) {
+        reset();
+    }
+
+    @Override
+    public void componentRemoved(final ContainerEvent e) {
+        reset();
+    }
+
+    private static final class Entries {
+        private Entry preferredSizeEntry;
+        private Entry paintEntry;
+    }
+
+    private static final class Entry {
+        private final LayoutKey key;
+        private final int[] sharedValues;
+        private final MenuItemLayoutHelper helper;
+
+        private Entry(final LayoutKey key, final int[] sharedValues, final MenuItemLayoutHelper helper) {
+            this.key = key;
+            this.sharedValues = sharedValues;
+            this.helper = helper;
+        }
+    }
+
+    private static final class LayoutKey {
+        private final String text;
+        private final Icon icon;
+        private final KeyStroke accelerator;
+        private final Object htmlView;
+        private final Insets margin;
+        private final Icon checkIcon;
+        private final Icon arrowIcon;
+        private final Rectangle viewRect;
+        private final int[] layoutValues;
+        private final String acceleratorDelimiter;
+        private final Font font;
+        private final Font acceleratorFont;
+        private final String propertyPrefix;
+
+        private LayoutKey(final JMenuItem mi, final Icon checkIcon, final Icon arrowIcon, final Rectangle viewRect,
+                final int gap, final String acceleratorDelimiter, final boolean leftToRight, final Font font,
+                final Font acceleratorFont, final boolean useCheckAndArrow, final String propertyPrefix) {
+            this.text = mi.getText();
+            this.icon = mi.getIcon();
+            this.accelerator = mi.getAccelerator();
+            this.htmlView = mi.getClientProperty("html");
+            this.margin = mi.getMargin();
+            this.checkIcon = checkIcon;
+            this.arrowIcon = arrowIcon;
+            this.viewRect = new Rectangle(viewRect);
+            this.acceleratorDelimiter = acceleratorDelimiter;
+            this.font = font;
+            this.acceleratorFont = acceleratorFont;
+            this.propertyPrefix = propertyPrefix;
+            this.layoutValues = new int[] {
+                    gap, leftToRight ? 1 : 0, useCheckAndArrow ? 1 : 0,
+                    mi.getVerticalAlignment(), mi.getHorizontalAlignment(),
+                    mi.getVerticalTextPosition(), mi.getHorizontalTextPosition(),
+                    iconWidth(icon), iconHeight(icon),
+                    iconWidth(checkIcon), iconHeight(checkIcon),
+                    iconWidth(arrowIcon), iconHeight(arrowIcon)};
+        }
+
+        private static int iconWidth(final Icon icon) {
+            return icon != null ? icon.getIconWidth() : -1;
+        }
+
+        private static int iconHeight(final Icon icon) {
+            return icon != null ? icon.getIconHeight() : -1;
+        }
+
+        @Override
+        @SuppressWarnings("ReferenceEquality")
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof LayoutKey)) return false;
+            LayoutKey that = (LayoutKey) o;
+            return icon == that.icon
+                    && checkIcon == that.checkIcon
+                    && arrowIcon == that.arrowIcon
+                    && htmlView == that.htmlView
+                    && Arrays.equals(layoutValues, that.layoutValues)
+                    && Objects.equals(text, that.text)
+                    && Objects.equals(accelerator, that.accelerator)
+                    && Objects.equals(margin, that.margin)
+                    && Objects.equals(viewRect, that.viewRect)
+                    && Objects.equals(acceleratorDelimiter, that.acceleratorDelimiter)
+                    && Objects.equals(font, that.font)
+                    && Objects.equals(acceleratorFont, that.acceleratorFont)
+                    && Objects.equals(propertyPrefix, that.propertyPrefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, accelerator, viewRect, font);
+        }
+    }
+}
@@ -46,13 +46,12 @@ public interface MenuItemLayoutHelper {
             final Rectangle viewRect, final int defaultTextIconGap,
             final String acceleratorDelimiter, final boolean leftToRight,
             final Font font, final Font acceleratorFont, final String propertyPrefix) {
-        boolean useCheckAndArrow = com.intellij.util.ui.MenuItemLayoutHelper.useCheckAndArrow(mi);
-        return new com.intellij.util.ui.MenuItemLayoutHelper(mi, checkIcon, arrowIcon, viewRect, defaultTextIconGap,
-                acceleratorDelimiter, leftToRight, font,
-                acceleratorFont, useCheckAndArrow, propertyPrefix);
+        return MenuItemLayoutCache.getLayoutHelper(mi, checkIcon, arrowIcon, viewRect, defaultTextIconGap,
+                acceleratorDelimiter, leftToRight, font, acceleratorFont, propertyPrefix);
     }
 
     static void uninstall(final JMenuItem mi) {
+        MenuItemLayoutCache.invalidate(mi);
         com.intellij.util.ui.MenuItemLayoutHelper.clearUsedParentClientProperties(mi);
     }
 
@@ -64,6 +64,7 @@ public class MenuItemLayoutHelper implements com.github.weisj.darklaf.compatibil
     private RectSize checkSize;
     private RectSize arrowSize;
     private RectSize labelSize;
+    private LayoutResult layoutResult;
 
     protected MenuItemLayoutHelper() {}
 
@@ -76,6 +77,7 @@ public class MenuItemLayoutHelper implements com.github.weisj.darklaf.compatibil
 
     protected void reset(JMenuItem mi, Icon checkIcon, Icon arrowIcon, Rectangle viewRect, int gap, String accDelimiter,
             boolean isLeftToRight, Font font, Font accFont, boolean useCheckAndArrow, String propertyPrefix) {
+        this.layoutResult = null;
         this.mi = mi;
         this.miParent = getMenuItemParent(mi);
         this.accText = this.getAccText(accDelimiter);
@@ -361,6 +363,13 @@ public class MenuItemLayoutHelper implements com.github.weisj.darklaf.compatibil
 
     @Override
     public LayoutResult layoutMenuItem() {
+        if (this.layoutResult == null) {
+            this.layoutResult = this.computeLayout();
+        }
+        return this.layoutResult.copy();
+    }
+
+    private LayoutResult computeLayout() {
         LayoutResult lr = this.createLayoutResult();
         this.prepareForLayout(lr);
         if (this.isColumnLayout()) {
@@ -1055,6 +1064,12 @@ public class MenuItemLayoutHelper implements com.github.weisj.darklaf.compatibil
             this.labelRect = labelRect;
         }
 
+        private LayoutResult copy() {
+            return new LayoutResult(new Rectangle(this.iconRect), new Rectangle(this.textRect),
+                    new Rectangle(this.accRect), new Rectangle(this.checkRect), new Rectangle(this.arrowRect),
+                    new Rectangle(this.labelRect));
+        }
+
         @Override
         public Rectangle getIconRect() {
             return this.iconRect;
@@ -42,6 +42,8 @@ dependencies {
 }
 
 moduleInfo {
+    // jdk.jfr is only available as a module starting with Java 11.
+    version = JavaVersion.VERSION_11
     modularExec {
         addExports.add("java.desktop/com.sun.java.swing=darklaf.core")
         openTestPackagesTo("darklaf.properties")
@@ -87,6 +89,57 @@ val makeDocumentation by tasks.registering(JavaExec::class) {
     classpath(sourceSets.main.get().runtimeClasspath, sourceSets.test.get().runtimeClasspath)
 }
 
+val bundleIconAtlas by props(false)
+
+val generateIconAtlas by tasks.registering(JavaExec::class) {
+    group = "Build"
+    description = "Pre-renders the iconset for all bundled themes into an icon atlas"
+    dependsOn(tasks.testClasses)
+
+    val iconsetDir = project(":darklaf-iconset").file("src/main/resources/com/github/weisj/darklaf/iconset")
+    val atlasDir = project.buildDir.resolve("generated/iconAtlas")
+    inputs.dir(iconsetDir)
+    outputs.dir(atlasDir)
+
+    mainClass.set("com.github.weisj.darklaf.core.misc.GenerateIconAtlas")
+    classpath(sourceSets.main.get().runtimeClasspath, sourceSets.test.get().runtimeClasspath)
+    systemProperty("java.awt.headless", "true")
+    args(atlasDir.resolve("META-INF/darklaf/icon-atlas").absolutePath, iconsetDir.absolutePath)
+}
+
+if (bundleIconAtlas) {
+    tasks.jar {
+        from(generateIconAtlas)
+    }
+}
+
+val renderBenchmarkGolden by props("")
+
+val renderBenchmark by tasks.registering(JavaExec::class) {
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    description = "Renders all component demos offscreen for every bundled theme and compares them to golden images"
+    dependsOn(tasks.testClasses)
+
+    val outputDir = project.buildDir.resolve("renderBenchmark")
+    outputs.dir(outputDir)
+    outputs.upToDateWhen { false }
+
+    mainClass.set("com.github.weisj.darklaf.core.misc.RenderBenchmark")
+    classpath(sourceSets.main.get().runtimeClasspath, sourceSets.test.get().runtimeClasspath)
+    systemProperty("java.awt.headless", "true")
+    val props = System.getProperties()
+    @Suppress("UNCHECKED_CAST")
+    for (e in props.propertyNames() as `java.util`.Enumeration<String>) {
+        if (e.startsWith("benchmark.")) {
+            systemProperty(e, props.getProperty(e))
+        }
+    }
+    args(outputDir.absolutePath)
+    if (renderBenchmarkGolden.isNotEmpty()) {
+        args(file(renderBenchmarkGolden).absolutePath)
+    }
+}
+
 abstract class DemoTask : JavaExec() {
     init {
         setMainClass("com.github.weisj.darklaf.ui.DemoLauncher")
@@ -112,6 +112,10 @@ public class Customization {
         String KEY_RENDER_BOOLEAN_AS_CHECKBOX = "JTable.renderBooleanAsCheckBox";
         @Key(valueType = String.class, detail = "Render type values specified in Customization.Cell")
         String KEY_BOOLEAN_RENDER_TYPE = "JTable.booleanRenderType";
+        @Key(valueType = Boolean.class, defaultValue = "false",
+                detail = "Cache rendered rows as images. Only use if the renderers solely depend on the model. "
+                        + "Changes to the state of a renderer aren't noticed, replace the renderer instead")
+        String KEY_ROW_SNAPSHOT_CACHE = "JTable.rowSnapshotCache";
     }
 
     public interface Tree {
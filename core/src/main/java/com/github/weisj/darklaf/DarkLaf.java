@@ -33,6 +33,8 @@ import com.github.weisj.darklaf.platform.SystemInfo;
 import com.github.weisj.darklaf.task.*;
 import com.github.weisj.darklaf.theme.Theme;
 import com.github.weisj.darklaf.theme.laf.ThemedLookAndFeel;
+import com.github.weisj.darklaf.trace.ThemeInstallTrace;
+import com.github.weisj.darklaf.trace.internal.ThemeInstallTracer;
 import com.github.weisj.darklaf.ui.DarkPopupFactory;
 import com.github.weisj.darklaf.ui.popupmenu.MouseGrabberUtil;
 import com.github.weisj.darklaf.util.LogUtil;
@@ -62,6 +64,7 @@ public class DarkLaf extends ThemedLookAndFeel {
             new SystemDefaultsInitTask(),
             new PlatformDefaultsInitTask(),
             new UserInitTask(),
+            new IconAtlasInitTask(),
             new UtilityDefaultsInitTask(),
             new RemovePropertiesTask("tmp")
     };
@@ -160,13 +163,17 @@ public class DarkLaf extends ThemedLookAndFeel {
     @Override
     public UIDefaults getDefaults() {
         final UIDefaults baseDefaults = base.getDefaults();
-        final UIDefaults defaults = new UIDefaultsWithResourceBundleCache(DEFAULTS_CAPACITY, DEFAULTS_LOAD_FACTOR);
+        final UIDefaultsWithResourceBundleCache defaults =
+                new UIDefaultsWithResourceBundleCache(DEFAULTS_CAPACITY, DEFAULTS_LOAD_FACTOR);
         defaults.putAll(baseDefaults);
 
         final Theme currentTheme = getTheme();
         for (DefaultsInitTask task : INIT_TASKS) {
             if (task.onlyDuringInstallation() && !isInitialized) continue;
+            ThemeInstallTracer.Span span = ThemeInstallTracer.startTask(task, ThemeInstallTrace.TaskKind.INIT);
+            int modificationCount = defaults.getModificationCount();
             task.run(currentTheme, defaults);
+            span.finish(defaults.getModificationCount() - modificationCount);
         }
         if (isInitialized) {
             postInstall();
@@ -20,6 +20,8 @@
  */
 package com.github.weisj.darklaf;
 
+import java.awt.Component;
+import java.awt.Container;
 import java.awt.Window;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
@@ -33,34 +35,57 @@ import com.github.weisj.darklaf.theme.Theme;
 import com.github.weisj.darklaf.theme.event.ThemeChangeEvent;
 import com.github.weisj.darklaf.theme.event.ThemeChangeListener;
 import com.github.weisj.darklaf.theme.event.ThemeEventSupport;
+import com.github.weisj.darklaf.trace.internal.ThemeInstallTracer;
+import com.github.weisj.darklaf.ui.util.UIStyleCache;
 import com.github.weisj.darklaf.util.LogUtil;
+import com.github.weisj.darklaf.util.PropertyUtil;
 
 final class LafInstaller {
 
     private static final Logger LOGGER = LogUtil.getLogger(LafManager.class);
+    private static final String PROGRESSIVE_LAF_UPDATE = DarkLaf.SYSTEM_PROPERTY_PREFIX + "progressiveLafUpdate";
     private static final AtomicBoolean isInstalling = new AtomicBoolean(false);
     private static final ThemeEventSupport<ThemeChangeEvent, ThemeChangeListener> eventSupport =
             new ThemeEventSupport<>();
+    private boolean progressiveUpdate = PropertyUtil.getSystemFlag(PROGRESSIVE_LAF_UPDATE, false);
+    private ProgressiveLafUpdater progressiveUpdater;
 
     void install(final Theme theme) {
         if (!isInstalling.compareAndSet(false, true)) {
             throw new IllegalStateException("Can't install Laf while installation is in progress");
         }
+        ThemeInstallTracer.begin(theme);
         try {
             LOGGER.fine(() -> "Installing theme " + theme);
             LafTransition transition = LafTransition.showSnapshot();
             UIManager.setLookAndFeel(new DarkLaf(theme, false, true));
+            UIStyleCache.invalidate();
             updateLaf();
             SwingUtilities.invokeLater(transition::runTransition);
             notifyThemeInstalled(theme);
         } catch (final UnsupportedLookAndFeelException e) {
             LOGGER.log(Level.SEVERE, "Could not install LaF", e);
         } finally {
+            ThemeInstallTracer.finish();
             isInstalling.set(false);
         }
     }
 
+    void setProgressiveUpdateEnabled(final boolean enabled) {
+        progressiveUpdate = enabled;
+    }
+
+    boolean isProgressiveUpdateEnabled() {
+        return progressiveUpdate;
+    }
+
     void updateLaf() {
+        if (progressiveUpdate) {
+            if (progressiveUpdater == null) progressiveUpdater = new ProgressiveLafUpdater();
+            progressiveUpdater.update();
+            return;
+        }
+        if (progressiveUpdater != null) progressiveUpdater.cancel();
         for (final Window w : Window.getWindows()) {
             updateLafRecursively(w);
         }
@@ -70,7 +95,19 @@ final class LafInstaller {
         for (final Window childWindow : window.getOwnedWindows()) {
             updateLafRecursively(childWindow);
         }
+        ThemeInstallTracer.Span span = ThemeInstallTracer.startWindowUpdate(window);
         SwingUtilities.updateComponentTreeUI(window);
+        span.finish(ThemeInstallTracer.isRecording() ? countComponents(window) : 0);
+    }
+
+    private static int countComponents(final Component c) {
+        int count = 1;
+        if (c instanceof Container) {
+            for (Component child : ((Container) c).getComponents()) {
+                count += countComponents(child);
+            }
+        }
+        return count;
     }
 
     void notifyThemeInstalled(final Theme newTheme) {
@@ -39,6 +39,8 @@ import com.github.weisj.darklaf.theme.event.*;
 import com.github.weisj.darklaf.theme.info.ThemeProvider;
 import com.github.weisj.darklaf.theme.laf.ThemedLookAndFeel;
 import com.github.weisj.darklaf.theme.spec.PreferredThemeStyle;
+import com.github.weisj.darklaf.trace.ThemeInstallTraceListener;
+import com.github.weisj.darklaf.trace.internal.ThemeInstallTracer;
 import com.github.weisj.darklaf.util.LogUtil;
 
 /**
@@ -119,6 +121,30 @@ public final class LafManager {
         }
     }
 
+    /**
+     * Returns whether the component trees are updated progressively after a theme has been installed.
+     *
+     * @return true if updates are progressive.
+     * @see #setProgressiveUpdateEnabled(boolean)
+     */
+    public static boolean isProgressiveUpdateEnabled() {
+        return installer.isProgressiveUpdateEnabled();
+    }
+
+    /**
+     * Sets whether the component trees should be updated progressively after a theme has been installed. If enabled
+     * only the windows which are showing are updated immediately, starting with the active window. Components which
+     * aren't visible and windows which aren't showing are updated in small chunks afterwards or as soon as they are
+     * shown. This bounds the time the event dispatch thread is blocked by the visible part of the ui.
+     * <p>
+     * By default, this is false unless the system property {@code darklaf.progressiveLafUpdate} is set to true.
+     *
+     * @param enabled true if updates should be progressive.
+     */
+    public static void setProgressiveUpdateEnabled(final boolean enabled) {
+        installer.setProgressiveUpdateEnabled(enabled);
+    }
+
     /**
      * Enabled whether changes in the preferred theme style should be reported to
      * {@link ThemePreferenceListener}s. On some platforms this setting may do nothing.
@@ -189,6 +215,28 @@ public final class LafManager {
         installer.removeThemeChangeListener(listener);
     }
 
+    /**
+     * Adds a {@link ThemeInstallTraceListener}. The listener will receive a breakdown of the time spent in
+     * the individual steps each time a theme is installed.
+     * <p>
+     * The same information is also emitted as JFR events in the category "Darklaf/Theme" if running on a jvm
+     * which supports them.
+     *
+     * @param listener the listener to add.
+     */
+    public static void addThemeInstallTraceListener(final ThemeInstallTraceListener listener) {
+        ThemeInstallTracer.addListener(listener);
+    }
+
+    /**
+     * Removes a {@link ThemeInstallTraceListener}.
+     *
+     * @param listener the listener to remove.
+     */
+    public static void removeThemeInstallTraceListener(final ThemeInstallTraceListener listener) {
+        ThemeInstallTracer.removeListener(listener);
+    }
+
     /**
      * Gets the preferred theme style. If theme preference change reporting is enabled this may use
      * native os settings to determine these values.
@@ -23,13 +23,20 @@ package com.github.weisj.darklaf;
 
 
 import java.awt.AlphaComposite;
-import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Image;
+import java.awt.GraphicsConfiguration;
+import java.awt.Point;
 import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
 import java.awt.Window;
+import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.swing.*;
@@ -38,12 +45,25 @@ import com.github.weisj.darklaf.graphics.Animator;
 import com.github.weisj.darklaf.graphics.DefaultInterpolator;
 import com.github.weisj.darklaf.util.ImageUtil;
 import com.github.weisj.darklaf.util.PropertyUtil;
-import com.github.weisj.darklaf.util.graphics.ImagePainter;
+import com.github.weisj.darklaf.util.Scale;
+import com.github.weisj.darklaf.util.graphics.GraphicsUtil;
 import com.github.weisj.darklaf.util.value.SharedNonNull;
 
 class LafTransition {
 
     private static final String ANIMATED_LAF_CHANGE = DarkLaf.SYSTEM_PROPERTY_PREFIX + "animatedLafChange";
+    private static final String FULL_RESOLUTION_SNAPSHOTS = ANIMATED_LAF_CHANGE + ".fullResolution";
+    /*
+     * Upper bound for the number of pixels captured by a single transition. If the visible parts of all windows
+     * exceed it the snapshots are downsampled.
+     */
+    private static final long MAX_SNAPSHOT_PIXELS = 3840L * 2160L;
+    private static final int MAX_POOLED_BUFFERS = 4;
+    /*
+     * Snapshot buffers of previous transitions. Windows usually don't change their size between theme changes,
+     * so their buffers can be reused.
+     */
+    private static final List<SoftReference<BufferedImage>> bufferPool = new ArrayList<>();
 
     private LafTransition() {}
 
@@ -57,14 +77,43 @@ class LafTransition {
         // Do nothing.
     }
 
+    private static BufferedImage obtainBuffer(final GraphicsConfiguration gc, final int width, final int height,
+            final boolean opaque) {
+        int transparency = opaque ? Transparency.OPAQUE : Transparency.TRANSLUCENT;
+        synchronized (bufferPool) {
+            Iterator<SoftReference<BufferedImage>> it = bufferPool.iterator();
+            while (it.hasNext()) {
+                BufferedImage image = it.next().get();
+                if (image == null) {
+                    it.remove();
+                } else if (image.getWidth() == width && image.getHeight() == height
+                        && image.getTransparency() == transparency) {
+                    it.remove();
+                    return image;
+                }
+            }
+        }
+        return opaque
+                ? ImageUtil.createCompatibleImage(gc, width, height)
+                : ImageUtil.createCompatibleTranslucentImage(gc, width, height);
+    }
+
+    private static void releaseBuffer(final BufferedImage image) {
+        synchronized (bufferPool) {
+            bufferPool.removeIf(ref -> ref.get() == null);
+            if (bufferPool.size() >= MAX_POOLED_BUFFERS) bufferPool.remove(0);
+            bufferPool.add(new SoftReference<>(image));
+        }
+    }
+
     static final class AnimatedLafTransition extends LafTransition {
 
         private final Animator animator;
-        private final Map<JLayeredPane, Component> uiSnapshots;
-        private final SharedNonNull<Float> sharedAlpha;
+        private final Map<JLayeredPane, ImageLayer> uiSnapshots;
+        private final SharedNonNull<AlphaComposite> sharedComposite;
 
         private AnimatedLafTransition() {
-            sharedAlpha = new SharedNonNull<>(1f);
+            sharedComposite = new SharedNonNull<>(AlphaComposite.SrcOver);
             animator = new TransitionAnimator();
             uiSnapshots = new LinkedHashMap<>();
             Window[] windows = Window.getWindows();
@@ -72,41 +121,72 @@ class LafTransition {
                 animator.setEnabled(false);
                 return;
             }
+            boolean fullResolution = PropertyUtil.getSystemFlag(FULL_RESOLUTION_SNAPSHOTS, false);
+            List<Capture> captures = new ArrayList<>();
+            long pixels = 0;
             for (Window window : windows) {
                 if (window instanceof RootPaneContainer && window.isShowing()) {
                     RootPaneContainer rootPaneContainer = (RootPaneContainer) window;
                     JRootPane rootPane = rootPaneContainer.getRootPane();
                     if (rootPane.getWidth() == 0 || rootPane.getHeight() == 0) continue;
-                    Image img = ImageUtil.scaledImageFromComponent(rootPaneContainer.getRootPane());
-                    JLayeredPane layeredPane = rootPaneContainer.getLayeredPane();
-                    JComponent imageLayer = new ImageLayer(layeredPane, img, sharedAlpha);
-                    imageLayer.setSize(layeredPane.getSize());
-                    layeredPane.add(imageLayer, JLayeredPane.DRAG_LAYER);
-                    uiSnapshots.put(layeredPane, imageLayer);
+                    Rectangle region = fullResolution
+                            ? new Rectangle(0, 0, rootPane.getWidth(), rootPane.getHeight())
+                            : visibleRegion(rootPane);
+                    if (region.isEmpty()) continue;
+                    Capture capture = new Capture(rootPaneContainer, region);
+                    pixels += capture.pixelCount();
+                    captures.add(capture);
                 }
             }
+            double downsample = 1;
+            if (!fullResolution && pixels > MAX_SNAPSHOT_PIXELS) {
+                downsample = Math.sqrt((double) MAX_SNAPSHOT_PIXELS / pixels);
+            }
+            for (Capture capture : captures) {
+                JLayeredPane layeredPane = capture.container.getLayeredPane();
+                ImageLayer imageLayer = capture.createLayer(downsample, sharedComposite);
+                imageLayer.setSize(layeredPane.getSize());
+                layeredPane.add(imageLayer, JLayeredPane.DRAG_LAYER);
+                uiSnapshots.put(layeredPane, imageLayer);
+            }
             doPaint();
         }
 
+        /*
+         * The part of the root pane which is inside the bounds of its screen.
+         */
+        private static Rectangle visibleRegion(final JRootPane rootPane) {
+            Rectangle region = rootPane.getVisibleRect();
+            GraphicsConfiguration gc = rootPane.getGraphicsConfiguration();
+            if (gc != null) {
+                Rectangle screen = gc.getBounds();
+                Point location = rootPane.getLocationOnScreen();
+                screen.translate(-location.x, -location.y);
+                region = region.intersection(screen);
+            }
+            return region;
+        }
+
         @Override
         void runTransition() {
             animator.play();
         }
 
         private void disposeSnapshots() {
-            for (Map.Entry<JLayeredPane, Component> entry : uiSnapshots.entrySet()) {
+            for (Map.Entry<JLayeredPane, ImageLayer> entry : uiSnapshots.entrySet()) {
                 entry.getKey().remove(entry.getValue());
                 entry.getKey().revalidate();
-                entry.getKey().repaint();
+                entry.getKey().repaint(entry.getValue().region);
+                releaseBuffer(entry.getValue().image);
             }
             uiSnapshots.clear();
         }
 
         private void doPaint() {
-            for (Map.Entry<JLayeredPane, Component> entry : uiSnapshots.entrySet()) {
+            for (Map.Entry<JLayeredPane, ImageLayer> entry : uiSnapshots.entrySet()) {
                 if (entry.getKey().isShowing()) {
-                    entry.getValue().revalidate();
-                    entry.getValue().repaint();
+                    ImageLayer layer = entry.getValue();
+                    layer.repaint(layer.region);
                 }
             }
         }
@@ -119,7 +199,7 @@ class LafTransition {
 
             @Override
             public void paintAnimationFrame(float fraction) {
-                sharedAlpha.set(1f - fraction);
+                sharedComposite.set(AlphaComposite.SrcOver.derive(1f - fraction));
                 doPaint();
             }
 
@@ -136,16 +216,69 @@ class LafTransition {
         }
     }
 
+    private static final class Capture {
+        private final RootPaneContainer container;
+        private final Rectangle region;
+        private final double scaleX;
+        private final double scaleY;
+
+        private Capture(final RootPaneContainer container, final Rectangle region) {
+            this.container = container;
+            this.region = region;
+            GraphicsConfiguration gc = container.getRootPane().getGraphicsConfiguration();
+            this.scaleX = Scale.getScaleX(gc);
+            this.scaleY = Scale.getScaleY(gc);
+        }
+
+        private long pixelCount() {
+            return (long) Math.ceil(region.width * scaleX) * (long) Math.ceil(region.height * scaleY);
+        }
+
+        private ImageLayer createLayer(final double downsample, final SharedNonNull<AlphaComposite> composite) {
+            JRootPane rootPane = container.getRootPane();
+            double sx = scaleX * downsample;
+            double sy = scaleY * downsample;
+            int width = Math.max(1, (int) Math.ceil(region.width * sx));
+            int height = Math.max(1, (int) Math.ceil(region.height * sy));
+            boolean opaque = rootPane.isOpaque();
+            BufferedImage image = obtainBuffer(rootPane.getGraphicsConfiguration(), width, height, opaque);
+
+            Graphics2D g = image.createGraphics();
+            try {
+                if (!opaque) {
+                    g.setComposite(AlphaComposite.Clear);
+                    g.fillRect(0, 0, width, height);
+                    g.setComposite(AlphaComposite.SrcOver);
+                }
+                GraphicsUtil.setupAntialiasing(g);
+                g.scale(sx, sy);
+                g.translate(-region.x, -region.y);
+                g.clipRect(region.x, region.y, region.width, region.height);
+                rootPane.paint(g);
+            } finally {
+                g.dispose();
+            }
+            JLayeredPane layeredPane = container.getLayeredPane();
+            Rectangle layerRegion = SwingUtilities.convertRectangle(rootPane, region, layeredPane);
+            return new ImageLayer(layeredPane, image, layerRegion, downsample < 1, composite);
+        }
+    }
+
     private static class ImageLayer extends JComponent {
 
         private final JLayeredPane layeredPane;
-        private final SharedNonNull<Float> sharedAlpha;
-        private final Image image;
+        private final SharedNonNull<AlphaComposite> sharedComposite;
+        private final BufferedImage image;
+        private final Rectangle region;
+        private final boolean interpolate;
 
-        private ImageLayer(final JLayeredPane layeredPane, final Image image, final SharedNonNull<Float> sharedAlpha) {
+        private ImageLayer(final JLayeredPane layeredPane, final BufferedImage image, final Rectangle region,
+                final boolean interpolate, final SharedNonNull<AlphaComposite> sharedComposite) {
             this.layeredPane = layeredPane;
             this.image = image;
-            this.sharedAlpha = sharedAlpha;
+            this.region = region;
+            this.interpolate = interpolate;
+            this.sharedComposite = sharedComposite;
         }
 
         @Override
@@ -153,9 +286,18 @@ class LafTransition {
 
         @Override
         public void paint(final Graphics g) {
-            Graphics gg = g.create();
-            ((Graphics2D) gg).setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, sharedAlpha.get()));
-            ImagePainter.drawImage(gg, image, 0, 0, this);
+            AlphaComposite composite = sharedComposite.get();
+            if (composite.getAlpha() <= 0) return;
+            Graphics2D g2 = (Graphics2D) g.create();
+            try {
+                g2.setComposite(composite);
+                if (interpolate) {
+                    g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                }
+                g2.drawImage(image, region.x, region.y, region.width, region.height, null);
+            } finally {
+                g2.dispose();
+            }
         }
 
         @Override
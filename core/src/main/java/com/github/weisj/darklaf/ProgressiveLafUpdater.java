@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf;
+
+import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javax.swing.*;
+
+import com.github.weisj.darklaf.trace.internal.ThemeInstallTracer;
+
+/*
+ * Updates the component trees after a theme has been installed, starting with the visible parts of the ui.
+ *
+ * Windows which are showing are updated immediately with the active window going first. Components inside them
+ * which aren't visible (e.g. non-selected tabs, cards or menus) as well as windows which aren't showing are deferred.
+ * Deferred trees are updated in time slices on subsequent turns of the event dispatch thread or as soon as they are
+ * shown, whichever happens first.
+ */
+final class ProgressiveLafUpdater {
+
+    private static final long SLICE_NANOS = 8_000_000L;
+    private static final int SLICE_DELAY = 10;
+    // Give a running LafTransition the time to finish before doing any further work.
+    private static final int INITIAL_DELAY = 200;
+
+    private final Deque<PendingTree> pending = new ArrayDeque<>();
+    private final Set<Component> deferredRoots = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Timer timer;
+
+    ProgressiveLafUpdater() {
+        timer = new Timer(SLICE_DELAY, e -> runSlice());
+        timer.setInitialDelay(INITIAL_DELAY);
+        timer.setRepeats(true);
+    }
+
+    void update() {
+        cancel();
+        List<Window> deferredWindows = new ArrayList<>();
+        for (Window window : orderedWindows()) {
+            if (window.isShowing()) {
+                ThemeInstallTracer.Span span = ThemeInstallTracer.startWindowUpdate(window);
+                int count = updateVisibleTree(window);
+                window.invalidate();
+                window.validate();
+                window.repaint();
+                span.finish(count);
+            } else {
+                deferredWindows.add(window);
+            }
+        }
+        for (Window window : deferredWindows) {
+            defer(window);
+        }
+        if (!pending.isEmpty()) timer.restart();
+    }
+
+    void cancel() {
+        timer.stop();
+        for (PendingTree tree : pending) {
+            tree.root.removeHierarchyListener(tree);
+        }
+        pending.clear();
+        deferredRoots.clear();
+    }
+
+    private static List<Window> orderedWindows() {
+        Window[] windows = Window.getWindows();
+        List<Window> ordered = new ArrayList<>(windows.length);
+        Window active = KeyboardFocusManager.getCurrentKeyboardFocusManager().getActiveWindow();
+        if (active != null) ordered.add(active);
+        for (Window window : windows) {
+            if (window != active && window.isShowing()) ordered.add(window);
+        }
+        for (Window window : windows) {
+            if (window != active && !window.isShowing()) ordered.add(window);
+        }
+        return ordered;
+    }
+
+    /*
+     * Equivalent to SwingUtilities#updateComponentTreeUI without the final validation, except that subtrees
+     * which aren't visible are deferred.
+     */
+    private int updateVisibleTree(final Component c) {
+        int count = 1;
+        if (c instanceof JComponent) {
+            JComponent jc = (JComponent) c;
+            jc.updateUI();
+            JPopupMenu popupMenu = jc.getComponentPopupMenu();
+            if (popupMenu != null) defer(popupMenu);
+        }
+        if (c instanceof JMenu) {
+            defer(((JMenu) c).getPopupMenu());
+        } else if (c instanceof Container) {
+            for (Component child : ((Container) c).getComponents()) {
+                if (child.isVisible()) {
+                    count += updateVisibleTree(child);
+                } else {
+                    defer(child);
+                }
+            }
+        }
+        return count;
+    }
+
+    private void defer(final Component root) {
+        if (!deferredRoots.add(root)) return;
+        PendingTree tree = new PendingTree(root);
+        root.addHierarchyListener(tree);
+        pending.add(tree);
+    }
+
+    private void runSlice() {
+        long deadline = System.nanoTime() + SLICE_NANOS;
+        while (!pending.isEmpty() && System.nanoTime() < deadline) {
+            PendingTree tree = pending.peek();
+            // Updating the tree may cause it to be shown, in which case it has already been completed.
+            if (tree.step() && pending.peek() == tree) {
+                pending.poll();
+                tree.finish();
+            }
+        }
+        if (pending.isEmpty()) {
+            timer.stop();
+            deferredRoots.clear();
+        }
+    }
+
+    private final class PendingTree implements HierarchyListener {
+        private final Component root;
+        private final Deque<Component> nodes = new ArrayDeque<>();
+
+        private PendingTree(final Component root) {
+            this.root = root;
+            nodes.add(root);
+        }
+
+        /*
+         * Updates the ui of the next component in this tree.
+         *
+         * Returns true if the tree has been updated completely.
+         */
+        private boolean step() {
+            Component c = nodes.poll();
+            if (c == null) return true;
+            if (c instanceof JComponent) {
+                JComponent jc = (JComponent) c;
+                jc.updateUI();
+                JPopupMenu popupMenu = jc.getComponentPopupMenu();
+                if (popupMenu != null) nodes.add(popupMenu);
+            }
+            Component[] children = null;
+            if (c instanceof JMenu) {
+                children = ((JMenu) c).getMenuComponents();
+            } else if (c instanceof Container) {
+                children = ((Container) c).getComponents();
+            }
+            if (children != null) {
+                for (Component child : children) {
+                    nodes.add(child);
+                }
+            }
+            return nodes.isEmpty();
+        }
+
+        private void finish() {
+            deferredRoots.remove(root);
+            root.removeHierarchyListener(this);
+            // Ancestors which are showing (e.g. the container of a hidden card) need to pick up the new sizes.
+            root.revalidate();
+        }
+
+        @Override
+        public void hierarchyChanged(final HierarchyEvent e) {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) == 0 || !root.isShowing()) return;
+            // The tree is about to be painted. Complete it right away.
+            while (!step()) {
+                // Continue with next component.
+            }
+            pending.remove(this);
+            deferredRoots.remove(root);
+            root.removeHierarchyListener(this);
+            root.invalidate();
+            root.validate();
+            root.repaint();
+            if (pending.isEmpty()) timer.stop();
+        }
+    }
+}
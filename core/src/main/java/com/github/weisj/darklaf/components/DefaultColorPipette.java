@@ -39,24 +39,112 @@ public class DefaultColorPipette extends ColorPipetteBase {
     private static final int DIALOG_SIZE = 50;
     private static final int MOUSE_OFF_X = 7;
     private static final int MOUSE_OFF_Y = -7;
+    private static final int CAPTURE_SIZE = 18;
+    private static final int POLLING_DELAY = 5;
+    private static final int DEFAULT_REFRESH_RATE = 60;
+    private static final int MAX_IDLE_DELAY = 500;
 
     private final Rectangle captureRect = new Rectangle();
     private final Point previousLocation = new Point();
+    private final Point lastPointerLocation = new Point();
     private final Timer timer;
     protected final Color borderColor;
     private Graphics2D zoomGraphics;
     private BufferedImage zoomImage;
+    private boolean adaptiveSampling = true;
+    private boolean sampleRequested;
+    private long lastSampleTime;
+    private int idleDelay;
 
     public DefaultColorPipette(final JComponent parent, final ColorListener colorListener) {
         super(parent, colorListener);
-        timer = TimerUtil.createNamedTimer("DefaultColorPipette", 5, e -> updatePipette());
+        timer = TimerUtil.createNamedTimer("DefaultColorPipette", POLLING_DELAY, e -> onTimerTick());
         borderColor = UIManager.getColor("ColorChooser.pipetteBorderColor");
     }
 
+    /**
+     * Returns whether adaptive sampling is enabled.
+     *
+     * @return true if adaptive sampling is enabled.
+     * @see #setAdaptiveSampling(boolean)
+     */
+    public boolean isAdaptiveSampling() {
+        return adaptiveSampling;
+    }
+
+    /**
+     * Sets whether adaptive sampling should be used. With adaptive sampling the screen is sampled at
+     * most once per frame of the display. This happens only when the pointer moves. While the pointer
+     * rests, the sampling rate decays. Otherwise the screen is polled continuously.
+     *
+     * @param adaptiveSampling true if adaptive sampling should be used.
+     */
+    public void setAdaptiveSampling(final boolean adaptiveSampling) {
+        this.adaptiveSampling = adaptiveSampling;
+        if (timer.isRunning()) startTimer();
+    }
+
     protected void updatePipette() {
         updatePipette(false);
     }
 
+    /**
+     * Request the pipette to be updated. With adaptive sampling the update is coalesced with the next
+     * frame.
+     */
+    protected void requestUpdate() {
+        if (adaptiveSampling) {
+            sampleRequested = true;
+        } else {
+            updatePipette();
+        }
+    }
+
+    private void startTimer() {
+        int delay = adaptiveSampling ? getFrameInterval() : POLLING_DELAY;
+        timer.setDelay(delay);
+        timer.setInitialDelay(delay);
+        idleDelay = delay;
+        sampleRequested = true;
+        timer.restart();
+    }
+
+    private void onTimerTick() {
+        if (!adaptiveSampling) {
+            updatePipette();
+            return;
+        }
+        PointerInfo pointerInfo = MouseInfo.getPointerInfo();
+        if (pointerInfo == null) return;
+        Point location = pointerInfo.getLocation();
+        long time = System.currentTimeMillis();
+        boolean moved = !location.equals(lastPointerLocation);
+        if (moved || sampleRequested) {
+            idleDelay = timer.getDelay();
+        } else if (time - lastSampleTime >= idleDelay) {
+            // The content below the pointer may still change, hence keep sampling at a decaying rate.
+            idleDelay = Math.min(MAX_IDLE_DELAY, 2 * idleDelay);
+        } else {
+            return;
+        }
+        lastPointerLocation.setLocation(location);
+        lastSampleTime = time;
+        sampleRequested = false;
+        updatePipette();
+    }
+
+    private int getFrameInterval() {
+        GraphicsConfiguration gc = parent.getGraphicsConfiguration();
+        GraphicsDevice device = gc != null
+                ? gc.getDevice()
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
+        int refreshRate = device.getDisplayMode().getRefreshRate();
+        if (refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN || refreshRate <= 0) {
+            refreshRate = DEFAULT_REFRESH_RATE;
+        }
+        return Math.max(1, 1000 / refreshRate);
+    }
+
     @Override
     protected Color getPixelColor(final Point location) {
         return super.getPixelColor(getHotSPot(location));
@@ -65,7 +153,7 @@ public class DefaultColorPipette extends ColorPipetteBase {
     @Override
     public Window show() {
         Window picker = super.show();
-        timer.start();
+        startTimer();
         return picker;
     }
 
@@ -83,13 +171,13 @@ public class DefaultColorPipette extends ColorPipetteBase {
             pickerWindow.addMouseListener(new MouseAdapter() {
                 @Override
                 public void mouseExited(final MouseEvent event) {
-                    updatePipette();
+                    requestUpdate();
                 }
             });
             pickerWindow.addMouseMotionListener(new MouseAdapter() {
                 @Override
                 public void mouseMoved(final MouseEvent e) {
-                    updatePipette();
+                    requestUpdate();
                 }
             });
             pickerWindow.addFocusListener(new FocusAdapter() {
@@ -129,22 +217,27 @@ public class DefaultColorPipette extends ColorPipetteBase {
         if (pickerWindow != null && pickerWindow.isShowing()) {
             Point mouseLoc = updateLocation();
             if (mouseLoc == null) return;
-            final Color c = getPixelColor(mouseLoc);
+            boolean zoom = isKeyDown() && getPressedKeyCode() == KeyEvent.VK_SHIFT;
+            final Color c;
+            if (zoom) {
+                // The capture is centered at the hot spot. Its center pixel is the picked color, hence
+                // only a single capture is needed.
+                Point hotSpot = getHotSPot(mouseLoc);
+                captureRect.setBounds(hotSpot.x - CAPTURE_SIZE / 2, hotSpot.y - CAPTURE_SIZE / 2,
+                        CAPTURE_SIZE, CAPTURE_SIZE);
+                BufferedImage capture = robot.createScreenCapture(captureRect);
+                c = new Color(capture.getRGB(capture.getWidth() / 2, capture.getHeight() / 2));
+                zoomGraphics.drawImage(capture, 0, 0, zoomImage.getWidth(), zoomImage.getHeight(), this);
+            } else {
+                c = getPixelColor(mouseLoc);
+            }
             if (!c.equals(getColor()) || !mouseLoc.equals(previousLocation) || force) {
                 setColor(c);
                 previousLocation.setLocation(mouseLoc);
-
-                if (isKeyDown() && getPressedKeyCode() == KeyEvent.VK_SHIFT) {
-                    Point p = pickerWindow.getLocationOnScreen();
-                    p.y += pickerWindow.getHeight() - 2;
-                    p.x += 2;
-                    captureRect.setBounds(p.x - 9, p.y - 9, 18, 18);
-
-                    BufferedImage capture = robot.createScreenCapture(captureRect);
-                    zoomGraphics.drawImage(capture, 0, 0, zoomImage.getWidth(), zoomImage.getHeight(), this);
-                }
                 pickerWindow.repaint();
                 notifyListener(c);
+            } else if (zoom) {
+                pickerWindow.repaint();
             }
         }
     }
@@ -21,6 +21,8 @@
 package com.github.weisj.darklaf.components;
 
 import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
 import java.util.*;
 import java.util.List;
 import java.util.function.Consumer;
@@ -30,13 +32,21 @@ import javax.swing.*;
 
 public final class DynamicUI {
 
+    private static final int DEFAULT_BATCH_SIZE = 200;
     private static final Map<Object, List<Consumer<Object>>> listeners = new WeakHashMap<>();
+    private static final HierarchyListener deferredUpdater = DynamicUI::onDeferredHierarchyChanged;
+    private static int batchSize = DEFAULT_BATCH_SIZE;
+    private static int updateGeneration;
 
     static {
         UIManager.addPropertyChangeListener(e -> {
             String key = e.getPropertyName();
             if ("lookandfeel".equalsIgnoreCase(key)) {
-                listeners.keySet().forEach(DynamicUI::updateComponent);
+                if (SwingUtilities.isEventDispatchThread()) {
+                    scheduleUpdate();
+                } else {
+                    SwingUtilities.invokeLater(DynamicUI::scheduleUpdate);
+                }
             }
         });
     }
@@ -45,6 +55,28 @@ public final class DynamicUI {
         throw new IllegalStateException("Utility class");
     }
 
+    /**
+     * Get the number of registered objects which are updated per event dispatch cycle after the look and
+     * feel has changed.
+     *
+     * @return the batch size.
+     * @see #setBatchSize(int)
+     */
+    public static int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of registered objects which are updated per event dispatch cycle after the look and
+     * feel has changed. Showing components are updated first. Components which aren't displayable are
+     * updated once they become displayable. A non positive value updates all objects at once.
+     *
+     * @param batchSize the batch size.
+     */
+    public static void setBatchSize(final int batchSize) {
+        DynamicUI.batchSize = batchSize;
+    }
+
     public static <T extends Component> T withDynamic(final T component, final Consumer<T> onUpdateUi) {
         return registerCallback(component, onUpdateUi, true);
     }
@@ -59,7 +91,7 @@ public final class DynamicUI {
                     // noinspection unchecked
                     return Collections.singletonList((Consumer<Object>) onUpdateUi);
                 }
-                List<Consumer<Object>> res = v.size() == 1 ? new ArrayList<>(v) : v;
+                List<Consumer<Object>> res = new ArrayList<>(v);
                 // noinspection unchecked
                 res.add((Consumer<Object>) onUpdateUi);
                 return res;
@@ -71,11 +103,12 @@ public final class DynamicUI {
     public static <T> void removeCallback(final T object, final Consumer<T> callback) {
         synchronized (listeners) {
             listeners.compute(object, (k, v) -> {
-                if (v == null) return null;
-                if (!v.remove(callback)) return v;
-                if (v.size() == 0) return null;
-                if (v.size() == 1) return Collections.singletonList(v.get(0));
-                return v;
+                if (v == null || !v.contains(callback)) return v;
+                if (v.size() == 1) return null;
+                List<Consumer<Object>> res = new ArrayList<>(v);
+                res.remove(callback);
+                if (res.size() == 1) return Collections.singletonList(res.get(0));
+                return res;
             });
         }
     }
@@ -92,15 +125,70 @@ public final class DynamicUI {
         return withDynamic(comp, c -> c.setToolTipText(UIManager.getString(tipTextKey, c.getLocale())));
     }
 
-    private static void updateComponent(final Object component) {
+    private static void scheduleUpdate() {
+        List<Object> showing = new ArrayList<>();
+        List<Object> hidden = new ArrayList<>();
+        List<Component> undisplayable = new ArrayList<>();
         synchronized (listeners) {
-            List<Consumer<Object>> list = listeners.get(component);
-            if (list == null) {
-                return;
-            }
-            for (Consumer<Object> action : list) {
-                action.accept(component);
+            for (Object object : listeners.keySet()) {
+                if (!(object instanceof Component)) {
+                    showing.add(object);
+                } else {
+                    Component c = (Component) object;
+                    if (c.isShowing()) {
+                        showing.add(c);
+                    } else if (c.isDisplayable()) {
+                        hidden.add(c);
+                    } else {
+                        undisplayable.add(c);
+                    }
+                }
             }
         }
+        for (Component c : undisplayable) {
+            // Avoid registering the listener multiple times if the component is still pending from an
+            // earlier update.
+            c.removeHierarchyListener(deferredUpdater);
+            c.addHierarchyListener(deferredUpdater);
+        }
+        showing.addAll(hidden);
+        int generation = ++updateGeneration;
+        updateBatch(showing, 0, generation);
+    }
+
+    private static void updateBatch(final List<Object> objects, final int start, final int generation) {
+        // A newer look and feel change supersedes the pending updates.
+        if (generation != updateGeneration) return;
+        int size = batchSize;
+        int end = size > 0 ? Math.min(objects.size(), start + size) : objects.size();
+        for (int i = start; i < end; i++) {
+            updateComponent(objects.get(i));
+        }
+        if (end < objects.size()) {
+            SwingUtilities.invokeLater(() -> updateBatch(objects, end, generation));
+        }
+    }
+
+    private static void onDeferredHierarchyChanged(final HierarchyEvent e) {
+        if ((e.getChangeFlags() & HierarchyEvent.DISPLAYABILITY_CHANGED) == 0) return;
+        Component c = e.getComponent();
+        if (!c.isDisplayable()) return;
+        c.removeHierarchyListener(deferredUpdater);
+        updateComponent(c);
+    }
+
+    private static void updateComponent(final Object component) {
+        List<Consumer<Object>> list;
+        synchronized (listeners) {
+            list = listeners.get(component);
+        }
+        if (list == null) {
+            return;
+        }
+        // Registered lists are never modified once published, hence it is safe to iterate them without
+        // holding the lock.
+        for (Consumer<Object> action : list) {
+            action.accept(component);
+        }
     }
 }
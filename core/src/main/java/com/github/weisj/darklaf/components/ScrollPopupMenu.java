@@ -20,9 +20,13 @@
  */
 package com.github.weisj.darklaf.components;
 
+import java.awt.Component;
 import java.awt.Dimension;
+import java.util.function.Consumer;
 
+import javax.swing.JMenuItem;
 import javax.swing.JPopupMenu;
+import javax.swing.ListModel;
 
 import com.github.weisj.darklaf.ui.popupmenu.DarkPopupMenuUI;
 
@@ -30,6 +34,8 @@ import com.github.weisj.darklaf.ui.popupmenu.DarkPopupMenuUI;
 public class ScrollPopupMenu extends JPopupMenu {
 
     private final Dimension maxSize = new Dimension(-1, -1);
+    private VirtualMenuContent<?> virtualContent;
+    private Object prototypeValue;
 
     {
         putClientProperty(DarkPopupMenuUI.KEY_MAX_POPUP_SIZE, maxSize);
@@ -58,4 +64,104 @@ public class ScrollPopupMenu extends JPopupMenu {
     public void setMaxWidth(final int maxWidth) {
         maxSize.width = maxWidth;
     }
+
+    /**
+     * Sets the model which provides the entries of the popup. Only the entries which are currently visible
+     * are backed by actual menu items, which get reused for different entries while the popup is scrolled.
+     * This makes it possible to display a very large number of entries. Any menu items previously added
+     * are removed. While a model is set no other components can be added to the popup, doing so throws an
+     * {@link IllegalStateException}.
+     *
+     * <p>
+     * Passing {@code null} as the model restores the default behaviour.
+     *
+     * @param model the model providing the entries.
+     * @param renderer configures the menu item for an entry.
+     * @param action the action invoked when an entry is selected.
+     * @param <T> the type of the entries.
+     */
+    public <T> void setModel(final ListModel<T> model, final ItemRenderer<? super T> renderer,
+            final Consumer<? super T> action) {
+        if (virtualContent != null) {
+            virtualContent.uninstall();
+            virtualContent = null;
+        }
+        if (model != null) {
+            virtualContent = new VirtualMenuContent<>(this, model, renderer, action);
+            virtualContent.install();
+        }
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Returns the model which provides the entries of the popup.
+     *
+     * @return the model or null if the popup displays regular menu items.
+     * @see #setModel(ListModel, ItemRenderer, Consumer)
+     */
+    public ListModel<?> getModel() {
+        return virtualContent != null ? virtualContent.getModel() : null;
+    }
+
+    /**
+     * Get the value used to compute the size of the entries if a model is set.
+     *
+     * @return the prototype value.
+     */
+    public Object getPrototypeValue() {
+        return prototypeValue;
+    }
+
+    /**
+     * Sets the value used to compute the size of the entries if a model is set. If no prototype value is
+     * set the size is computed from the first entries of the model.
+     *
+     * @param prototypeValue the prototype value.
+     */
+    public void setPrototypeValue(final Object prototypeValue) {
+        this.prototypeValue = prototypeValue;
+        if (virtualContent != null) {
+            virtualContent.invalidateRowSize();
+            revalidate();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if a model is set.
+     * @see #setModel(ListModel, ItemRenderer, Consumer)
+     */
+    @Override
+    protected void addImpl(final Component comp, final Object constraints, final int index) {
+        if (virtualContent != null && !virtualContent.isItem(comp)) {
+            throw new IllegalStateException("Can't add components to a popup menu backed by a model");
+        }
+        super.addImpl(comp, constraints, index);
+    }
+
+    @Override
+    public void updateUI() {
+        super.updateUI();
+        if (virtualContent != null) virtualContent.invalidateRowSize();
+    }
+
+    /**
+     * Configures the menu items of a {@link ScrollPopupMenu} with a model.
+     *
+     * @param <T> the type of the entries.
+     */
+    @FunctionalInterface
+    public interface ItemRenderer<T> {
+
+        /**
+         * Configure the menu item to display the given value.
+         *
+         * @param item the menu item.
+         * @param value the value to display.
+         * @param index the index of the value in the model or -1 if the value is the prototype value.
+         */
+        void configureItem(JMenuItem item, T value, int index);
+    }
 }
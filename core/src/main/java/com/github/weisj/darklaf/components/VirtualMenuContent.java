@@ -0,0 +1,271 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.components;
+
+import java.awt.*;
+import java.awt.event.HierarchyBoundsAdapter;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.KeyEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.swing.*;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.event.MenuKeyEvent;
+import javax.swing.event.MenuKeyListener;
+
+/**
+ * Layout of a {@link ScrollPopupMenu} whose entries are provided by a {@link ListModel}. Only the rows
+ * inside the visible area of the popup are backed by menu items. These are reused for different rows
+ * while the popup is scrolled.
+ *
+ * @param <T> the type of the model elements.
+ */
+class VirtualMenuContent<T> implements LayoutManager, ListDataListener, MenuKeyListener {
+
+    /*
+     * Number of entries which are measured to determine the width of the popup if no prototype value
+     * is set.
+     */
+    private static final int MEASURED_ROW_COUNT = 100;
+
+    private final ScrollPopupMenu popupMenu;
+    private final ListModel<T> model;
+    private final ScrollPopupMenu.ItemRenderer<? super T> renderer;
+    private final Consumer<? super T> action;
+    private final List<Slot> slots = new ArrayList<>();
+    private final HierarchyBoundsAdapter scrollListener = new HierarchyBoundsAdapter() {
+        @Override
+        public void ancestorMoved(final HierarchyEvent e) {
+            layoutContainer(popupMenu);
+            popupMenu.repaint();
+        }
+    };
+
+    private LayoutManager oldLayout;
+    private boolean rowSizeValid;
+    private int rowWidth;
+    private int rowHeight;
+
+    VirtualMenuContent(final ScrollPopupMenu popupMenu, final ListModel<T> model,
+            final ScrollPopupMenu.ItemRenderer<? super T> renderer, final Consumer<? super T> action) {
+        this.popupMenu = popupMenu;
+        this.model = model;
+        this.renderer = renderer;
+        this.action = action;
+    }
+
+    ListModel<T> getModel() {
+        return model;
+    }
+
+    void install() {
+        oldLayout = popupMenu.getLayout();
+        popupMenu.removeAll();
+        popupMenu.setLayout(this);
+        popupMenu.addMenuKeyListener(this);
+        popupMenu.addHierarchyBoundsListener(scrollListener);
+        model.addListDataListener(this);
+        // Make sure there always is at least one item, so the popup isn't considered empty.
+        ensureSlotCount(1);
+    }
+
+    void uninstall() {
+        model.removeListDataListener(this);
+        popupMenu.removeHierarchyBoundsListener(scrollListener);
+        popupMenu.removeMenuKeyListener(this);
+        popupMenu.removeAll();
+        slots.clear();
+        popupMenu.setLayout(oldLayout);
+    }
+
+    boolean isItem(final Component component) {
+        return component instanceof Slot && slots.contains(component);
+    }
+
+    void invalidateRowSize() {
+        rowSizeValid = false;
+    }
+
+    private void ensureSlotCount(final int count) {
+        while (slots.size() < count) {
+            Slot slot = new Slot();
+            slot.addActionListener(e -> {
+                if (slot.index >= 0 && slot.index < model.getSize()) {
+                    action.accept(model.getElementAt(slot.index));
+                }
+            });
+            slots.add(slot);
+            popupMenu.add(slot);
+        }
+    }
+
+    private void bind(final Slot slot, final int index) {
+        if (index < 0 || index >= model.getSize()) {
+            slot.index = -1;
+            return;
+        }
+        slot.index = index;
+        renderer.configureItem(slot, model.getElementAt(index), index);
+    }
+
+    private void measureRows() {
+        if (rowSizeValid) return;
+        Slot slot = slots.get(0);
+        int oldIndex = slot.index;
+        int width = 0;
+        int height = 0;
+        Object prototype = popupMenu.getPrototypeValue();
+        if (prototype != null) {
+            // noinspection unchecked
+            renderer.configureItem(slot, (T) prototype, -1);
+            Dimension size = slot.getPreferredSize();
+            width = size.width;
+            height = size.height;
+        } else {
+            int count = Math.min(model.getSize(), MEASURED_ROW_COUNT);
+            for (int i = 0; i < count; i++) {
+                bind(slot, i);
+                Dimension size = slot.getPreferredSize();
+                width = Math.max(width, size.width);
+                height = Math.max(height, size.height);
+            }
+        }
+        bind(slot, oldIndex);
+        rowWidth = width;
+        rowHeight = Math.max(1, height);
+        rowSizeValid = true;
+    }
+
+    private Rectangle getRowBounds(final int index) {
+        Insets ins = popupMenu.getInsets();
+        return new Rectangle(ins.left, ins.top + index * rowHeight,
+                popupMenu.getWidth() - ins.left - ins.right, rowHeight);
+    }
+
+    private Slot getSlot(final int index) {
+        for (Slot slot : slots) {
+            if (slot.index == index && slot.isVisible()) return slot;
+        }
+        return null;
+    }
+
+    @Override
+    public void addLayoutComponent(final String name, final Component comp) {}
+
+    @Override
+    public void removeLayoutComponent(final Component comp) {}
+
+    @Override
+    public Dimension preferredLayoutSize(final Container parent) {
+        measureRows();
+        Insets ins = parent.getInsets();
+        return new Dimension(rowWidth + ins.left + ins.right, rowHeight * model.getSize() + ins.top + ins.bottom);
+    }
+
+    @Override
+    public Dimension minimumLayoutSize(final Container parent) {
+        return preferredLayoutSize(parent);
+    }
+
+    @Override
+    public void layoutContainer(final Container parent) {
+        measureRows();
+        Insets ins = popupMenu.getInsets();
+        int size = model.getSize();
+        Rectangle visible = popupMenu.getVisibleRect();
+        int first = Math.max(0, Math.min(size - 1, (visible.y - ins.top) / rowHeight));
+        int last = Math.max(first, Math.min(size - 1, (visible.y + visible.height - ins.top - 1) / rowHeight));
+        int count = size == 0 ? 0 : last - first + 1;
+        ensureSlotCount(count);
+        for (int i = 0; i < slots.size(); i++) {
+            Slot slot = slots.get(i);
+            if (i < count) {
+                bind(slot, first + i);
+                slot.setBounds(getRowBounds(first + i));
+                if (!slot.isVisible()) slot.setVisible(true);
+            } else {
+                slot.index = -1;
+                if (slot.isVisible()) slot.setVisible(false);
+            }
+        }
+    }
+
+    @Override
+    public void intervalAdded(final ListDataEvent e) {
+        contentsChanged(e);
+    }
+
+    @Override
+    public void intervalRemoved(final ListDataEvent e) {
+        contentsChanged(e);
+    }
+
+    @Override
+    public void contentsChanged(final ListDataEvent e) {
+        if (popupMenu.getPrototypeValue() == null && Math.min(e.getIndex0(), e.getIndex1()) < MEASURED_ROW_COUNT) {
+            rowSizeValid = false;
+        }
+        popupMenu.revalidate();
+        popupMenu.repaint();
+    }
+
+    @Override
+    public void menuKeyTyped(final MenuKeyEvent e) {}
+
+    @Override
+    public void menuKeyPressed(final MenuKeyEvent e) {
+        int direction;
+        if (e.getKeyCode() == KeyEvent.VK_DOWN || e.getKeyCode() == KeyEvent.VK_KP_DOWN) {
+            direction = 1;
+        } else if (e.getKeyCode() == KeyEvent.VK_UP || e.getKeyCode() == KeyEvent.VK_KP_UP) {
+            direction = -1;
+        } else {
+            return;
+        }
+        MenuSelectionManager manager = e.getMenuSelectionManager();
+        MenuElement[] path = manager.getSelectedPath();
+        if (path.length == 0 || !(path[path.length - 1] instanceof Slot)) return;
+        Slot selected = (Slot) path[path.length - 1];
+        int size = model.getSize();
+        if (selected.getParent() != popupMenu || selected.index < 0 || size == 0) return;
+        int target = (selected.index + direction + size) % size;
+        // The default navigation only knows about the rows currently backed by an item. Scroll the target
+        // row into view and select it ourselves.
+        popupMenu.scrollRectToVisible(getRowBounds(target));
+        layoutContainer(popupMenu);
+        Slot targetSlot = getSlot(target);
+        if (targetSlot == null || !targetSlot.isEnabled()) return;
+        MenuElement[] newPath = path.clone();
+        newPath[newPath.length - 1] = targetSlot;
+        manager.setSelectedPath(newPath);
+        e.consume();
+    }
+
+    @Override
+    public void menuKeyReleased(final MenuKeyEvent e) {}
+
+    private static final class Slot extends JMenuItem {
+        private int index = -1;
+    }
+}
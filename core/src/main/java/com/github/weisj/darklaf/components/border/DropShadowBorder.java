@@ -31,9 +31,9 @@ import java.util.Objects;
 
 import javax.swing.border.Border;
 
-import com.github.weisj.darklaf.util.ColorUtil;
 import com.github.weisj.darklaf.util.Disposable;
 import com.github.weisj.darklaf.util.ImageUtil;
+import com.github.weisj.darklaf.util.cache.DerivedColorCache;
 
 /**
  * Implements a DropShadow for components. In general, the DropShadowBorder will work with any
@@ -175,7 +175,7 @@ public class DropShadowBorder implements Border, Serializable {
             Graphics2D buffer = (Graphics2D) image.getGraphics();
 
             try (Disposable ignored = buffer::dispose) {
-                buffer.setPaint(ColorUtil.toAlpha(shadowColor, shadowOpacity));
+                buffer.setPaint(DerivedColorCache.withAlpha(shadowColor, shadowOpacity));
                 double offset = (imageSize - rectWidth) / 2.0;
                 buffer.translate(offset, offset);
                 buffer.fill(rect);
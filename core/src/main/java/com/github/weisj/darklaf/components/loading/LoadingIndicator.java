@@ -20,31 +20,41 @@
  */
 package com.github.weisj.darklaf.components.loading;
 
+import java.awt.*;
+import java.awt.event.HierarchyEvent;
+
 import javax.swing.*;
 
-import com.github.weisj.darklaf.components.RotatableIconAnimator;
 import com.github.weisj.darklaf.properties.icons.EmptyIcon;
-import com.github.weisj.darklaf.properties.icons.RotatableIcon;
 import com.github.weisj.darklaf.properties.icons.TwoIcon;
+import com.github.weisj.darklaf.util.PropertyKey;
+import com.github.weisj.darklaf.util.Scale;
 
-/** Label that functions as an loading indicator. */
+/**
+ * Label that functions as an loading indicator. All running indicators share their rotation frames
+ * and advance in sync. Indicators which aren't enabled or showing don't take part in the animation.
+ */
 public class LoadingIndicator extends JLabel {
 
-    private final RotatableIcon loadIcon;
+    private final Icon loadIcon;
     private final Icon pausedIcon;
     private final Icon emptyIcon;
     private final TwoIcon displayIcon;
-    private final RotatableIconAnimator animator;
     private boolean running;
 
     public LoadingIndicator(final String text, final Icon icon, final int horizontalAlignment) {
         super(text, icon, horizontalAlignment);
-        loadIcon = new RotatableIcon(UIManager.getIcon("LoadIndicator.stepWorkingIcon"));
+        loadIcon = new SpriteIcon(UIManager.getIcon("LoadIndicator.stepWorkingIcon"));
         pausedIcon = UIManager.getIcon("LoadIndicator.stepPassiveIcon");
         emptyIcon = EmptyIcon.create(loadIcon);
         displayIcon = new TwoIcon(loadIcon, null);
-        animator = new RotatableIconAnimator(8, loadIcon, this);
         displayIcon.setIconGap(getIconTextGap());
+        addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0) {
+                updateAnimationState();
+            }
+        });
+        addPropertyChangeListener(PropertyKey.ENABLED, e -> updateAnimationState());
     }
 
     public LoadingIndicator(final String text, final int horizontalAlignment) {
@@ -74,23 +84,27 @@ public class LoadingIndicator extends JLabel {
      */
     public void setRunning(final boolean running) {
         this.running = running;
-        setAnimatorState(running);
+        updateAnimationState();
     }
 
-    private void setAnimatorState(final boolean running) {
-        if (running == animator.isRunning()) return;
-        if (running) {
-            animator.resume();
+    private void updateAnimationState() {
+        boolean animate = running && isEnabled() && isShowing();
+        if (animate == LoadingIndicatorPhase.isRegistered(this)) return;
+        if (animate) {
+            LoadingIndicatorPhase.register(this);
         } else {
-            animator.suspend();
+            LoadingIndicatorPhase.unregister(this);
         }
         repaint();
     }
 
-    @Override
-    public void setEnabled(final boolean enabled) {
-        super.setEnabled(enabled);
-        setAnimatorState(isRunning());
+    void repaintLoadIcon() {
+        if (isShowing()) {
+            repaint();
+        } else {
+            // Missed hierarchy notification. Stop animating until we are shown again.
+            LoadingIndicatorPhase.unregister(this);
+        }
     }
 
     /**
@@ -122,4 +136,38 @@ public class LoadingIndicator extends JLabel {
         displayIcon.setRightIcon(super.getDisabledIcon());
         return displayIcon;
     }
+
+    private static final class SpriteIcon implements Icon {
+
+        private final Icon icon;
+
+        private SpriteIcon(final Icon icon) {
+            this.icon = icon != null ? icon : EmptyIcon.create(0);
+        }
+
+        @Override
+        public void paintIcon(final Component c, final Graphics g, final int x, final int y) {
+            int width = getIconWidth();
+            int height = getIconHeight();
+            if (width <= 0 || height <= 0) return;
+            double scaleX = 1;
+            double scaleY = 1;
+            if (g instanceof Graphics2D) {
+                scaleX = Math.max(1, Scale.getScaleX((Graphics2D) g));
+                scaleY = Math.max(1, Scale.getScaleY((Graphics2D) g));
+            }
+            Image[] frames = RotationSprite.getFrames(icon, LoadingIndicatorPhase.FRAME_COUNT, scaleX, scaleY);
+            g.drawImage(frames[LoadingIndicatorPhase.currentFrame()], x, y, width, height, c);
+        }
+
+        @Override
+        public int getIconWidth() {
+            return icon.getIconWidth();
+        }
+
+        @Override
+        public int getIconHeight() {
+            return icon.getIconHeight();
+        }
+    }
 }
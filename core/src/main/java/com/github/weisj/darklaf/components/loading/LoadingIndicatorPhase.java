@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.components.loading;
+
+import java.awt.event.ActionEvent;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.swing.*;
+
+/**
+ * Global animation phase of all {@link LoadingIndicator}s. A single timer advances the phase and
+ * repaints all registered indicators, hence all visible indicators rotate in sync. The timer only
+ * runs while there is at least one running and showing indicator.
+ */
+final class LoadingIndicatorPhase {
+
+    static final int FRAME_COUNT = 8;
+    private static final int FRAME_DELAY = 100;
+
+    private static final Set<LoadingIndicator> indicators = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final Timer timer = createTimer();
+    private static int frame;
+
+    private LoadingIndicatorPhase() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    private static Timer createTimer() {
+        Timer t = new Timer(FRAME_DELAY, LoadingIndicatorPhase::onTick);
+        t.setRepeats(true);
+        return t;
+    }
+
+    static int currentFrame() {
+        return frame;
+    }
+
+    static void register(final LoadingIndicator indicator) {
+        if (indicators.add(indicator) && !timer.isRunning()) {
+            timer.start();
+        }
+    }
+
+    static void unregister(final LoadingIndicator indicator) {
+        if (indicators.remove(indicator) && indicators.isEmpty()) {
+            timer.stop();
+        }
+    }
+
+    static boolean isRegistered(final LoadingIndicator indicator) {
+        return indicators.contains(indicator);
+    }
+
+    private static void onTick(final ActionEvent e) {
+        if (indicators.isEmpty()) {
+            timer.stop();
+            return;
+        }
+        frame = (frame + 1) % FRAME_COUNT;
+        for (LoadingIndicator indicator : indicators.toArray(new LoadingIndicator[0])) {
+            indicator.repaintLoadIcon();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.components.loading;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import javax.swing.*;
+
+import com.github.weisj.darklaf.properties.icons.IconLoader;
+import com.github.weisj.darklaf.properties.icons.RotatableIcon;
+import com.github.weisj.darklaf.util.ImageUtil;
+import com.github.weisj.darklaf.util.Scale;
+
+/**
+ * Pre-rendered rotation steps of an icon. The steps are rendered once per icon, size, scale and theme
+ * and shared by all components painting the same icon.
+ */
+final class RotationSprite {
+
+    private static final Map<Icon, SpriteCache> sprites = new WeakHashMap<>();
+
+    private RotationSprite() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static Image[] getFrames(final Icon icon, final int frameCount, final double scaleX, final double scaleY) {
+        SpriteCache cache = sprites.computeIfAbsent(icon, i -> new SpriteCache());
+        Object theme = IconLoader.getThemeStatus();
+        if (cache.theme != theme) {
+            // Themed icons may change their appearance. Drop all frames rendered for the old theme.
+            cache.frames.clear();
+            cache.theme = theme;
+        }
+        SpriteKey key = new SpriteKey(icon.getIconWidth(), icon.getIconHeight(), frameCount, scaleX, scaleY);
+        SoftReference<Image[]> ref = cache.frames.get(key);
+        Image[] frames = ref != null ? ref.get() : null;
+        if (frames == null) {
+            frames = renderFrames(icon, key);
+            cache.frames.put(key, new SoftReference<>(frames));
+        }
+        return frames;
+    }
+
+    private static Image[] renderFrames(final Icon icon, final SpriteKey key) {
+        Image[] frames = new Image[key.frameCount];
+        int width = Math.max(1, (int) Math.ceil(key.width * key.scaleX));
+        int height = Math.max(1, (int) Math.ceil(key.height * key.scaleY));
+        RotatableIcon rotatableIcon = new RotatableIcon(icon);
+        for (int i = 0; i < frames.length; i++) {
+            rotatableIcon.setRotation(Math.PI * 2 * ((double) i / key.frameCount));
+            BufferedImage image = ImageUtil.createCompatibleTranslucentImage(width, height);
+            Graphics2D g = image.createGraphics();
+            g.scale(key.scaleX, key.scaleY);
+            rotatableIcon.paintIcon(null, g, 0, 0);
+            g.dispose();
+            frames[i] = image;
+        }
+        return frames;
+    }
+
+    private static final class SpriteCache {
+        private final Map<SpriteKey, SoftReference<Image[]>> frames = new HashMap<>();
+        private Object theme;
+    }
+
+    private static final class SpriteKey {
+        private final int width;
+        private final int height;
+        private final int frameCount;
+        private final double scaleX;
+        private final double scaleY;
+
+        private SpriteKey(final int width, final int height, final int frameCount, final double scaleX,
+                final double scaleY) {
+            this.width = width;
+            this.height = height;
+            this.frameCount = frameCount;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            SpriteKey that = (SpriteKey) o;
+            return width == that.width && height == that.height && frameCount == that.frameCount
+                    && Scale.equalWithError(scaleX, that.scaleX) && Scale.equalWithError(scaleY, that.scaleY);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(width, height, frameCount);
+        }
+    }
+}
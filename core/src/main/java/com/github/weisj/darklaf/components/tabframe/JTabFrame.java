@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
@@ -284,6 +285,26 @@ public class JTabFrame extends JComponent {
         insertTab(popup, title, icon, a, index);
     }
 
+    /**
+     * Insert a tab whose content is created lazily. A default tab component and a {@link LazyPanelPopup}
+     * will be created. The supplier is invoked the first time the tab is opened.
+     *
+     * @param contentSupplier the supplier for the component to add.
+     * @param title the title of the component.
+     * @param icon the icon
+     * @param a the alignment position to add at.{@link TabFramePosition#getAlignment()}
+     * @param index the index to insert at.{@link TabFramePosition#getIndex()}
+     * @return the created popup.
+     * @see LazyPanelPopup#materializeLater()
+     * @see LazyPanelPopup#setReleaseDelay(int)
+     */
+    public LazyPanelPopup insertTab(final Supplier<? extends Component> contentSupplier, final String title,
+            final Icon icon, final Alignment a, final int index) {
+        LazyPanelPopup popup = new LazyPanelPopup(title, icon, contentSupplier);
+        insertTab((TabFramePopup) popup, title, icon, a, index);
+        return popup;
+    }
+
     /**
      * Insert a tab. A default tab component will be created.
      *
@@ -747,6 +768,21 @@ public class JTabFrame extends JComponent {
         insertTab(c, title, icon, a, tabsForAlignment(a).size());
     }
 
+    /**
+     * Add a popup whose content is created lazily.
+     *
+     * @param contentSupplier the supplier for the content component.
+     * @param title the title.
+     * @param icon the icon.
+     * @param a the alignment position.{@link TabFramePosition#getAlignment()}
+     * @return the created popup.
+     * @see #insertTab(Supplier, String, Icon, Alignment, int)
+     */
+    public LazyPanelPopup addTab(final Supplier<? extends Component> contentSupplier, final String title,
+            final Icon icon, final Alignment a) {
+        return insertTab(contentSupplier, title, icon, a, tabsForAlignment(a).size());
+    }
+
     /**
      * Move a tab to a new position.
      *
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.components.tabframe;
+
+import java.awt.*;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import javax.swing.*;
+
+/**
+ * {@link PanelPopup} whose content is only created once it is needed. The content supplier is invoked
+ * the first time the popup is opened or when {@link #materialize()} is called. If a release delay is set the
+ * content is discarded again after the popup has been closed for the given amount of time and will be
+ * recreated from the supplier on the next opening.
+ *
+ * @author Jannis Weis
+ */
+public class LazyPanelPopup extends PanelPopup {
+
+    private final Supplier<? extends Component> contentSupplier;
+    private final Timer releaseTimer;
+    private int releaseDelay = -1;
+    private boolean materialized;
+    private boolean materializeScheduled;
+
+    /**
+     * Creates a new Popup whose content is created lazily.
+     *
+     * @param title the title of the component.
+     * @param icon the icon of the popup.
+     * @param contentSupplier the supplier for the content of the popup.
+     */
+    public LazyPanelPopup(final String title, final Icon icon, final Supplier<? extends Component> contentSupplier) {
+        super(title, icon, null);
+        this.contentSupplier = Objects.requireNonNull(contentSupplier);
+        releaseTimer = new Timer(0, e -> releaseContent());
+        releaseTimer.setRepeats(false);
+    }
+
+    /**
+     * Returns whether the content has been created.
+     *
+     * @return true if the supplier has been invoked and the content hasn't been released since.
+     */
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
+    /**
+     * Creates the content if it hasn't been created yet.
+     */
+    public void materialize() {
+        releaseTimer.stop();
+        if (materialized) return;
+        materialized = true;
+        setContentPane(contentSupplier.get());
+    }
+
+    /**
+     * Posts {@link #materialize()} to the event queue using {@link SwingUtilities#invokeLater(Runnable)}
+     * and returns immediately. Nothing is created synchronously, the supplier still runs on the event
+     * dispatch thread once all currently pending events have been processed.
+     */
+    public void materializeLater() {
+        if (materialized || materializeScheduled) return;
+        materializeScheduled = true;
+        SwingUtilities.invokeLater(() -> {
+            materializeScheduled = false;
+            if (!materialized) materialize();
+        });
+    }
+
+    /**
+     * Discards the content if the popup currently isn't open. The content will be recreated when the
+     * popup is opened again.
+     */
+    public void releaseContent() {
+        releaseTimer.stop();
+        if (!materialized || isOpen()) return;
+        materialized = false;
+        setContentPane(null);
+    }
+
+    /**
+     * Get the time in milliseconds after which the content of a closed popup is released. A negative
+     * value means the content is never released automatically.
+     *
+     * @return the release delay.
+     */
+    public int getReleaseDelay() {
+        return releaseDelay;
+    }
+
+    /**
+     * Set the time in milliseconds after which the content of a closed popup is released. A negative
+     * value means the content is never released automatically.
+     *
+     * @param releaseDelay the release delay.
+     */
+    public void setReleaseDelay(final int releaseDelay) {
+        releaseTimer.stop();
+        releaseTimer.setInitialDelay(Math.max(releaseDelay, 0));
+        this.releaseDelay = releaseDelay;
+        scheduleRelease();
+    }
+
+    @Override
+    public void setOpen(final boolean open) {
+        if (open) materialize();
+        super.setOpen(open);
+        if (!open) scheduleRelease();
+    }
+
+    private void scheduleRelease() {
+        if (releaseDelay < 0 || !materialized || isOpen()) return;
+        releaseTimer.restart();
+    }
+}
@@ -26,7 +26,6 @@ import java.util.List;
 
 import javax.swing.*;
 
-import com.github.weisj.darklaf.components.PlainAction;
 import com.github.weisj.darklaf.components.ScrollPopupMenu;
 import com.github.weisj.darklaf.util.StringUtil;
 
@@ -34,6 +33,7 @@ import com.github.weisj.darklaf.util.StringUtil;
 public class TextFieldHistoryPopup extends ScrollPopupMenu implements SearchListener {
 
     private final Set<String> history;
+    private final HistoryModel historyModel = new HistoryModel();
     private final JTextField textField;
     private int capacity;
 
@@ -55,6 +55,7 @@ public class TextFieldHistoryPopup extends ScrollPopupMenu implements SearchList
                 return size() > capacity;
             }
         });
+        setModel(historyModel, (item, value, index) -> item.setText(value), textField::setText);
     }
 
     /**
@@ -122,12 +123,7 @@ public class TextFieldHistoryPopup extends ScrollPopupMenu implements SearchList
     @Override
     public void show(final Component invoker, final int x, final int y) {
         if (history.size() == 0) return;
-        this.removeAll();
-        List<String> list = new ArrayList<>(history);
-        for (int i = list.size() - 1; i >= 0; i--) {
-            String item = list.get(i);
-            add(new JMenuItem(new PlainAction(item, () -> textField.setText(item))));
-        }
+        historyModel.setEntries(history);
         super.show(invoker, x, y);
     }
 
@@ -135,4 +131,29 @@ public class TextFieldHistoryPopup extends ScrollPopupMenu implements SearchList
     public void clearHistory() {
         history.clear();
     }
+
+    private static final class HistoryModel extends AbstractListModel<String> {
+
+        private List<String> entries = Collections.emptyList();
+
+        private void setEntries(final Collection<String> history) {
+            int oldSize = entries.size();
+            // Newest entries first.
+            List<String> list = new ArrayList<>(history);
+            Collections.reverse(list);
+            entries = list;
+            if (oldSize > 0) fireIntervalRemoved(this, 0, oldSize - 1);
+            if (!list.isEmpty()) fireIntervalAdded(this, 0, list.size() - 1);
+        }
+
+        @Override
+        public int getSize() {
+            return entries.size();
+        }
+
+        @Override
+        public String getElementAt(final int index) {
+            return entries.get(index);
+        }
+    }
 }
@@ -22,6 +22,7 @@ package com.github.weisj.darklaf.defaults;
 
 import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 class ResourceBundleCache {
 
@@ -50,23 +51,47 @@ class ResourceBundleCache {
         }
     }
 
-    private final List<ResourceBundleEntry> resourceBundles = new ArrayList<>();
-
-    private final Map<Locale, Map<String, Object>> resourceCache = new HashMap<>();
+    /*
+     * The registered bundles together with the tables created from them. Registering a new bundle
+     * replaces the whole state, hence lookups never need to lock.
+     */
+    private volatile CacheState state = new CacheState(Collections.emptyList());
 
     public boolean isEmpty() {
-        return resourceBundles.isEmpty();
+        return state.resourceBundles.isEmpty();
     }
 
     public Object get(final String key, final Locale l) {
-        return getResourceCache(l).get(key);
+        return state.getResourceTable(l).get(key);
     }
 
-    private Map<String, Object> getResourceCache(final Locale l) {
-        Map<String, Object> values = resourceCache.get(l);
+    public synchronized void addBundle(final Class<?> clazz, final String bundleName) {
+        if (bundleName == null) return;
+
+        ClassLoader classLoader = clazz.getClassLoader();
+        ResourceBundleEntry entry = new ResourceBundleEntry(classLoader, bundleName);
+        List<ResourceBundleEntry> resourceBundles = state.resourceBundles;
+        if (!resourceBundles.contains(entry)) {
+            List<ResourceBundleEntry> bundles = new ArrayList<>(resourceBundles);
+            bundles.add(entry);
+            state = new CacheState(Collections.unmodifiableList(bundles));
+        }
+    }
+
+    private static final class CacheState {
+        private final List<ResourceBundleEntry> resourceBundles;
+        private final Map<Locale, Map<String, Object>> resourceCache = new ConcurrentHashMap<>();
+
+        private CacheState(final List<ResourceBundleEntry> resourceBundles) {
+            this.resourceBundles = resourceBundles;
+        }
+
+        private Map<String, Object> getResourceTable(final Locale l) {
+            return resourceCache.computeIfAbsent(l, this::createResourceTable);
+        }
 
-        if (values == null) {
-            values = new TextAndMnemonicHashMap();
+        private Map<String, Object> createResourceTable(final Locale l) {
+            Map<String, Object> values = new HashMap<>();
             for (int i = resourceBundles.size() - 1; i >= 0; i--) {
                 ResourceBundleEntry bundle = resourceBundles.get(i);
                 ClassLoader classLoader = bundle.classLoader.get();
@@ -78,28 +103,13 @@ class ResourceBundleCache {
 
                     while (keys.hasMoreElements()) {
                         String key = keys.nextElement();
-
-                        if (values.get(key) == null) {
-                            values.put(key, b.getObject(key));
-                        }
+                        values.putIfAbsent(key, b.getObject(key));
                     }
                 } catch (MissingResourceException mre) {
                     // Keep looking
                 }
             }
-            resourceCache.put(l, values);
-        }
-        return values;
-    }
-
-    public void addBundle(final Class<?> clazz, final String bundleName) {
-        if (bundleName == null) return;
-
-        ClassLoader classLoader = clazz.getClassLoader();
-        ResourceBundleEntry entry = new ResourceBundleEntry(classLoader, bundleName);
-        if (!resourceBundles.contains(entry)) {
-            resourceBundles.add(entry);
-            resourceCache.clear();
+            return TextAndMnemonicTable.create(values);
         }
     }
 }
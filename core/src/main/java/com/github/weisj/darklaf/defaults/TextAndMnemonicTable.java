@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.defaults;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates a flat lookup table from the values of a resource bundle. All the {@code *Text},
+ * {@code *Mnemonic}, {@code *DisplayedMnemonicIndex} and {@code *Title} entries which can be derived
+ * from {@code *.textAndMnemonic} and {@code *.titleAndMnemonic} values are computed once when the
+ * table is created. The resulting table is immutable and hence can be read concurrently.
+ */
+final class TextAndMnemonicTable {
+
+    private static final String AND_MNEMONIC = "AndMnemonic";
+    private static final String TITLE_SUFFIX = ".titleAndMnemonic";
+    private static final String TEXT_SUFFIX = ".textAndMnemonic";
+
+    private static final String[] DERIVED_SUFFIXES = {".mnemonic", "NameMnemonic", "Mnemonic", "NameText",
+            ".nameText", "Text", "Title", "DisplayedMnemonicIndex"};
+
+    private TextAndMnemonicTable() {}
+
+    static Map<String, Object> create(final Map<String, Object> resources) {
+        Map<String, Object> table = new HashMap<>(resources);
+        for (String key : resources.keySet()) {
+            String prefix;
+            if (key.endsWith(TEXT_SUFFIX)) {
+                prefix = key.substring(0, key.length() - TEXT_SUFFIX.length());
+            } else if (key.endsWith(TITLE_SUFFIX)) {
+                prefix = key.substring(0, key.length() - TITLE_SUFFIX.length());
+            } else {
+                continue;
+            }
+            for (String suffix : DERIVED_SUFFIXES) {
+                String derivedKey = prefix + suffix;
+                if (table.containsKey(derivedKey)) continue;
+                Object value = deriveValue(resources, derivedKey);
+                if (value != null) table.put(derivedKey, value);
+            }
+        }
+        return Collections.unmodifiableMap(table);
+    }
+
+    private static Object deriveValue(final Map<String, Object> resources, final String key) {
+        boolean checkTitle = false;
+        String compositeKey = null;
+        Object value;
+
+        if (key.endsWith(AND_MNEMONIC)) {
+            return null;
+        }
+
+        if (key.endsWith(".mnemonic")) {
+            compositeKey = composeKey(key, 9, TEXT_SUFFIX);
+        } else if (key.endsWith("NameMnemonic")) {
+            compositeKey = composeKey(key, 12, TEXT_SUFFIX);
+        } else if (key.endsWith("Mnemonic")) {
+            compositeKey = composeKey(key, 8, TEXT_SUFFIX);
+            checkTitle = true;
+        }
+
+        if (compositeKey != null) {
+            value = resources.get(compositeKey);
+            if (value == null && checkTitle) {
+                compositeKey = composeKey(key, 8, TITLE_SUFFIX);
+                value = resources.get(compositeKey);
+            }
+
+            return value == null ? null : getMnemonicFromProperty(value.toString());
+        }
+
+        if (key.endsWith("NameText")) {
+            compositeKey = composeKey(key, 8, TEXT_SUFFIX);
+        } else if (key.endsWith(".nameText")) {
+            compositeKey = composeKey(key, 9, TEXT_SUFFIX);
+        } else if (key.endsWith("Text")) {
+            compositeKey = composeKey(key, 4, TEXT_SUFFIX);
+        } else if (key.endsWith("Title")) {
+            compositeKey = composeKey(key, 5, TITLE_SUFFIX);
+        }
+
+        if (compositeKey != null) {
+            value = resources.get(compositeKey);
+            return value == null ? null : getTextFromProperty(value.toString());
+        }
+
+        if (key.endsWith("DisplayedMnemonicIndex")) {
+            compositeKey = composeKey(key, 22, TEXT_SUFFIX);
+            value = resources.get(compositeKey);
+            if (value == null) {
+                compositeKey = composeKey(key, 22, TITLE_SUFFIX);
+                value = resources.get(compositeKey);
+            }
+            return value == null ? null : getIndexFromProperty(value.toString());
+        }
+        return null;
+    }
+
+    private static String composeKey(final String key, final int reduce, final String sufix) {
+        return key.substring(0, key.length() - reduce) + sufix;
+    }
+
+    private static String getTextFromProperty(final String text) {
+        return text.replace("&", "");
+    }
+
+    private static String getMnemonicFromProperty(final String text) {
+        int index = text.indexOf('&');
+        if (0 <= index && index < text.length() - 1) {
+            char c = text.charAt(index + 1);
+            return Integer.toString((int) Character.toUpperCase(c));
+        }
+        return null;
+    }
+
+    private static String getIndexFromProperty(final String text) {
+        int index = text.indexOf('&');
+        return (index == -1) ? null : Integer.toString(index);
+    }
+}
@@ -28,11 +28,42 @@ public class UIDefaultsWithResourceBundleCache extends UIDefaults {
 
     private final Locale defaultLocale = Locale.getDefault();
     private final ResourceBundleCache resourceBundleCache = new ResourceBundleCache();
+    private int modificationCount;
 
     public UIDefaultsWithResourceBundleCache(final int initialCapacity, final float loadFactor) {
         super(initialCapacity, loadFactor);
     }
 
+    /**
+     * The number of times a key has been put into or removed from the defaults. Overwriting a key counts as a
+     * modification, even if the value doesn't change.
+     *
+     * @return the number of modifications.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public Object put(final Object key, final Object value) {
+        modificationCount++;
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putDefaults(final Object[] keyValueList) {
+        modificationCount += keyValueList.length / 2;
+        super.putDefaults(keyValueList);
+    }
+
+    @Override
+    @SuppressWarnings("UnsynchronizedOverridesSynchronized")
+    public Object remove(final Object key) {
+        Object value = super.remove(key);
+        if (value != null) modificationCount++;
+        return value;
+    }
+
     @Override
     @SuppressWarnings("UnsynchronizedOverridesSynchronized")
     public Object get(final Object key) {
@@ -59,9 +90,7 @@ public class UIDefaultsWithResourceBundleCache extends UIDefaults {
             l = defaultLocale;
         }
 
-        synchronized (this) {
-            return resourceBundleCache.get((String) key, l);
-        }
+        return resourceBundleCache.get((String) key, l);
     }
 
     @Override
@@ -70,7 +99,7 @@ public class UIDefaultsWithResourceBundleCache extends UIDefaults {
         super.addResourceBundle(bundleName);
     }
 
-    public synchronized void addResourceBundle(final Class<?> clazz, final String bundleName) {
+    public void addResourceBundle(final Class<?> clazz, final String bundleName) {
         resourceBundleCache.addBundle(clazz, bundleName);
     }
 }
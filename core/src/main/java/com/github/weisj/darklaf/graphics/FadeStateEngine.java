@@ -0,0 +1,287 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.graphics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.*;
+
+import com.github.weisj.darklaf.util.PropertyUtil;
+
+/**
+ * Time based engine for simple fade in/out animations. All running {@link FadeState}s are driven by
+ * a single ticker which only runs as long as there is at least one active state. States which are
+ * not animating (or whose component isn't showing) aren't tracked by the engine at all.
+ * <p>
+ * All methods have to be called from the event dispatch thread.
+ */
+public final class FadeStateEngine {
+
+    private static final long FRAME_INTERVAL_MILLIS = 16;
+    private static final FadeStateEngine INSTANCE = new FadeStateEngine();
+
+    private final List<FadeState> activeStates = new ArrayList<>();
+    private final AtomicBoolean isScheduled = new AtomicBoolean(false);
+    private ScheduledFuture<?> ticker;
+
+    private FadeStateEngine() {}
+
+    public static FadeStateEngine getInstance() {
+        return INSTANCE;
+    }
+
+    public FadeState createState(final JComponent component, final FadeListener listener) {
+        return new FadeState(this, component, listener);
+    }
+
+    private void activate(final FadeState state) {
+        if (!activeStates.contains(state)) activeStates.add(state);
+        if (ticker == null) {
+            isScheduled.set(false);
+            ticker = Animator.scheduler().scheduleAtFixedRate(() -> {
+                if (!isScheduled.getAndSet(true)) {
+                    SwingUtilities.invokeLater(this::onTick);
+                }
+            }, 0, FRAME_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void deactivate(final FadeState state) {
+        activeStates.remove(state);
+        if (activeStates.isEmpty() && ticker != null) {
+            ticker.cancel(false);
+            ticker = null;
+        }
+    }
+
+    private void onTick() {
+        isScheduled.set(false);
+        if (activeStates.isEmpty()) return;
+        long now = System.nanoTime();
+        FadeState[] states = activeStates.toArray(new FadeState[0]);
+        for (FadeState state : states) {
+            state.update(now);
+        }
+    }
+
+    public interface FadeListener {
+
+        /**
+         * Called whenever the value of the state has changed.
+         *
+         * @param state the fade state.
+         */
+        void fadeStateChanged(final FadeState state);
+
+        /**
+         * Called after a fade has reached its end.
+         *
+         * @param state the fade state.
+         * @param fadedIn true if the state faded in.
+         */
+        default void fadeFinished(final FadeState state, final boolean fadedIn) {}
+    }
+
+    public static final class FadeState {
+
+        private final FadeStateEngine engine;
+        private final JComponent component;
+        private final FadeListener listener;
+
+        private Interpolator fadeInInterpolator = DefaultInterpolator.EASE_OUT_CUBIC;
+        private Interpolator fadeOutInterpolator = DefaultInterpolator.EASE_IN_CUBIC;
+        private long fadeInDurationMillis;
+        private long fadeInDelayMillis;
+        private long fadeOutDurationMillis;
+        private long fadeOutDelayMillis;
+        private boolean enabled = true;
+
+        private boolean running;
+        private boolean fadingIn;
+        private float progress;
+        private float startProgress;
+        private long startNanos;
+        private float value;
+
+        private FadeState(final FadeStateEngine engine, final JComponent component, final FadeListener listener) {
+            this.engine = engine;
+            this.component = component;
+            this.listener = listener;
+        }
+
+        public FadeState setFadeIn(final long durationMillis, final long delayMillis) {
+            this.fadeInDurationMillis = durationMillis;
+            this.fadeInDelayMillis = delayMillis;
+            return this;
+        }
+
+        public FadeState setFadeOut(final long durationMillis, final long delayMillis) {
+            this.fadeOutDurationMillis = durationMillis;
+            this.fadeOutDelayMillis = delayMillis;
+            return this;
+        }
+
+        /**
+         * Sets the interpolator used for both directions.
+         *
+         * @param interpolator the interpolator.
+         * @return this state.
+         * @see #setInterpolators(Interpolator, Interpolator)
+         */
+        public FadeState setInterpolator(final Interpolator interpolator) {
+            return setInterpolators(interpolator, interpolator);
+        }
+
+        /**
+         * Sets the interpolators for fading in and out. Both are evaluated on the elapsed fraction of
+         * the respective fade i.e. a fade out produces the value {@code 1 - fadeOut(t)}. The default is
+         * {@link DefaultInterpolator#EASE_OUT_CUBIC} for fading in and {@link DefaultInterpolator#EASE_IN_CUBIC}
+         * for fading out.
+         *
+         * @param fadeIn the interpolator used when fading in.
+         * @param fadeOut the interpolator used when fading out.
+         * @return this state.
+         */
+        public FadeState setInterpolators(final Interpolator fadeIn, final Interpolator fadeOut) {
+            this.fadeInInterpolator = fadeIn;
+            this.fadeOutInterpolator = fadeOut;
+            return this;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * The current value of the state. A value of 0 corresponds to fully faded out and 1 to fully
+         * faded in.
+         *
+         * @return the current value.
+         */
+        public float getValue() {
+            return value;
+        }
+
+        public boolean isRunning() {
+            return running;
+        }
+
+        public boolean isFadingIn() {
+            return running && fadingIn;
+        }
+
+        public boolean isFadingOut() {
+            return running && !fadingIn;
+        }
+
+        public void fadeIn() {
+            start(true);
+        }
+
+        public void fadeOut() {
+            start(false);
+        }
+
+        private void start(final boolean in) {
+            if (running && fadingIn == in) return;
+            if (!running && progress == (in ? 1 : 0)) return;
+            // Reversing a running fade continues from the current value without any delay.
+            boolean skipDelay = running;
+            fadingIn = in;
+            long duration = in ? fadeInDurationMillis : fadeOutDurationMillis;
+            if (duration <= 0 || !animationsEnabled() || !isComponentShowing()) {
+                finish();
+                return;
+            }
+            long delay = skipDelay ? 0 : (in ? fadeInDelayMillis : fadeOutDelayMillis);
+            startProgress = progress;
+            startNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+            running = true;
+            engine.activate(this);
+        }
+
+        private void update(final long nowNanos) {
+            if (!running) return;
+            if (!isComponentShowing()) {
+                finish();
+                return;
+            }
+            long elapsed = nowNanos - startNanos;
+            if (elapsed < 0) return;
+            long duration = fadingIn ? fadeInDurationMillis : fadeOutDurationMillis;
+            float delta = (float) elapsed / TimeUnit.MILLISECONDS.toNanos(duration);
+            float p = fadingIn ? startProgress + delta : startProgress - delta;
+            if (p >= 1 || p <= 0) {
+                finish();
+            } else {
+                setProgress(p);
+            }
+        }
+
+        private void finish() {
+            running = false;
+            engine.deactivate(this);
+            setProgress(fadingIn ? 1 : 0);
+            if (listener != null) listener.fadeFinished(this, fadingIn);
+        }
+
+        private void setProgress(final float p) {
+            progress = Math.max(0, Math.min(1, p));
+            float newValue = fadingIn
+                    ? fadeInInterpolator.interpolate(progress)
+                    : 1 - fadeOutInterpolator.interpolate(1 - progress);
+            if (newValue != value) {
+                value = newValue;
+                if (listener != null) listener.fadeStateChanged(this);
+            }
+        }
+
+        /**
+         * Stops the fade without notifying the listener and resets it to the faded out state.
+         */
+        public void reset() {
+            running = false;
+            engine.deactivate(this);
+            progress = 0;
+            value = 0;
+        }
+
+        public void dispose() {
+            reset();
+        }
+
+        private boolean animationsEnabled() {
+            return enabled && PropertyUtil.getSystemFlag(Animator.ANIMATIONS_FLAG);
+        }
+
+        private boolean isComponentShowing() {
+            return component == null || (component.isVisible() && component.isShowing());
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.graphics;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.github.weisj.darklaf.util.graphics.GraphicsUtil;
+
+/**
+ * Cache for the rasterized chrome of rounded controls. The corners and edges of a shape are rendered
+ * once into a small image at device resolution. Shapes of arbitrary size are then painted by blitting
+ * the corners and stretching the edges.
+ *
+ * <p>
+ * The cache is only used if the shape starts and ends on device pixel boundaries. In this case the
+ * result is identical to painting the shape directly up to rounding. It is also only used when painting
+ * to the screen, as other devices (e.g. printers) may render the shape at a different resolution.
+ */
+final class NineSliceCache {
+
+    private static final int MAX_ENTRIES = 128;
+    private static final double EPSILON = 1E-3;
+
+    private static final Map<SliceKey, Slices> cache = new LinkedHashMap<SliceKey, Slices>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<SliceKey, Slices> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private static final ThreadLocal<SliceKey> lookupKey = ThreadLocal.withInitial(SliceKey::new);
+
+    private NineSliceCache() {}
+
+    /**
+     * Paints a rounded ring as produced by {@link PaintUtil#createRingShape(float, float, float, float,
+     * boolean)} at the origin.
+     *
+     * @return true if the ring has been painted. False if the cache isn't applicable.
+     */
+    static boolean paintRing(final Graphics2D g, final float width, final float height, final float arc,
+            final float bw, final boolean inside) {
+        return isScreenDevice(g) && paintRingSlices(g, width, height, arc, bw, inside);
+    }
+
+    /**
+     * Fills a rounded rectangle.
+     *
+     * @return true if the rectangle has been painted. False if the cache isn't applicable.
+     */
+    static boolean fillRoundRect(final Graphics2D g, final float x, final float y, final float width,
+            final float height, final float arc) {
+        return isScreenDevice(g) && fillRoundRectSlices(g, x, y, width, height, arc);
+    }
+
+    static boolean paintRingSlices(final Graphics2D g, final float width, final float height, final float arc,
+            final float bw, final boolean inside) {
+        float extent = Math.max(inside ? arc / 2 : (arc + bw) / 2, bw + (inside ? arc - bw : arc) / 2);
+        extent = Math.max(extent, bw);
+        return paint(g, 0, 0, width, height, false, inside, arc, bw, extent);
+    }
+
+    static boolean fillRoundRectSlices(final Graphics2D g, final float x, final float y, final float width,
+            final float height, final float arc) {
+        return paint(g, x, y, width, height, true, false, arc, 0, Math.max(0, arc / 2));
+    }
+
+    private static boolean isScreenDevice(final Graphics2D g) {
+        GraphicsConfiguration gc = g.getDeviceConfiguration();
+        return gc != null && gc.getDevice().getType() == GraphicsDevice.TYPE_RASTER_SCREEN;
+    }
+
+    private static boolean paint(final Graphics2D g, final float x, final float y, final float width,
+            final float height, final boolean fill, final boolean inside, final float arc, final float bw,
+            final float extent) {
+        Paint paint = g.getPaint();
+        if (!(paint instanceof Color)) return false;
+        Composite composite = g.getComposite();
+        if (!(composite instanceof AlphaComposite)
+                || ((AlphaComposite) composite).getRule() != AlphaComposite.SRC_OVER) {
+            return false;
+        }
+        AffineTransform at = g.getTransform();
+        int allowedTypes = AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_UNIFORM_SCALE
+                | AffineTransform.TYPE_GENERAL_SCALE;
+        if ((at.getType() & ~allowedTypes) != 0) return false;
+        double sx = at.getScaleX();
+        double sy = at.getScaleY();
+        if (sx <= 0 || sy <= 0) return false;
+
+        double dx = at.getTranslateX() + x * sx;
+        double dy = at.getTranslateY() + y * sy;
+        double dw = width * sx;
+        double dh = height * sy;
+        if (!isIntegral(dx) || !isIntegral(dy) || !isIntegral(dw) || !isIntegral(dh)) return false;
+
+        // One additional pixel accounts for the antialiased fringe of the curved segments.
+        int cx = (int) Math.ceil(extent * sx) + 1;
+        int cy = (int) Math.ceil(extent * sy) + 1;
+        int w = (int) Math.round(dw);
+        int h = (int) Math.round(dh);
+        if (w < 2 * cx + 1 || h < 2 * cy + 1) return false;
+
+        SliceKey key = lookupKey.get().set(fill, inside, arc, bw, sx, sy, cx, cy, ((Color) paint).getRGB());
+        Slices slices;
+        synchronized (cache) {
+            slices = cache.get(key);
+            if (slices == null) {
+                SliceKey entryKey = key.copy();
+                slices = new Slices(entryKey);
+                cache.put(entryKey, slices);
+            }
+        }
+        Object interpolation = g.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g.setTransform(AffineTransform.getTranslateInstance(Math.round(dx), Math.round(dy)));
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        slices.paint(g, w, h);
+        g.setTransform(at);
+        if (interpolation != null) {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        }
+        return true;
+    }
+
+    private static boolean isIntegral(final double value) {
+        return Math.abs(value - Math.rint(value)) < EPSILON;
+    }
+
+    private static final class Slices {
+        private final BufferedImage image;
+        private final int cx;
+        private final int cy;
+        private final boolean paintCenter;
+
+        private Slices(final SliceKey key) {
+            cx = key.cx;
+            cy = key.cy;
+            paintCenter = key.fill;
+            int w = 2 * cx + 1;
+            int h = 2 * cy + 1;
+            image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g = image.createGraphics();
+            GraphicsUtil.setupStrokePainting(g);
+            g.scale(key.sx, key.sy);
+            g.setColor(new Color(key.rgb, true));
+            float width = (float) (w / key.sx);
+            float height = (float) (h / key.sy);
+            if (key.fill) {
+                g.fill(PaintUtil.createRoundRectShape(width, height, key.arc));
+            } else {
+                g.fill(PaintUtil.createRingShape(width, height, key.arc, key.bw, key.inside));
+            }
+            g.dispose();
+        }
+
+        private void paint(final Graphics2D g, final int w, final int h) {
+            int iw = image.getWidth();
+            int ih = image.getHeight();
+            int[] dstX = {0, cx, w - cx, w};
+            int[] srcX = {0, cx, cx + 1, iw};
+            int[] dstY = {0, cy, h - cy, h};
+            int[] srcY = {0, cy, cy + 1, ih};
+            for (int row = 0; row < 3; row++) {
+                for (int col = 0; col < 3; col++) {
+                    if (row == 1 && col == 1 && !paintCenter) continue;
+                    g.drawImage(image, dstX[col], dstY[row], dstX[col + 1], dstY[row + 1],
+                            srcX[col], srcY[row], srcX[col + 1], srcY[row + 1], null);
+                }
+            }
+        }
+    }
+
+    /*
+     * Keys used for lookups are reused per thread. Only copies are stored in the cache.
+     */
+    private static final class SliceKey {
+        private boolean fill;
+        private boolean inside;
+        private float arc;
+        private float bw;
+        private double sx;
+        private double sy;
+        private int cx;
+        private int cy;
+        private int rgb;
+        private int hash;
+
+        private SliceKey set(final boolean fill, final boolean inside, final float arc, final float bw,
+                final double sx, final double sy, final int cx, final int cy, final int rgb) {
+            this.fill = fill;
+            this.inside = inside;
+            this.arc = arc;
+            this.bw = bw;
+            this.sx = sx;
+            this.sy = sy;
+            this.cx = cx;
+            this.cy = cy;
+            this.rgb = rgb;
+            int result = (fill ? 1 : 0) | (inside ? 2 : 0);
+            result = 31 * result + Float.floatToIntBits(arc);
+            result = 31 * result + Float.floatToIntBits(bw);
+            long bits = Double.doubleToLongBits(sx);
+            result = 31 * result + (int) (bits ^ (bits >>> 32));
+            bits = Double.doubleToLongBits(sy);
+            result = 31 * result + (int) (bits ^ (bits >>> 32));
+            result = 31 * result + rgb;
+            this.hash = result;
+            return this;
+        }
+
+        private SliceKey copy() {
+            return new SliceKey().set(fill, inside, arc, bw, sx, sy, cx, cy, rgb);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SliceKey)) return false;
+            SliceKey that = (SliceKey) o;
+            return hash == that.hash
+                    && fill == that.fill
+                    && inside == that.inside
+                    && Float.compare(arc, that.arc) == 0
+                    && Float.compare(bw, that.bw) == 0
+                    && Double.compare(sx, that.sx) == 0
+                    && Double.compare(sy, that.sy) == 0
+                    && cx == that.cx
+                    && cy == that.cy
+                    && rgb == that.rgb;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -121,6 +121,14 @@ public final class PaintUtil {
     private static void doPaint(final Graphics2D g, final float width, final float height, final float arc,
             final float bw, final boolean inside) {
         GraphicsContext context = GraphicsUtil.setupStrokePainting(g);
+        if (!NineSliceCache.paintRing(g, width, height, arc, bw, inside)) {
+            g.fill(createRingShape(width, height, arc, bw, inside));
+        }
+        context.restore();
+    }
+
+    static Shape createRingShape(final float width, final float height, final float arc, final float bw,
+            final boolean inside) {
         Shape outerRect;
         Shape innerRect;
         if (Scale.equalWithError(arc, 0)) {
@@ -135,8 +143,11 @@ public final class PaintUtil {
         Path2D path = new Path2D.Float(Path2D.WIND_EVEN_ODD);
         path.append(outerRect, false);
         path.append(innerRect, false);
-        g.fill(path);
-        context.restore();
+        return path;
+    }
+
+    static Shape createRoundRectShape(final float width, final float height, final float arc) {
+        return new RoundRectangle2D.Float(0, 0, width, height, arc, arc);
     }
 
     public static void paintFocusBorder(final Graphics2D g, final int width, final int height, final float arc,
@@ -235,10 +246,12 @@ public final class PaintUtil {
         float arcSize = arc;
 
         arcSize -= stroke;
-        g.translate(lw, lw);
-        roundRect.setRoundRect(x, y, width - 2 * lw, height - 2 * lw, arcSize, arcSize);
-        g.fill(roundRect);
-        g.translate(-lw, -lw);
+        if (!NineSliceCache.fillRoundRect(g, x + lw, y + lw, width - 2 * lw, height - 2 * lw, arcSize)) {
+            g.translate(lw, lw);
+            roundRect.setRoundRect(x, y, width - 2 * lw, height - 2 * lw, arcSize, arcSize);
+            g.fill(roundRect);
+            g.translate(-lw, -lw);
+        }
         context.restore();
     }
 
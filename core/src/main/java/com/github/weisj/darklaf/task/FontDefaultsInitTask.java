@@ -44,6 +44,7 @@ import com.github.weisj.darklaf.ui.util.DarkUIUtil;
 import com.github.weisj.darklaf.util.FontUtil;
 import com.github.weisj.darklaf.util.LogUtil;
 import com.github.weisj.darklaf.util.PropertyUtil;
+import com.github.weisj.darklaf.util.cache.FontCache;
 import com.github.weisj.darklaf.util.graphics.GraphicsUtil;
 
 public class FontDefaultsInitTask implements DefaultsInitTask {
@@ -91,7 +92,7 @@ public class FontDefaultsInitTask implements DefaultsInitTask {
                 Font f = entry.getValue();
                 Font newFont = FontUtil.createFont(fontPrototype.family(), f.getStyle(), f.getSize());
                 if (f instanceof UIResource) {
-                    newFont = new DarkFontUIResource(newFont);
+                    newFont = FontCache.toUIResource(newFont, DarkFontUIResource::new);
                 }
                 return newFont;
             });
@@ -216,10 +217,12 @@ public class FontDefaultsInitTask implements DefaultsInitTask {
                 ? MAC_OS_CATALINA_FONT_NAME_FALLBACK
                 : MAC_OS_FONT_NAME;
         Font macFont = FontUtil.createFont(fontName, font.getStyle(), font.getSize());
-        if (SystemInfo.isMacOSMojave) macFont = macFont.deriveFont(ENABLE_KERNING);
         if (font instanceof UIResource) {
-            macFont = new DarkFontUIResource(macFont);
+            return SystemInfo.isMacOSMojave
+                    ? FontCache.deriveUIResource(macFont, ENABLE_KERNING, DarkFontUIResource::new)
+                    : FontCache.toUIResource(macFont, DarkFontUIResource::new);
         }
+        if (SystemInfo.isMacOSMojave) macFont = FontCache.deriveFont(macFont, ENABLE_KERNING);
         return macFont == null ? font : macFont;
     }
 
@@ -234,7 +237,7 @@ public class FontDefaultsInitTask implements DefaultsInitTask {
                 : normalFontName;
         Font windowsFont = FontUtil.createFont(fontName, font.getStyle(), font.getSize());
         if (font instanceof UIResource) {
-            windowsFont = new DarkFontUIResource(windowsFont);
+            windowsFont = FontCache.toUIResource(windowsFont, DarkFontUIResource::new);
         }
         return windowsFont;
     }
@@ -253,11 +256,9 @@ public class FontDefaultsInitTask implements DefaultsInitTask {
 
     private void setupKerningPerFont(final UIDefaults defaults, final Predicate<String> kerningPredicate) {
         PropertyLoader.replacePropertiesOfType(Font.class, defaults, e -> kerningPredicate.test(e.getKey().toString()),
-                f -> {
-                    Font font = f.deriveFont(ENABLE_KERNING);
-                    if (f instanceof UIResource) font = new DarkFontUIResource(font);
-                    return font;
-                });
+                f -> f instanceof UIResource
+                        ? FontCache.deriveUIResource(f, ENABLE_KERNING, DarkFontUIResource::new)
+                        : FontCache.deriveFont(f, ENABLE_KERNING));
     }
 
     private void applyFontRule(final Theme currentTheme, final UIDefaults defaults) {
@@ -275,10 +276,7 @@ public class FontDefaultsInitTask implements DefaultsInitTask {
             LOGGER.warning("Font " + font + " would be invisible after applying " + rule + ". Font won't be changed!");
             return font;
         }
-        Font withRule = font.deriveFont(newSize);
-        if (font instanceof UIResource && !(withRule instanceof UIResource)) {
-            withRule = new DarkFontUIResource(withRule);
-        }
-        return withRule;
+        if (font instanceof UIResource) return FontCache.deriveUIResource(font, newSize, DarkFontUIResource::new);
+        return FontCache.deriveFont(font, newSize);
     }
 }
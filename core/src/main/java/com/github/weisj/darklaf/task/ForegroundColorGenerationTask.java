@@ -28,14 +28,13 @@ import java.util.logging.Logger;
 
 import javax.swing.plaf.ColorUIResource;
 
-import com.github.weisj.darklaf.properties.color.DarkColorModelHSB;
-import com.github.weisj.darklaf.properties.color.DarkColorModelHSL;
 import com.github.weisj.darklaf.properties.uiresource.DarkColorUIResource;
 import com.github.weisj.darklaf.theme.Theme;
 import com.github.weisj.darklaf.theme.spec.AccentColorRule;
-import com.github.weisj.darklaf.util.ColorUtil;
 import com.github.weisj.darklaf.util.LogUtil;
+import com.github.weisj.darklaf.util.PackedColor;
 import com.github.weisj.darklaf.util.Types;
+import com.github.weisj.darklaf.util.cache.DerivedColorCache;
 
 public class ForegroundColorGenerationTask extends ColorAdjustmentTask {
 
@@ -48,6 +47,11 @@ public class ForegroundColorGenerationTask extends ColorAdjustmentTask {
     private static final double DEFAULT_COLOR_ADJUSTED_FG_DIFFERENCE = 0.8;
     private static final double MIN_FOREGROUND_DIFFERENCE = 0.5;
 
+    private static final DerivedColorCache.Derivation[] ADJUST_SUGGESTED_FOREGROUND =
+            createForegroundAdjustments(true);
+    private static final DerivedColorCache.Derivation[] ADJUST_DEFAULT_FOREGROUND =
+            createForegroundAdjustments(false);
+
     @Override
     protected void beforeTask(final Theme currentTheme, final Properties properties) {
         super.beforeTask(currentTheme, properties);
@@ -120,21 +124,25 @@ public class ForegroundColorGenerationTask extends ColorAdjustmentTask {
 
     public static ColorUIResource makeAdjustedForeground(final Color fgSuggestion, final Color bg, final Bias bias,
             final double minimumBrightnessDifference, final double backgroundBiasThreshold) {
-        Color fg = fgSuggestion;
-        if (fg == null) {
-            double[] hsbBG = DarkColorModelHSB.RGBtoHSBValues(bg.getRed(), bg.getGreen(), bg.getBlue());
-            fg = DarkColorModelHSB.getColorFromHSBValues(hsbBG[0], 0, 1 - hsbBG[2]);
-        }
+        Bias b = bias != null ? bias : Bias.BACKGROUND;
+        DerivedColorCache.Derivation adjustment = fgSuggestion != null
+                ? ADJUST_SUGGESTED_FOREGROUND[b.ordinal()]
+                : ADJUST_DEFAULT_FOREGROUND[b.ordinal()];
+        return DerivedColorCache.get(adjustment, fgSuggestion != null ? fgSuggestion.getRGB() : 0, bg.getRGB(),
+                minimumBrightnessDifference, backgroundBiasThreshold);
+    }
 
-        final double[] hslFG = DarkColorModelHSL.RGBtoHSLValues(fg.getRed(), fg.getGreen(), fg.getBlue());
-        final double[] hslBG = DarkColorModelHSL.RGBtoHSLValues(bg.getRed(), bg.getGreen(), bg.getBlue());
+    private static int adjustForeground(final int fg, final int bg, final Bias bias,
+            final double minimumBrightnessDifference, final double backgroundBiasThreshold) {
+        final double[] hslFG = PackedColor.toHSL(fg, new double[3]);
+        final double[] hslBG = PackedColor.toHSL(bg, new double[3]);
         double bgBrightness = hslBG[2];
         double fgBrightness = hslFG[2];
 
-        Bias b = bias != null ? bias : Bias.BACKGROUND;
+        Bias b = bias;
 
         if (b == Bias.BACKGROUND) {
-            double bgBright = ColorUtil.getLuminance(bg);
+            double bgBright = PackedColor.luminance(bg);
             double threshold = backgroundBiasThreshold < 0 ? 0.5 : backgroundBiasThreshold;
             b = bgBright <= threshold ? Bias.WHITE : Bias.BLACK;
         }
@@ -147,7 +155,44 @@ public class ForegroundColorGenerationTask extends ColorAdjustmentTask {
                 : Math.max(bgBrightness - minimumBrightnessDifference, 0);
 
         double brightness = b == Bias.WHITE ? bright1 : bright2;
-        return new DarkColorUIResource(DarkColorModelHSL.getColorFromHSLValues(hslFG[0], hslFG[1], brightness));
+        return PackedColor.fromHSL(hslFG[0], hslFG[1], brightness);
+    }
+
+    private static int defaultForeground(final int bg) {
+        float[] hsbBG = PackedColor.toHSB(bg, null);
+        return PackedColor.fromHSB(hsbBG[0], 0, 1 - (double) hsbBG[2]);
+    }
+
+    private static DerivedColorCache.Derivation[] createForegroundAdjustments(final boolean suggested) {
+        Bias[] biases = Bias.values();
+        DerivedColorCache.Derivation[] adjustments = new DerivedColorCache.Derivation[biases.length];
+        for (Bias bias : biases) {
+            adjustments[bias.ordinal()] = new ForegroundAdjustment(bias, suggested);
+        }
+        return adjustments;
+    }
+
+    private static final class ForegroundAdjustment implements DerivedColorCache.Derivation {
+
+        private final Bias bias;
+        private final boolean suggested;
+
+        private ForegroundAdjustment(final Bias bias, final boolean suggested) {
+            this.bias = bias;
+            this.suggested = suggested;
+        }
+
+        @Override
+        public int derive(final int fg, final int bg, final double minimumBrightnessDifference,
+                final double backgroundBiasThreshold) {
+            return adjustForeground(suggested ? fg : defaultForeground(bg), bg, bias, minimumBrightnessDifference,
+                    backgroundBiasThreshold);
+        }
+
+        @Override
+        public ColorUIResource createColor(final int argb) {
+            return new DarkColorUIResource(argb);
+        }
     }
 
     public enum Bias {
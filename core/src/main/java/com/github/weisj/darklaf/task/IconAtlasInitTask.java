@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.task;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.*;
+
+import com.github.weisj.darklaf.DarkLaf;
+import com.github.weisj.darklaf.LafManager;
+import com.github.weisj.darklaf.iconset.IconSet;
+import com.github.weisj.darklaf.properties.icons.IconAtlas;
+import com.github.weisj.darklaf.properties.icons.IconLoader;
+import com.github.weisj.darklaf.theme.Theme;
+import com.github.weisj.darklaf.theme.spec.AccentColorRule;
+
+/**
+ * Installs the atlas of pre-rendered iconset icons if it has been bundled and selects the sheets
+ * matching the current theme. Themes whose icon colors may differ from the stock themes fall back to
+ * rendering the svg icons. Icons whose colors are changed after installation detect this themselves and
+ * fall back to rendering the svg as well.
+ */
+public class IconAtlasInitTask implements DefaultsInitTask {
+
+    public static final String ICON_ATLAS_PATH = "/META-INF/darklaf/icon-atlas/";
+    private static final AtomicBoolean atlasInstalled = new AtomicBoolean(false);
+
+    @Override
+    public void run(final Theme currentTheme, final UIDefaults defaults) {
+        IconLoader iconLoader = IconLoader.get(IconSet.class);
+        if (atlasInstalled.compareAndSet(false, true)) {
+            iconLoader.setIconAtlas(IconAtlas.load(path -> DarkLaf.class.getResource(ICON_ATLAS_PATH + path)));
+        }
+        boolean useAtlas = iconLoader.getIconAtlas() != null
+                && LafManager.getUserInitTasks().isEmpty()
+                && AccentColorRule.getDefault().equals(currentTheme.getAccentColorRule());
+        IconLoader.updateAtlasTheme(useAtlas ? getAtlasThemeId(currentTheme) : null);
+    }
+
+    /**
+     * Returns the id under which the icons of the given theme are stored in the icon atlas.
+     *
+     * @param theme the theme.
+     * @return the atlas id.
+     */
+    public static String getAtlasThemeId(final Theme theme) {
+        return theme.getThemeClass().getName();
+    }
+
+    @Override
+    public boolean onlyDuringInstallation() {
+        return true;
+    }
+}
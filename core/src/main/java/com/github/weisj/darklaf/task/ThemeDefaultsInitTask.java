@@ -22,6 +22,7 @@ package com.github.weisj.darklaf.task;
 
 import java.awt.*;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.function.Consumer;
@@ -35,6 +36,8 @@ import com.github.weisj.darklaf.platform.SystemInfo;
 import com.github.weisj.darklaf.properties.PropertyLoader;
 import com.github.weisj.darklaf.properties.icons.IconResolver;
 import com.github.weisj.darklaf.theme.Theme;
+import com.github.weisj.darklaf.trace.ThemeInstallTrace;
+import com.github.weisj.darklaf.trace.internal.ThemeInstallTracer;
 import com.github.weisj.darklaf.ui.util.DarkUIUtil;
 import com.github.weisj.darklaf.util.PropertyUtil;
 
@@ -65,7 +68,7 @@ public class ThemeDefaultsInitTask implements DefaultsInitTask {
     }
 
     private void loadThemeDefaults(final Theme currentTheme, final UIDefaults defaults) {
-        Properties uiProps = new Properties();
+        ModificationCountingProperties uiProps = new ModificationCountingProperties();
         initPlatformPredefinitions(uiProps, defaults);
 
         currentTheme.loadDefaults(uiProps, defaults, DarkUIUtil.iconResolver());
@@ -75,13 +78,13 @@ public class ThemeDefaultsInitTask implements DefaultsInitTask {
          * User preferences need to be applied here so changes are applied to all components that use the
          * property.
          */
-        userPreferenceAdjustment.run(currentTheme, uiProps);
+        runAdjustment(userPreferenceAdjustment, currentTheme, uiProps);
 
         /*
          * Adjust the accent/selection colors.
          */
-        accentColorAdjustment.run(currentTheme, uiProps);
-        foregroundGeneration.run(currentTheme, uiProps);
+        runAdjustment(accentColorAdjustment, currentTheme, uiProps);
+        runAdjustment(foregroundGeneration, currentTheme, uiProps);
 
         initGlobals(currentTheme, defaults, uiProps);
         initTemporaryBindings(defaults, uiProps);
@@ -97,6 +100,14 @@ public class ThemeDefaultsInitTask implements DefaultsInitTask {
         defaults.putAll(uiProps);
     }
 
+    private void runAdjustment(final DefaultsAdjustmentTask task, final Theme currentTheme,
+            final ModificationCountingProperties uiProps) {
+        ThemeInstallTracer.Span span = ThemeInstallTracer.startTask(task, ThemeInstallTrace.TaskKind.ADJUSTMENT);
+        int modificationCount = uiProps.modificationCount;
+        task.run(currentTheme, uiProps);
+        span.finish(uiProps.modificationCount - modificationCount);
+    }
+
     public static void initPlatformPredefinitions(final Properties uiProps, final UIDefaults defaults) {
         IconResolver iconResolver = DarkUIUtil.iconResolver();
         Consumer<String> osPlatformLoader = osName -> PropertyLoader.putProperties(
@@ -201,4 +212,43 @@ public class ThemeDefaultsInitTask implements DefaultsInitTask {
             uiProps.remove("MenuBarUI");
         }
     }
+
+    /*
+     * Counts the keys put into or removed from the properties, so the trace reports keys which have been
+     * overwritten or removed by an adjustment task.
+     */
+    private static final class ModificationCountingProperties extends Properties {
+        private int modificationCount;
+
+        @Override
+        @SuppressWarnings("UnsynchronizedOverridesSynchronized")
+        public Object put(final Object key, final Object value) {
+            modificationCount++;
+            return super.put(key, value);
+        }
+
+        @Override
+        @SuppressWarnings("UnsynchronizedOverridesSynchronized")
+        public void putAll(final Map<?, ?> t) {
+            // Properties#putAll doesn't delegate to #put on newer versions of Java.
+            for (Map.Entry<?, ?> entry : t.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        @Override
+        @SuppressWarnings("UnsynchronizedOverridesSynchronized")
+        public Object remove(final Object key) {
+            Object value = super.remove(key);
+            if (value != null) modificationCount++;
+            return value;
+        }
+
+        @Override
+        @SuppressWarnings("UnsynchronizedOverridesSynchronized")
+        public void clear() {
+            modificationCount += size();
+            super.clear();
+        }
+    }
 }
@@ -30,6 +30,7 @@ import com.github.weisj.darklaf.properties.icons.IconLoader;
 import com.github.weisj.darklaf.swingdsl.DarklafComponentFactory;
 import com.github.weisj.darklaf.theme.ColorPalette;
 import com.github.weisj.darklaf.theme.Theme;
+import com.github.weisj.darklaf.trace.internal.ThemeInstallTracer;
 import com.github.weisj.darklaf.ui.cell.CellUtil;
 import com.github.weisj.swingdsl.laf.ComponentFactory;
 
@@ -58,7 +59,9 @@ public class UtilityDefaultsInitTask implements DefaultsInitTask {
 
         IconLoader.updateAwareStyle(Theme.isDark(currentTheme) ? AwareIconStyle.DARK : AwareIconStyle.LIGHT);
         IconLoader.updateThemeStatus(new Object());
+        ThemeInstallTracer.iconsInvalidated(IconLoader.getCachedIconCount());
         IconLoader.reloadFrameIcons();
+        ThemeInstallTracer.iconsInvalidated(IconLoader.getFrameIconCount());
 
         ColorPalette.invalidatePalette();
 
@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.trace;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.github.weisj.darklaf.theme.Theme;
+
+/**
+ * Breakdown of the time spent installing a theme. Traces are reported to {@link ThemeInstallTraceListener}s after
+ * the installation has finished.
+ * <p>
+ * All durations are given in nanoseconds.
+ */
+public final class ThemeInstallTrace {
+
+    private final Theme theme;
+    private final long duration;
+    private final List<TaskTrace> tasks;
+    private final List<WindowUpdateTrace> windowUpdates;
+    private final int iconInvalidations;
+
+    public ThemeInstallTrace(final Theme theme, final long duration, final List<TaskTrace> tasks,
+            final List<WindowUpdateTrace> windowUpdates, final int iconInvalidations) {
+        this.theme = theme;
+        this.duration = duration;
+        this.tasks = Collections.unmodifiableList(tasks);
+        this.windowUpdates = Collections.unmodifiableList(windowUpdates);
+        this.iconInvalidations = iconInvalidations;
+    }
+
+    /**
+     * @return the theme which has been installed.
+     */
+    public Theme getTheme() {
+        return theme;
+    }
+
+    /**
+     * @return the total duration of the installation.
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return the defaults tasks in the order they have been executed.
+     */
+    public List<TaskTrace> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * @return the updates of the component trees, one for each window.
+     */
+    public List<WindowUpdateTrace> getWindowUpdates() {
+        return windowUpdates;
+    }
+
+    /**
+     * @return the number of cached icons and frame icons which have been invalidated.
+     */
+    public int getIconInvalidations() {
+        return iconInvalidations;
+    }
+
+    @Override
+    public String toString() {
+        return "ThemeInstallTrace{" +
+                "theme=" + theme +
+                ", duration=" + duration +
+                ", tasks=" + tasks +
+                ", windowUpdates=" + windowUpdates +
+                ", iconInvalidations=" + iconInvalidations +
+                '}';
+    }
+
+    public enum TaskKind {
+        /**
+         * A {@link com.github.weisj.darklaf.task.DefaultsInitTask}.
+         */
+        INIT,
+        /**
+         * A {@link com.github.weisj.darklaf.task.DefaultsAdjustmentTask}.
+         */
+        ADJUSTMENT
+    }
+
+    public static final class TaskTrace {
+        private final String name;
+        private final TaskKind kind;
+        private final long duration;
+        private final int keyCount;
+
+        public TaskTrace(final String name, final TaskKind kind, final long duration, final int keyCount) {
+            this.name = name;
+            this.kind = kind;
+            this.duration = duration;
+            this.keyCount = keyCount;
+        }
+
+        /**
+         * @return the class name of the task.
+         */
+        public String getName() {
+            return name;
+        }
+
+        public TaskKind getKind() {
+            return kind;
+        }
+
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * @return the number of keys the task put into or removed from the defaults or properties.
+         */
+        public int getKeyCount() {
+            return keyCount;
+        }
+
+        @Override
+        public String toString() {
+            return name + "[" + kind + ", duration=" + duration + ", keys=" + keyCount + "]";
+        }
+    }
+
+    public static final class WindowUpdateTrace {
+        private final String window;
+        private final long duration;
+        private final int componentCount;
+
+        public WindowUpdateTrace(final String window, final long duration, final int componentCount) {
+            this.window = window;
+            this.duration = duration;
+            this.componentCount = componentCount;
+        }
+
+        /**
+         * @return the name of the window.
+         */
+        public String getWindow() {
+            return window;
+        }
+
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * @return the number of components, whose ui has been updated.
+         */
+        public int getComponentCount() {
+            return componentCount;
+        }
+
+        @Override
+        public String toString() {
+            return window + "[duration=" + duration + ", components=" + componentCount + "]";
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.trace.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.weisj.darklaf.util.LogUtil;
+
+/*
+ * Custom JFR events. The library targets Java 8, hence the events are defined at runtime through
+ * jdk.jfr.EventFactory using reflection. If the jdk.jfr module isn't available all events are disabled.
+ */
+final class JfrEvents {
+
+    private static final Logger LOGGER = LogUtil.getLogger(JfrEvents.class);
+    private static final String[] CATEGORY = {"Darklaf", "Theme"};
+
+    static final JfrEvents INSTALL = new JfrEvents("com.github.weisj.darklaf.ThemeInstall", "Theme Install",
+            new String[] {"theme", "windows", "components", "iconInvalidations"},
+            new Class<?>[] {String.class, int.class, int.class, int.class});
+    static final JfrEvents TASK = new JfrEvents("com.github.weisj.darklaf.ThemeInstallTask", "Theme Install Task",
+            new String[] {"theme", "task", "kind", "keys"},
+            new Class<?>[] {String.class, String.class, String.class, int.class});
+    static final JfrEvents WINDOW_UPDATE = new JfrEvents("com.github.weisj.darklaf.ThemeWindowUpdate",
+            "Theme Window Update",
+            new String[] {"theme", "window", "components"},
+            new Class<?>[] {String.class, String.class, int.class});
+
+    private Object factory;
+    private Method newEvent;
+    private Method isEnabled;
+    private Method begin;
+    private Method end;
+    private Method set;
+    private Method shouldCommit;
+    private Method commit;
+
+    private JfrEvents(final String name, final String label, final String[] fields, final Class<?>[] types) {
+        try {
+            Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+            Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+            Class<?> factoryClass = Class.forName("jdk.jfr.EventFactory");
+            Class<?> eventClass = Class.forName("jdk.jfr.Event");
+            Constructor<?> annotationElement = annotationElementClass.getConstructor(Class.class, Object.class);
+            Constructor<?> valueDescriptor = valueDescriptorClass.getConstructor(Class.class, String.class);
+
+            List<Object> annotations = new ArrayList<>();
+            annotations.add(annotationElement.newInstance(annotation("jdk.jfr.Name"), name));
+            annotations.add(annotationElement.newInstance(annotation("jdk.jfr.Label"), label));
+            annotations.add(annotationElement.newInstance(annotation("jdk.jfr.Category"), CATEGORY));
+            List<Object> descriptors = new ArrayList<>(fields.length);
+            for (int i = 0; i < fields.length; i++) {
+                descriptors.add(valueDescriptor.newInstance(types[i], fields[i]));
+            }
+            factory = factoryClass.getMethod("create", List.class, List.class).invoke(null, annotations, descriptors);
+            newEvent = factoryClass.getMethod("newEvent");
+            isEnabled = eventClass.getMethod("isEnabled");
+            begin = eventClass.getMethod("begin");
+            end = eventClass.getMethod("end");
+            set = eventClass.getMethod("set", int.class, Object.class);
+            shouldCommit = eventClass.getMethod("shouldCommit");
+            commit = eventClass.getMethod("commit");
+        } catch (final ClassNotFoundException e) {
+            factory = null;
+        } catch (final ReflectiveOperationException | RuntimeException | LinkageError e) {
+            LOGGER.log(Level.FINE, "Could not create JFR event " + name, e);
+            factory = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> annotation(final String name) throws ClassNotFoundException {
+        return (Class<? extends Annotation>) Class.forName(name);
+    }
+
+    /**
+     * Creates and begins a new event.
+     *
+     * @return the event or null if events are unavailable or disabled.
+     */
+    Object begin() {
+        if (factory == null) return null;
+        try {
+            Object event = newEvent.invoke(factory);
+            if (!(Boolean) isEnabled.invoke(event)) return null;
+            begin.invoke(event);
+            return event;
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            disable(e);
+            return null;
+        }
+    }
+
+    /**
+     * Ends and commits an event returned by {@link #begin()}.
+     *
+     * @param event the event. If null nothing is done.
+     * @param values the values of the fields in the order they have been declared.
+     */
+    void commit(final Object event, final Object... values) {
+        if (event == null || factory == null) return;
+        try {
+            end.invoke(event);
+            if (!(Boolean) shouldCommit.invoke(event)) return;
+            for (int i = 0; i < values.length; i++) {
+                set.invoke(event, i, values[i]);
+            }
+            commit.invoke(event);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            disable(e);
+        }
+    }
+
+    private void disable(final Exception e) {
+        LOGGER.log(Level.FINE, "Disabling JFR events", e);
+        factory = null;
+    }
+}
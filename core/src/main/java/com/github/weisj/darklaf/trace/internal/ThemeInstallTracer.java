@@ -0,0 +1,207 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.trace.internal;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.weisj.darklaf.theme.Theme;
+import com.github.weisj.darklaf.trace.ThemeInstallTrace;
+import com.github.weisj.darklaf.trace.ThemeInstallTraceListener;
+import com.github.weisj.darklaf.util.LogUtil;
+
+/**
+ * Records the time spent in the individual steps of a theme installation. A recording is only made if a
+ * {@link ThemeInstallTraceListener} is registered or the corresponding JFR events are enabled. Otherwise all methods
+ * return immediately.
+ * <p>
+ * This class is used by the installation code of darklaf and isn't intended to be used directly. Use
+ * {@link com.github.weisj.darklaf.LafManager#addThemeInstallTraceListener(ThemeInstallTraceListener)} to receive
+ * traces.
+ */
+public final class ThemeInstallTracer {
+
+    private static final Logger LOGGER = LogUtil.getLogger(ThemeInstallTracer.class);
+    private static final List<ThemeInstallTraceListener> listeners = new CopyOnWriteArrayList<>();
+    private static volatile Recording recording;
+
+    private ThemeInstallTracer() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void addListener(final ThemeInstallTraceListener listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeListener(final ThemeInstallTraceListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Starts recording the installation of the given theme on the current thread.
+     *
+     * @param theme the theme being installed.
+     */
+    public static void begin(final Theme theme) {
+        if (recording != null) return;
+        Object installEvent = JfrEvents.INSTALL.begin();
+        if (installEvent == null && listeners.isEmpty()) return;
+        recording = new Recording(theme, installEvent);
+    }
+
+    /**
+     * Finishes the current recording and reports it.
+     */
+    public static void finish() {
+        Recording r = current();
+        if (r == null) return;
+        recording = null;
+        ThemeInstallTrace trace = new ThemeInstallTrace(r.theme, System.nanoTime() - r.start, r.tasks,
+                r.windowUpdates, r.iconInvalidations);
+        int componentCount = 0;
+        for (ThemeInstallTrace.WindowUpdateTrace update : r.windowUpdates) {
+            componentCount += update.getComponentCount();
+        }
+        JfrEvents.INSTALL.commit(r.installEvent, r.themeName, r.windowUpdates.size(), componentCount,
+                r.iconInvalidations);
+        for (ThemeInstallTraceListener listener : listeners) {
+            try {
+                listener.themeInstallTraced(trace);
+            } catch (final RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Theme install trace listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * Starts timing a defaults task.
+     *
+     * @param task the task.
+     * @param kind the kind of the task.
+     * @return the span to finish once the task has completed.
+     */
+    public static Span startTask(final Object task, final ThemeInstallTrace.TaskKind kind) {
+        Recording r = current();
+        if (r == null) return Span.NONE;
+        String name = task.getClass().getName();
+        return new Span(JfrEvents.TASK.begin()) {
+            @Override
+            public void finish(final int keyCount) {
+                long duration = System.nanoTime() - start;
+                r.tasks.add(new ThemeInstallTrace.TaskTrace(name, kind, duration, keyCount));
+                JfrEvents.TASK.commit(event, r.themeName, name, kind.name(), keyCount);
+            }
+        };
+    }
+
+    /**
+     * Starts timing the update of the component tree of a window.
+     *
+     * @param window the window.
+     * @return the span to finish once the component tree has been updated.
+     */
+    public static Span startWindowUpdate(final Window window) {
+        Recording r = current();
+        if (r == null) return Span.NONE;
+        String name = windowName(window);
+        return new Span(JfrEvents.WINDOW_UPDATE.begin()) {
+            @Override
+            public void finish(final int componentCount) {
+                long duration = System.nanoTime() - start;
+                r.windowUpdates.add(new ThemeInstallTrace.WindowUpdateTrace(name, duration, componentCount));
+                JfrEvents.WINDOW_UPDATE.commit(event, r.themeName, name, componentCount);
+            }
+        };
+    }
+
+    /**
+     * Records that cached icons have been invalidated.
+     *
+     * @param count the number of invalidated icons.
+     */
+    public static void iconsInvalidated(final int count) {
+        Recording r = current();
+        if (r != null) r.iconInvalidations += count;
+    }
+
+    /**
+     * @return whether the current thread is recording an installation.
+     */
+    public static boolean isRecording() {
+        return current() != null;
+    }
+
+    private static Recording current() {
+        Recording r = recording;
+        return r != null && r.thread == Thread.currentThread() ? r : null;
+    }
+
+    private static String windowName(final Window window) {
+        String title = null;
+        if (window instanceof Frame) {
+            title = ((Frame) window).getTitle();
+        } else if (window instanceof Dialog) {
+            title = ((Dialog) window).getTitle();
+        }
+        String name = window.getClass().getSimpleName();
+        if (name.isEmpty()) name = window.getClass().getName();
+        return title != null && !title.isEmpty() ? name + " \"" + title + "\"" : name + " " + window.getName();
+    }
+
+    public static class Span {
+        private static final Span NONE = new Span(null);
+
+        final long start = System.nanoTime();
+        final Object event;
+
+        private Span(final Object event) {
+            this.event = event;
+        }
+
+        /**
+         * Finishes the span.
+         *
+         * @param count the number of keys or components processed.
+         */
+        public void finish(final int count) {}
+    }
+
+    private static final class Recording {
+        private final Theme theme;
+        private final String themeName;
+        private final Thread thread = Thread.currentThread();
+        private final long start = System.nanoTime();
+        private final Object installEvent;
+        private final List<ThemeInstallTrace.TaskTrace> tasks = new ArrayList<>();
+        private final List<ThemeInstallTrace.WindowUpdateTrace> windowUpdates = new ArrayList<>();
+        private int iconInvalidations;
+
+        private Recording(final Theme theme, final Object installEvent) {
+            this.theme = theme;
+            this.themeName = String.valueOf(theme);
+            this.installEvent = installEvent;
+        }
+    }
+}
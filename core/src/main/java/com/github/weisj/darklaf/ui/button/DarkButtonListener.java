@@ -27,6 +27,8 @@ import java.beans.PropertyChangeEvent;
 import javax.swing.*;
 import javax.swing.plaf.basic.BasicButtonListener;
 
+import com.github.weisj.darklaf.util.PropertyKey;
+
 public class DarkButtonListener<T extends DarkButtonUI> extends BasicButtonListener {
 
     protected final T ui;
@@ -83,7 +85,9 @@ public class DarkButtonListener<T extends DarkButtonUI> extends BasicButtonListe
         super.propertyChange(e);
         AbstractButton b = (AbstractButton) e.getSource();
         String key = e.getPropertyName();
-        if (key.startsWith("JButton.")) {
+        if (PropertyKey.FONT.equals(key)) {
+            ui.updateDefaultButtonFont(b);
+        } else if (key.startsWith("JButton.")) {
             ui.updateMargins(b);
             b.doLayout();
             b.repaint();
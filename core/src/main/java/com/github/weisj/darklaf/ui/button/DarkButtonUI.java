@@ -40,9 +40,11 @@ import com.github.weisj.darklaf.swingdsl.VisualPaddingListener;
 import com.github.weisj.darklaf.ui.togglebutton.ToggleButtonFocusNavigationActions;
 import com.github.weisj.darklaf.ui.tooltip.ToolTipConstants;
 import com.github.weisj.darklaf.ui.util.DarkUIUtil;
+import com.github.weisj.darklaf.ui.util.UIStyleCache;
 import com.github.weisj.darklaf.util.AlignmentExt;
 import com.github.weisj.darklaf.util.PropertyKey;
 import com.github.weisj.darklaf.util.PropertyUtil;
+import com.github.weisj.darklaf.util.cache.FontCache;
 import com.github.weisj.darklaf.util.graphics.GraphicsContext;
 import com.github.weisj.darklaf.util.graphics.GraphicsUtil;
 import com.github.weisj.darklaf.util.value.CleanupTask;
@@ -57,6 +59,7 @@ public class DarkButtonUI extends BasicButtonUI implements ButtonConstants {
 
     protected AbstractButtonLayoutDelegate layoutDelegate;
     protected boolean isDefaultButton = false;
+    protected Font defaultButtonFont;
 
     protected final Rectangle viewRect = new Rectangle();
     protected final Rectangle textRect = new Rectangle();
@@ -108,39 +111,35 @@ public class DarkButtonUI extends BasicButtonUI implements ButtonConstants {
     protected void installDefaults(final AbstractButton b) {
         super.installDefaults(b);
         b.setLayout(createLayout());
-        PropertyUtil.installProperty(b, ToolTipConstants.KEY_STYLE,
-                ToolTipStyle.parse(UIManager.get("Button.toolTipStyle")));
+        ButtonStyle style = UIStyleCache.getStyle(ButtonStyle.class, ButtonStyle::new);
+        PropertyUtil.installProperty(b, ToolTipConstants.KEY_STYLE, style.toolTipStyle);
         LookAndFeel.installProperty(b, PropertyKey.OPAQUE, false);
-        borderSize = UIManager.getInt("Button.borderThickness");
-        shadowHeight = UIManager.getInt("Button.shadowHeight");
-        shadowColor = UIManager.getColor("Button.shadow");
-        inactiveForeground = UIManager.getColor("Button.disabledText");
-        defaultForeground = UIManager.getColor("Button.selectedButtonForeground");
-        defaultBackground = UIManager.getColor("Button.defaultFillColor");
-        defaultHoverBackground = UIManager.getColor("Button.defaultFillColorRollOver");
-        defaultClickBackground = UIManager.getColor("Button.defaultFillColorClick");
-        background = UIManager.getColor("Button.activeFillColor");
-        hoverBackground = UIManager.getColor("Button.activeFillColorRollOver");
-        clickBackground = UIManager.getColor("Button.activeFillColorClick");
-        inactiveBackground = UIManager.getColor("Button.inactiveFillColor");
-        borderlessHover = UIManager.getColor("Button.borderless.hover");
-        borderlessClick = UIManager.getColor("Button.borderless.click");
-        borderlessOutlineHover = UIManager.getColor("Button.borderless.outline.hover");
-        borderlessOutlineClick = UIManager.getColor("Button.borderless.outline.click");
-        arc = UIManager.getInt("Button.arc");
-        altArc = UIManager.getInt("Button.altArc");
-        drawOutline = UIManager.getBoolean("Button.borderless.drawOutline");
-        insets = UIManager.getInsets("Button.borderInsets");
-        thinInsets = UIManager.getInsets("Button.thinBorderInsets");
-        squareInsets = UIManager.getInsets("Button.squareBorderInsets");
-        squareThinInsets = UIManager.getInsets("Button.squareThinBorderInsets");
-        borderlessRectangularInsets = UIManager.getInsets("Button.borderlessRectangularInsets");
-        if (insets == null) insets = new Insets(0, 0, 0, 0);
-        if (thinInsets == null) thinInsets = new Insets(0, 0, 0, 0);
-        if (squareThinInsets == null) squareThinInsets = new Insets(0, 0, 0, 0);
-        if (squareInsets == null) squareInsets = new Insets(0, 0, 0, 0);
-        if (borderlessRectangularInsets == null) borderlessRectangularInsets = new Insets(0, 0, 0, 0);
+        borderSize = style.borderSize;
+        shadowHeight = style.shadowHeight;
+        shadowColor = style.shadowColor;
+        inactiveForeground = style.inactiveForeground;
+        defaultForeground = style.defaultForeground;
+        defaultBackground = style.defaultBackground;
+        defaultHoverBackground = style.defaultHoverBackground;
+        defaultClickBackground = style.defaultClickBackground;
+        background = style.background;
+        hoverBackground = style.hoverBackground;
+        clickBackground = style.clickBackground;
+        inactiveBackground = style.inactiveBackground;
+        borderlessHover = style.borderlessHover;
+        borderlessClick = style.borderlessClick;
+        borderlessOutlineHover = style.borderlessOutlineHover;
+        borderlessOutlineClick = style.borderlessOutlineClick;
+        arc = style.arc;
+        altArc = style.altArc;
+        drawOutline = style.drawOutline;
+        insets = style.insets;
+        thinInsets = style.thinInsets;
+        squareInsets = style.squareInsets;
+        squareThinInsets = style.squareThinInsets;
+        borderlessRectangularInsets = style.borderlessRectangularInsets;
         updateMargins(b);
+        updateDefaultButtonFont(b);
     }
 
     protected LayoutManager createLayout() {
@@ -478,13 +477,19 @@ public class DarkButtonUI extends BasicButtonUI implements ButtonConstants {
         CleanupTask closeable = layoutDelegate.useWithDelegate(b);
         Font f = b.getFont();
         if (ButtonConstants.isDefaultButton(b) && !f.isBold()) {
-            layoutDelegate.setFont(f.deriveFont(Font.BOLD));
+            if (defaultButtonFont == null) updateDefaultButtonFont(b);
+            layoutDelegate.setFont(defaultButtonFont);
         } else {
             layoutDelegate.setFont(f);
         }
         return closeable;
     }
 
+    public void updateDefaultButtonFont(final AbstractButton b) {
+        Font f = b.getFont();
+        defaultButtonFont = f != null && !f.isBold() ? FontCache.deriveFont(f, Font.BOLD) : f;
+    }
+
     public void updateMargins(final AbstractButton b) {
         Insets margin = b.getMargin();
         if (margin != null && !(margin instanceof UIResource)) return;
@@ -606,4 +611,61 @@ public class DarkButtonUI extends BasicButtonUI implements ButtonConstants {
             iconRect.x = iconRect.y = iconRect.width = iconRect.height = 0;
         }
     }
+
+    private static final class ButtonStyle {
+        private final ToolTipStyle toolTipStyle;
+        private final int borderSize;
+        private final int shadowHeight;
+        private final Color shadowColor;
+        private final Color inactiveForeground;
+        private final Color defaultForeground;
+        private final Color defaultBackground;
+        private final Color defaultHoverBackground;
+        private final Color defaultClickBackground;
+        private final Color background;
+        private final Color hoverBackground;
+        private final Color clickBackground;
+        private final Color inactiveBackground;
+        private final Color borderlessHover;
+        private final Color borderlessClick;
+        private final Color borderlessOutlineHover;
+        private final Color borderlessOutlineClick;
+        private final int arc;
+        private final int altArc;
+        private final boolean drawOutline;
+        private final Insets insets;
+        private final Insets thinInsets;
+        private final Insets squareInsets;
+        private final Insets squareThinInsets;
+        private final Insets borderlessRectangularInsets;
+
+        private ButtonStyle(final UIStyleCache.StyleReader reader) {
+            toolTipStyle = ToolTipStyle.parse(reader.get("Button.toolTipStyle"));
+            borderSize = reader.getInt("Button.borderThickness");
+            shadowHeight = reader.getInt("Button.shadowHeight");
+            shadowColor = reader.getColor("Button.shadow");
+            inactiveForeground = reader.getColor("Button.disabledText");
+            defaultForeground = reader.getColor("Button.selectedButtonForeground");
+            defaultBackground = reader.getColor("Button.defaultFillColor");
+            defaultHoverBackground = reader.getColor("Button.defaultFillColorRollOver");
+            defaultClickBackground = reader.getColor("Button.defaultFillColorClick");
+            background = reader.getColor("Button.activeFillColor");
+            hoverBackground = reader.getColor("Button.activeFillColorRollOver");
+            clickBackground = reader.getColor("Button.activeFillColorClick");
+            inactiveBackground = reader.getColor("Button.inactiveFillColor");
+            borderlessHover = reader.getColor("Button.borderless.hover");
+            borderlessClick = reader.getColor("Button.borderless.click");
+            borderlessOutlineHover = reader.getColor("Button.borderless.outline.hover");
+            borderlessOutlineClick = reader.getColor("Button.borderless.outline.click");
+            arc = reader.getInt("Button.arc");
+            altArc = reader.getInt("Button.altArc");
+            drawOutline = reader.getBoolean("Button.borderless.drawOutline");
+            insets = reader.getInsets("Button.borderInsets", new Insets(0, 0, 0, 0));
+            thinInsets = reader.getInsets("Button.thinBorderInsets", new Insets(0, 0, 0, 0));
+            squareInsets = reader.getInsets("Button.squareBorderInsets", new Insets(0, 0, 0, 0));
+            squareThinInsets = reader.getInsets("Button.squareThinBorderInsets", new Insets(0, 0, 0, 0));
+            borderlessRectangularInsets =
+                    reader.getInsets("Button.borderlessRectangularInsets", new Insets(0, 0, 0, 0));
+        }
+    }
 }
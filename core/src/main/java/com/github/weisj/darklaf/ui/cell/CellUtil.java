@@ -27,6 +27,7 @@ import javax.swing.tree.DefaultTreeCellRenderer;
 
 import com.github.weisj.darklaf.ui.list.DarkListUI;
 import com.github.weisj.darklaf.ui.table.DarkTableUI;
+import com.github.weisj.darklaf.ui.table.TableRenderContext;
 import com.github.weisj.darklaf.ui.table.renderer.IconWrapper;
 import com.github.weisj.darklaf.ui.tree.DarkTreeUI;
 import com.github.weisj.darklaf.ui.util.DarkUIUtil;
@@ -257,6 +258,15 @@ public final class CellUtil {
                 tableCellInactiveForegroundSelectedNoFocus);
     }
 
+    public static void setupTableForeground(final Component comp, final TableRenderContext context,
+            final boolean selected) {
+        setupForeground(comp, context.getTable(), context.hasCellFocus(comp), selected,
+                comp.isEnabled() && context.isEnabled(), tableCellForeground, tableCellForegroundSelected,
+                tableCellForegroundNoFocus, tableCellForegroundSelectedNoFocus, tableCellInactiveForeground,
+                tableCellInactiveForegroundSelected, tableCellInactiveForegroundNoFocus,
+                tableCellInactiveForegroundSelectedNoFocus);
+    }
+
     public static void setupTreeForeground(final Component comp, final JTree parent, final boolean selected) {
         setupForeground(comp, parent, selected, treeCellForeground, treeCellForegroundSelected,
                 treeCellForegroundNoFocus, treeCellForegroundSelectedNoFocus, treeCellInactiveForeground,
@@ -309,11 +319,29 @@ public final class CellUtil {
                 tableCellInactiveBackgroundSelectedNoFocus);
     }
 
+    public static Color getTableBackground(final Component comp, final TableRenderContext context,
+            final boolean selected, final int row) {
+        boolean alt = row % 2 == 1 && context.isAlternateRowColor();
+        boolean focus = context.hasCellFocus(comp);
+        return getColor(comp, focus, selected, alt ? tableCellBackgroundAlternative : tableCellBackground,
+                tableCellBackgroundSelected, alt ? tableCellBackgroundNoFocusAlternative : tableCellBackgroundNoFocus,
+                tableCellBackgroundSelectedNoFocus,
+                alt ? tableCellInactiveBackgroundAlternative : tableCellInactiveBackground,
+                tableCellInactiveBackgroundSelected,
+                alt ? tableCellInactiveBackgroundNoFocusAlternative : tableCellInactiveBackgroundNoFocus,
+                tableCellInactiveBackgroundSelectedNoFocus);
+    }
+
     public static void setupTableBackground(final Component comp, final JTable parent, final boolean selected,
             final int row) {
         setupBackground(comp, getTableBackground(comp, parent, selected, hasFocus(parent, comp), row));
     }
 
+    public static void setupTableBackground(final Component comp, final TableRenderContext context,
+            final boolean selected, final int row) {
+        setupBackground(comp, getTableBackground(comp, context, selected, row));
+    }
+
     public static Color getTreeBackground(final JTree tree, final boolean selected, final int row) {
         return getTreeBackground(tree, tree, selected, hasFocus(tree, tree), row);
     }
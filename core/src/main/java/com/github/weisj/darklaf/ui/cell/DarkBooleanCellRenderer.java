@@ -26,7 +26,9 @@ import javax.swing.*;
 import javax.swing.table.TableCellRenderer;
 import javax.swing.tree.TreeCellRenderer;
 
+import com.github.weisj.darklaf.ui.table.DarkTableUI;
 import com.github.weisj.darklaf.ui.table.TableConstants;
+import com.github.weisj.darklaf.ui.table.TableRenderContext;
 import com.github.weisj.darklaf.ui.tree.DarkTreeUI;
 import com.github.weisj.darklaf.util.PropertyUtil;
 
@@ -56,6 +58,8 @@ public class DarkBooleanCellRenderer implements TableCellRenderer, TreeCellRende
     }
 
     protected ComponentBasedTableCellRenderer getBooleanRenderer(final JTable table) {
+        TableRenderContext context = DarkTableUI.getRenderContext(table);
+        if (context != null) return getRenderer(context.isRadioButtonRenderType());
         return getRenderer(PropertyUtil.isPropertyEqual(table,
                 TableConstants.KEY_BOOLEAN_RENDER_TYPE, CellConstants.RENDER_TYPE_RADIOBUTTON));
     }
@@ -27,6 +27,8 @@ import javax.swing.border.Border;
 
 import com.github.weisj.darklaf.components.tree.LabeledTreeNode;
 import com.github.weisj.darklaf.components.tristate.TristateCheckBox;
+import com.github.weisj.darklaf.ui.table.DarkTableUI;
+import com.github.weisj.darklaf.ui.table.TableRenderContext;
 import com.github.weisj.darklaf.ui.togglebutton.ToggleButtonConstants;
 import com.github.weisj.darklaf.ui.tree.DarkTreeCellRendererDelegate;
 import com.github.weisj.darklaf.ui.util.DarkUIUtil;
@@ -59,8 +61,10 @@ public class DarkCellRendererToggleButton<T extends JToggleButton & CellToggleBu
         toggleButton.setHasFocus(focus);
         toggleButton.setBorder(border);
 
-        updateIcon(table.isCellEditable(row, column), isSelected && DarkUIUtil.hasFocus(table));
-        toggleButton.setEnabled(table.isEnabled());
+        TableRenderContext context = DarkTableUI.getRenderContext(table);
+        boolean tableFocused = context != null ? context.isTableFocused() : DarkUIUtil.hasFocus(table);
+        updateIcon(table.isCellEditable(row, column), isSelected && tableFocused);
+        toggleButton.setEnabled(context != null ? context.isEnabled() : table.isEnabled());
 
         return toggleButton;
     }
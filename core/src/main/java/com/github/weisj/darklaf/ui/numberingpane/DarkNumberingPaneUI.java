@@ -47,6 +47,7 @@ import com.github.weisj.darklaf.components.text.NumberingPane;
 import com.github.weisj.darklaf.ui.util.DarkUIUtil;
 import com.github.weisj.darklaf.util.LogUtil;
 import com.github.weisj.darklaf.util.PropertyKey;
+import com.github.weisj.darklaf.util.cache.FontCache;
 import com.github.weisj.darklaf.util.graphics.GraphicsContext;
 import com.github.weisj.darklaf.util.graphics.GraphicsUtil;
 
@@ -65,6 +66,7 @@ public class DarkNumberingPaneUI extends ComponentUI {
     protected JViewport viewport;
     protected int maxIconWidth = 0;
     protected Color oldBackground;
+    protected Font numberingFont;
 
     public static ComponentUI createUI(final JComponent c) {
         return new DarkNumberingPaneUI();
@@ -87,6 +89,7 @@ public class DarkNumberingPaneUI extends ComponentUI {
         LookAndFeel.installProperty(c, PropertyKey.OPAQUE, true);
         LookAndFeel.installBorder(c, "NumberingPane.border");
         maxIconWidth = calculateMaxIconWidth();
+        updateNumberingFont();
     }
 
     protected void installListeners(final JComponent c) {
@@ -194,7 +197,7 @@ public class DarkNumberingPaneUI extends ComponentUI {
         GraphicsContext config = GraphicsUtil.setupAntialiasing(g);
         g.setColor(numberingPane.getForeground());
 
-        Font font = getNumberingFont(numberingPane.getTextComponent(), g, numberingPane.getFont());
+        Font font = numberingFont != null ? numberingFont : g.getFont();
         g.setFont(font);
         FontMetrics fm = numberingPane.getFontMetrics(font);
 
@@ -214,20 +217,15 @@ public class DarkNumberingPaneUI extends ComponentUI {
         config.restore();
     }
 
-    private Font getNumberingFont(final JComponent c, final Graphics g, final Font f) {
-        Font baseFont = c.getFont();
-        Font font = f;
-        if (font instanceof UIResource) {
-            int newSize = baseFont.getSize() - 1;
-            if (newSize > 0) {
-                font = font.deriveFont((float) newSize);
-            } else {
-                font = font.deriveFont(baseFont.getSize2D());
-            }
-        } else {
-            font = g.getFont();
+    protected void updateNumberingFont() {
+        Font font = numberingPane != null ? numberingPane.getFont() : null;
+        if (textComponent == null || !(font instanceof UIResource)) {
+            numberingFont = null;
+            return;
         }
-        return font;
+        Font baseFont = textComponent.getFont();
+        int newSize = baseFont.getSize() - 1;
+        numberingFont = FontCache.deriveFont(font, newSize > 0 ? (float) newSize : baseFont.getSize2D());
     }
 
     protected void paintIcons(final Graphics g, final int startLine, final int endLine, final Element root) {
@@ -389,6 +387,7 @@ public class DarkNumberingPaneUI extends ComponentUI {
                     oldBackground = textComponent.getBackground();
                     textComponent.setBackground(UIManager.getColor("NumberingPane.textBackground"));
                 }
+                updateNumberingFont();
             } else if (NumberingPane.KEY_ICONS.equals(key)) {
                 Object oldVal = evt.getOldValue();
                 Object newVal = evt.getNewValue();
@@ -404,6 +403,8 @@ public class DarkNumberingPaneUI extends ComponentUI {
                 }
             } else if (NumberingPane.KEY_MIN_ICON_WIDTH.equals(key)) {
                 maxIconWidth = calculateMaxIconWidth();
+            } else if (PropertyKey.FONT.equals(key)) {
+                updateNumberingFont();
             }
         }
     }
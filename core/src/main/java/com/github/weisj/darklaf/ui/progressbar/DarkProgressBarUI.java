@@ -21,8 +21,9 @@
 package com.github.weisj.darklaf.ui.progressbar;
 
 import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
 import java.awt.geom.AffineTransform;
-import java.awt.geom.Rectangle2D;
 import java.awt.geom.RoundRectangle2D;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
@@ -35,6 +36,7 @@ import com.github.weisj.darklaf.Customization;
 import com.github.weisj.darklaf.ui.util.DarkUIUtil;
 import com.github.weisj.darklaf.util.PropertyKey;
 import com.github.weisj.darklaf.util.PropertyUtil;
+import com.github.weisj.darklaf.util.Scale;
 import com.github.weisj.darklaf.util.graphics.GraphicsContext;
 import com.github.weisj.darklaf.util.graphics.GraphicsUtil;
 
@@ -58,6 +60,15 @@ public class DarkProgressBarUI extends BasicProgressBarUI implements PropertyCha
     private Color passedEndColor;
     private int stripeWidth;
 
+    private final Rectangle paintRect = new Rectangle();
+    private final RoundRectangle2D.Float indeterminateShape = new RoundRectangle2D.Float();
+    private final HierarchyListener showingListener = e -> {
+        if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0
+                && IndeterminateProgressAnimator.isRegistered(this)) {
+            IndeterminateProgressAnimator.updateTimer();
+        }
+    };
+
     public static ComponentUI createUI(final JComponent c) {
         return new DarkProgressBarUI();
     }
@@ -70,12 +81,44 @@ public class DarkProgressBarUI extends BasicProgressBarUI implements PropertyCha
     protected void installListeners() {
         super.installListeners();
         progressBar.addPropertyChangeListener(this);
+        progressBar.addHierarchyListener(showingListener);
     }
 
     @Override
     protected void uninstallListeners() {
         super.uninstallListeners();
         progressBar.removePropertyChangeListener(this);
+        progressBar.removeHierarchyListener(showingListener);
+        IndeterminateProgressAnimator.unregister(this);
+    }
+
+    @Override
+    protected void startAnimationTimer() {
+        IndeterminateProgressAnimator.register(this, getRepaintInterval());
+    }
+
+    /**
+     * The interval between two frames of the indeterminate animation.
+     *
+     * @return the repaint interval in milliseconds.
+     */
+    protected int getRepaintInterval() {
+        int interval = UIManager.getInt("ProgressBar.repaintInterval");
+        if (interval > 0) return interval;
+        return isSimplified() ? REPAINT_INTERVAL_SIMPLIFIED : REPAINT_INTERVAL_DEFAULT;
+    }
+
+    @Override
+    protected void stopAnimationTimer() {
+        IndeterminateProgressAnimator.unregister(this);
+    }
+
+    boolean isAnimationShowing() {
+        return progressBar != null && progressBar.isShowing();
+    }
+
+    void advanceAnimation() {
+        incrementAnimationIndex();
     }
 
     @Override
@@ -91,7 +134,8 @@ public class DarkProgressBarUI extends BasicProgressBarUI implements PropertyCha
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
 
-            Rectangle r = new Rectangle(progressBar.getSize());
+            Rectangle r = paintRect;
+            r.setBounds(0, 0, progressBar.getWidth(), progressBar.getHeight());
             if (c.isOpaque()) {
                 g2.setColor(c.getParent().getBackground());
                 g2.fill(r);
@@ -99,7 +143,7 @@ public class DarkProgressBarUI extends BasicProgressBarUI implements PropertyCha
 
             Insets i = progressBar.getInsets();
             DarkUIUtil.applyInsets(r, i);
-            int orientation = progressBar.getOrientation();
+            boolean horizontal = progressBar.getOrientation() == SwingConstants.HORIZONTAL;
 
             Color startColor, endColor;
             if (hasFailed(progressBar)) {
@@ -113,43 +157,52 @@ public class DarkProgressBarUI extends BasicProgressBarUI implements PropertyCha
                 endColor = getEndColor();
             }
 
-            int pHeight = progressBar.getPreferredSize().height;
-            int pWidth = progressBar.getPreferredSize().width;
+            Dimension prefSize = progressBar.getPreferredSize();
+            int pHeight = prefSize.height;
+            int pWidth = prefSize.width;
 
             int yOffset = r.y + (r.height - pHeight) / 2;
             int xOffset = r.x + (r.width - pWidth) / 2;
 
+            double scaleX = Scale.getScaleX(g2);
+            double scaleY = Scale.getScaleY(g2);
+
+            // The textures are anchored at the origin. Translate the graphics to move the pattern and
+            // paint the shape in the translated coordinate system.
+            TexturePaint texture;
+            double patternOrigin;
             if (isSimplified()) {
-                Color[] ca = {startColor, endColor};
-                int idx = 0;
                 int delta = 10;
-                if (orientation == SwingConstants.HORIZONTAL) {
-                    for (float offset = r.x; offset - r.x < r.width; offset += delta) {
-                        g2.setPaint(ca[(getAnimationIndex() + idx++) % 2]);
-                        g2.fill(new Rectangle2D.Float(offset, yOffset, delta, pHeight));
-                    }
+                texture = IndeterminateTextureCache.getStripeTexture(startColor, endColor, delta, horizontal,
+                        scaleX, scaleY);
+                int origin = horizontal ? r.x : r.y;
+                patternOrigin = origin - (getAnimationIndex() % 2) * delta;
+                if (horizontal) {
+                    indeterminateShape.setRoundRect(r.x - patternOrigin, yOffset, r.width, pHeight, 0, 0);
                 } else {
-                    for (float offset = r.y; offset - r.y < r.height; offset += delta) {
-                        g2.setPaint(ca[(getAnimationIndex() + idx++) % 2]);
-                        g2.fill(new Rectangle2D.Float(xOffset, offset, delta, pWidth));
-                    }
+                    indeterminateShape.setRoundRect(xOffset, r.y - patternOrigin, pWidth, r.height, 0, 0);
                 }
             } else {
-                Shape shape;
                 int step = 6;
-                if (orientation == SwingConstants.HORIZONTAL) {
-                    shape = getShapedRect(r.x, yOffset, r.width, pHeight, pHeight);
-                    yOffset = r.y + pHeight / 2;
-                    g2.setPaint(new GradientPaint(r.x + getAnimationIndex() * step * 2, yOffset, startColor,
-                            r.x + getFrameCount() * step + getAnimationIndex() * step * 2, yOffset, endColor, true));
+                texture = IndeterminateTextureCache.getGradientTexture(startColor, endColor,
+                        getFrameCount() * step, horizontal, scaleX, scaleY);
+                int origin = horizontal ? r.x : r.y;
+                patternOrigin = origin + getAnimationIndex() * step * 2;
+                if (horizontal) {
+                    indeterminateShape.setRoundRect(r.x - patternOrigin, yOffset, r.width, pHeight, pHeight,
+                            pHeight);
                 } else {
-                    shape = getShapedRect(xOffset, r.y, pWidth, r.height, pWidth);
-                    xOffset = r.x + pWidth / 2;
-                    g2.setPaint(new GradientPaint(xOffset, r.y + getAnimationIndex() * step * 2, startColor, xOffset,
-                            r.y + getFrameCount() * step + getAnimationIndex() * step * 2, endColor, true));
+                    indeterminateShape.setRoundRect(xOffset, r.y - patternOrigin, pWidth, r.height, pWidth,
+                            pWidth);
                 }
-                g2.fill(shape);
             }
+            if (horizontal) {
+                g2.translate(patternOrigin, 0);
+            } else {
+                g2.translate(0, patternOrigin);
+            }
+            g2.setPaint(texture);
+            g2.fill(indeterminateShape);
 
             // Paint text
             if (progressBar.isStringPainted()) {
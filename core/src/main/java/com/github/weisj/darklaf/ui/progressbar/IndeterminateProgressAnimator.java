@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.ui.progressbar;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.swing.*;
+
+/**
+ * Drives the animation of all indeterminate progress bars. Progress bars with the same repaint interval
+ * share a single timer. A timer only runs while at least one of its progress bars is showing.
+ */
+final class IndeterminateProgressAnimator {
+
+    private static final Map<DarkProgressBarUI, Ticker> registrations = new WeakHashMap<>();
+    private static final Map<Integer, Ticker> tickers = new HashMap<>();
+
+    private IndeterminateProgressAnimator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static void register(final DarkProgressBarUI ui, final int repaintInterval) {
+        Ticker current = registrations.get(ui);
+        if (current != null && current.interval == repaintInterval) {
+            current.update();
+            return;
+        }
+        if (current != null) current.remove(ui);
+        Ticker ticker = tickers.computeIfAbsent(repaintInterval, Ticker::new);
+        ticker.progressBars.add(ui);
+        registrations.put(ui, ticker);
+        ticker.update();
+    }
+
+    static void unregister(final DarkProgressBarUI ui) {
+        Ticker ticker = registrations.remove(ui);
+        if (ticker != null) ticker.remove(ui);
+    }
+
+    static boolean isRegistered(final DarkProgressBarUI ui) {
+        return registrations.containsKey(ui);
+    }
+
+    /*
+     * The timer driving the animation of the given progress bar or null if it isn't registered.
+     */
+    static Timer getTimer(final DarkProgressBarUI ui) {
+        Ticker ticker = registrations.get(ui);
+        return ticker != null ? ticker.timer : null;
+    }
+
+    static void updateTimer() {
+        for (Ticker ticker : tickers.values().toArray(new Ticker[0])) {
+            ticker.update();
+        }
+    }
+
+    private static final class Ticker {
+        private final int interval;
+        private final Set<DarkProgressBarUI> progressBars = Collections.newSetFromMap(new WeakHashMap<>());
+        private final Timer timer;
+
+        private Ticker(final int interval) {
+            this.interval = interval;
+            timer = new Timer(interval, e -> onTick());
+            timer.setRepeats(true);
+        }
+
+        private void remove(final DarkProgressBarUI ui) {
+            progressBars.remove(ui);
+            update();
+        }
+
+        private void update() {
+            boolean anyShowing = false;
+            for (DarkProgressBarUI ui : progressBars) {
+                if (ui.isAnimationShowing()) {
+                    anyShowing = true;
+                    break;
+                }
+            }
+            if (anyShowing && !timer.isRunning()) {
+                timer.start();
+            } else if (!anyShowing) {
+                stop();
+            }
+        }
+
+        private void onTick() {
+            boolean anyShowing = false;
+            for (DarkProgressBarUI ui : progressBars.toArray(new DarkProgressBarUI[0])) {
+                if (ui.isAnimationShowing()) {
+                    anyShowing = true;
+                    ui.advanceAnimation();
+                }
+            }
+            if (!anyShowing) stop();
+        }
+
+        private void stop() {
+            if (timer.isRunning()) timer.stop();
+            if (progressBars.isEmpty()) tickers.remove(interval, this);
+        }
+    }
+}
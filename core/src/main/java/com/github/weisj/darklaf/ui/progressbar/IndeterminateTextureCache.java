@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.ui.progressbar;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.github.weisj.darklaf.util.ImageUtil;
+
+/**
+ * Cache for the textures used to paint indeterminate progress bars. A texture covers one period of the
+ * stripe pattern along the progress direction and a single unit in the cross direction. Its anchor is
+ * located at the origin, so the pattern can be moved by translating the graphics.
+ */
+final class IndeterminateTextureCache {
+
+    private static final int MAX_ENTRIES = 16;
+
+    private static final Map<TextureKey, TexturePaint> cache = new LinkedHashMap<TextureKey, TexturePaint>(
+            MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<TextureKey, TexturePaint> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    // Textures are only requested while painting on the event dispatch thread.
+    private static final TextureKey lookupKey = new TextureKey();
+
+    private IndeterminateTextureCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Get the texture for a cyclic gradient from start to end color and back.
+     *
+     * @param start the start color.
+     * @param end the end color.
+     * @param length the length of the gradient from start to end color.
+     * @param horizontal whether the gradient runs horizontally.
+     * @param scaleX the horizontal device scale.
+     * @param scaleY the vertical device scale.
+     * @return the texture.
+     */
+    static TexturePaint getGradientTexture(final Color start, final Color end, final int length,
+            final boolean horizontal, final double scaleX, final double scaleY) {
+        return getTexture(lookupKey.set(start, end, length, false, horizontal, scaleX, scaleY));
+    }
+
+    /**
+     * Get the texture for alternating stripes of start and end color.
+     *
+     * @param start the start color.
+     * @param end the end color.
+     * @param length the length of a single stripe.
+     * @param horizontal whether the stripes alternate horizontally.
+     * @param scaleX the horizontal device scale.
+     * @param scaleY the vertical device scale.
+     * @return the texture.
+     */
+    static TexturePaint getStripeTexture(final Color start, final Color end, final int length,
+            final boolean horizontal, final double scaleX, final double scaleY) {
+        return getTexture(lookupKey.set(start, end, length, true, horizontal, scaleX, scaleY));
+    }
+
+    private static TexturePaint getTexture(final TextureKey key) {
+        TexturePaint paint = cache.get(key);
+        if (paint == null) {
+            paint = createTexture(key);
+            cache.put(key.copy(), paint);
+        }
+        return paint;
+    }
+
+    private static TexturePaint createTexture(final TextureKey key) {
+        int period = 2 * Math.max(1, key.length);
+        double userWidth = key.horizontal ? period : 1;
+        double userHeight = key.horizontal ? 1 : period;
+        int width = Math.max(1, (int) Math.ceil(userWidth * key.scaleX));
+        int height = Math.max(1, (int) Math.ceil(userHeight * key.scaleY));
+
+        BufferedImage tile = ImageUtil.createCompatibleTranslucentImage(width, height);
+        Graphics2D g = tile.createGraphics();
+        g.scale(width / userWidth, height / userHeight);
+        Color start = new Color(key.startRGB, true);
+        Color end = new Color(key.endRGB, true);
+        if (key.stripes) {
+            g.setColor(start);
+            g.fill(new Rectangle2D.Double(0, 0, userWidth, userHeight));
+            g.setColor(end);
+            if (key.horizontal) {
+                g.fill(new Rectangle2D.Double(key.length, 0, key.length, userHeight));
+            } else {
+                g.fill(new Rectangle2D.Double(0, key.length, userWidth, key.length));
+            }
+        } else {
+            float x2 = key.horizontal ? key.length : 0;
+            float y2 = key.horizontal ? 0 : key.length;
+            g.setPaint(new GradientPaint(0, 0, start, x2, y2, end, true));
+            g.fill(new Rectangle2D.Double(0, 0, userWidth, userHeight));
+        }
+        g.dispose();
+        return new TexturePaint(tile, new Rectangle2D.Double(0, 0, userWidth, userHeight));
+    }
+
+    private static final class TextureKey {
+        private int startRGB;
+        private int endRGB;
+        private int length;
+        private boolean stripes;
+        private boolean horizontal;
+        private double scaleX;
+        private double scaleY;
+
+        private TextureKey set(final Color start, final Color end, final int length, final boolean stripes,
+                final boolean horizontal, final double scaleX, final double scaleY) {
+            this.startRGB = start != null ? start.getRGB() : 0;
+            this.endRGB = end != null ? end.getRGB() : 0;
+            this.length = length;
+            this.stripes = stripes;
+            this.horizontal = horizontal;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            return this;
+        }
+
+        private TextureKey copy() {
+            TextureKey key = new TextureKey();
+            key.startRGB = startRGB;
+            key.endRGB = endRGB;
+            key.length = length;
+            key.stripes = stripes;
+            key.horizontal = horizontal;
+            key.scaleX = scaleX;
+            key.scaleY = scaleY;
+            return key;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            TextureKey that = (TextureKey) o;
+            return startRGB == that.startRGB && endRGB == that.endRGB && length == that.length
+                    && stripes == that.stripes && horizontal == that.horizontal
+                    && Double.compare(that.scaleX, scaleX) == 0 && Double.compare(that.scaleY, scaleY) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = startRGB;
+            result = 31 * result + endRGB;
+            result = 31 * result + length;
+            result = 31 * result + (stripes ? 1 : 0);
+            result = 31 * result + (horizontal ? 1 : 0);
+            result = 31 * result + Double.hashCode(scaleX);
+            result = 31 * result + Double.hashCode(scaleY);
+            return result;
+        }
+    }
+}
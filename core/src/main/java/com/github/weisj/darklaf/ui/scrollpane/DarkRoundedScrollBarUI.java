@@ -25,7 +25,7 @@ import java.awt.geom.RoundRectangle2D;
 
 import javax.swing.*;
 
-import com.github.weisj.darklaf.graphics.LegacyAnimator;
+import com.github.weisj.darklaf.graphics.FadeStateEngine;
 import com.github.weisj.darklaf.util.graphics.GraphicsContext;
 import com.github.weisj.darklaf.util.graphics.GraphicsUtil;
 
@@ -108,13 +108,8 @@ public abstract class DarkRoundedScrollBarUI extends DarkScrollBarUI {
         }
 
         @Override
-        protected LegacyAnimator createTrackFadeinAnimator() {
-            return ui.hideScrollBar ? super.createTrackFadeinAnimator() : null;
-        }
-
-        @Override
-        protected LegacyAnimator createTrackFadeoutAnimator() {
-            return ui.hideScrollBar ? super.createTrackFadeoutAnimator() : null;
+        protected FadeStateEngine.FadeState createTrackFadeState() {
+            return ui.hideScrollBar ? super.createTrackFadeState() : null;
         }
 
         @Override
@@ -22,10 +22,12 @@ package com.github.weisj.darklaf.ui.scrollpane;
 
 import java.awt.*;
 import java.awt.event.*;
+import java.lang.reflect.Method;
 
 import javax.swing.*;
 
 import com.github.weisj.darklaf.graphics.DefaultInterpolator;
+import com.github.weisj.darklaf.graphics.FadeStateEngine;
 import com.github.weisj.darklaf.graphics.LegacyAnimator;
 import com.github.weisj.darklaf.util.PropertyUtil;
 
@@ -35,6 +37,15 @@ public class DarkScrollBarListener<T extends DarkScrollBarUI> extends MouseAdapt
     private static final float MAX_TRACK_ALPHA = 0.3f;
     private static final float MAX_THUMB_ALPHA = 0.7f;
 
+    private static final ClassValue<Boolean> overridesTrackAnimators =
+            overridesAnimatorFactories("createTrackFadeinAnimator", "createTrackFadeoutAnimator");
+    private static final ClassValue<Boolean> overridesThumbAnimators =
+            overridesAnimatorFactories("createThumbFadeinAnimator", "createThumbFadeoutAnimator");
+
+    /**
+     * @deprecated Fades are time based and driven by the {@link FadeStateEngine}.
+     */
+    @Deprecated
     protected static final int FADE_RESOLUTION = 10;
 
     protected static final int TRACK_FADE_OUT_DURATION = 400;
@@ -51,26 +62,46 @@ public class DarkScrollBarListener<T extends DarkScrollBarUI> extends MouseAdapt
     protected final JScrollBar scrollbar;
     protected final T ui;
 
+    /*
+     * Animators of the deprecated factories. They are only created and run instead of the fade states if a
+     * subclass overrides the factories.
+     */
     private final LegacyAnimator trackFadeoutAnimator;
     private final LegacyAnimator trackFadeinAnimator;
     private final LegacyAnimator thumbFadeoutAnimator;
     private final LegacyAnimator thumbFadeinAnimator;
+    private final FadeStateEngine.FadeState trackFade;
+    private final FadeStateEngine.FadeState thumbFade;
 
     protected boolean mouseOverThumb = false;
     protected boolean mouseOverTrack = false;
+    /** @deprecated Use {@link #getTrackState()}. */
+    @Deprecated
     protected float trackState;
+    /** @deprecated Use {@link #getThumbState()}. */
+    @Deprecated
     protected float thumbState;
+    /** @deprecated Use {@link #getTrackAlpha()}. */
+    @Deprecated
     protected float trackAlpha;
+    /** @deprecated Use {@link #getThumbAlpha()}. */
+    @Deprecated
     protected float thumbAlpha;
 
     public DarkScrollBarListener(final JScrollBar scrollbar, final T ui) {
         this.scrollbar = scrollbar;
         this.ui = ui;
         boolean animationsEnabled = UIManager.getBoolean("ScrollBar.animated");
-        trackFadeoutAnimator = createTrackFadeoutAnimator();
-        trackFadeinAnimator = createTrackFadeinAnimator();
-        thumbFadeoutAnimator = createThumbFadeoutAnimator();
-        thumbFadeinAnimator = createThumbFadeinAnimator();
+        boolean legacyTrack = overridesTrackAnimators.get(getClass());
+        boolean legacyThumb = overridesThumbAnimators.get(getClass());
+        trackFadeoutAnimator = legacyTrack ? createTrackFadeoutAnimator() : null;
+        trackFadeinAnimator = legacyTrack ? createTrackFadeinAnimator() : null;
+        thumbFadeoutAnimator = legacyThumb ? createThumbFadeoutAnimator() : null;
+        thumbFadeinAnimator = legacyThumb ? createThumbFadeinAnimator() : null;
+        trackFade = legacyTrack ? null : createTrackFadeState();
+        thumbFade = legacyThumb ? null : createThumbFadeState();
+        if (trackFade != null) trackFade.setEnabled(animationsEnabled);
+        if (thumbFade != null) thumbFade.setEnabled(animationsEnabled);
         if (trackFadeoutAnimator != null) trackFadeoutAnimator.setEnabled(animationsEnabled);
         if (trackFadeinAnimator != null) trackFadeinAnimator.setEnabled(animationsEnabled);
         if (thumbFadeoutAnimator != null) thumbFadeoutAnimator.setEnabled(animationsEnabled);
@@ -78,30 +109,49 @@ public class DarkScrollBarListener<T extends DarkScrollBarUI> extends MouseAdapt
     }
 
     public void uninstall() {
+        if (trackFade != null) trackFade.dispose();
+        if (thumbFade != null) thumbFade.dispose();
         dispose(trackFadeoutAnimator);
-        dispose(thumbFadeoutAnimator);
         dispose(trackFadeinAnimator);
-        dispose(trackFadeoutAnimator);
+        dispose(thumbFadeoutAnimator);
+        dispose(thumbFadeinAnimator);
     }
 
-    private void dispose(final LegacyAnimator animator) {
+    private static void dispose(final LegacyAnimator animator) {
         if (animator != null) animator.dispose();
     }
 
+    private static ClassValue<Boolean> overridesAnimatorFactories(final String... factoryNames) {
+        return new ClassValue<Boolean>() {
+            @Override
+            protected Boolean computeValue(final Class<?> type) {
+                for (Class<?> c = type; c != null && c != DarkScrollBarListener.class; c = c.getSuperclass()) {
+                    for (Method method : c.getDeclaredMethods()) {
+                        if (method.getParameterCount() != 0) continue;
+                        for (String name : factoryNames) {
+                            if (name.equals(method.getName())) return true;
+                        }
+                    }
+                }
+                return false;
+            }
+        };
+    }
+
     public float getTrackAlpha() {
-        return trackAlpha;
+        return MAX_TRACK_ALPHA * getTrackState();
     }
 
     public float getTrackState() {
-        return trackState;
+        return trackFade != null ? trackFade.getValue() : trackState;
     }
 
     public float getThumbState() {
-        return thumbState;
+        return thumbFade != null ? thumbFade.getValue() : thumbState;
     }
 
     public float getThumbAlpha() {
-        return thumbAlpha;
+        return MAX_THUMB_ALPHA * getThumbState();
     }
 
     @Override
@@ -203,14 +253,16 @@ public class DarkScrollBarListener<T extends DarkScrollBarUI> extends MouseAdapt
     }
 
     protected void runOnScrollTrackAnimation() {
-        if (!trackFadeinAnimator.isRunning()) {
+        if (trackFade != null ? !trackFade.isFadingIn()
+                : trackFadeinAnimator != null && !trackFadeinAnimator.isRunning()) {
             mouseOverTrack = true;
             resetTrackAnimator();
         }
     }
 
     protected void runOnScrollThumbAnimation() {
-        if (!thumbFadeinAnimator.isRunning()) {
+        if (thumbFade != null ? !thumbFade.isFadingIn()
+                : thumbFadeinAnimator != null && !thumbFadeinAnimator.isRunning()) {
             mouseOverThumb = true;
             resetThumbAnimator();
         }
@@ -222,19 +274,39 @@ public class DarkScrollBarListener<T extends DarkScrollBarUI> extends MouseAdapt
     }
 
     protected void resetThumbAnimator() {
-        if (thumbFadeinAnimator == null || thumbFadeoutAnimator == null) return;
-        resetAnimators(thumbFadeinAnimator, thumbFadeoutAnimator, mouseOverThumb, thumbAlpha, MAX_THUMB_ALPHA);
+        if (thumbFade != null) {
+            resetFadeState(thumbFade, mouseOverThumb);
+        } else if (thumbFadeinAnimator != null && thumbFadeoutAnimator != null) {
+            resetAnimators(thumbFadeinAnimator, thumbFadeoutAnimator, mouseOverThumb, thumbAlpha, MAX_THUMB_ALPHA);
+        }
     }
 
     protected void resetTrackAnimator() {
-        if (trackFadeinAnimator == null || trackFadeoutAnimator == null) return;
-        resetAnimators(trackFadeinAnimator, trackFadeoutAnimator, mouseOverTrack, trackAlpha, MAX_TRACK_ALPHA);
+        if (trackFade != null) {
+            resetFadeState(trackFade, mouseOverTrack);
+        } else if (trackFadeinAnimator != null && trackFadeoutAnimator != null) {
+            resetAnimators(trackFadeinAnimator, trackFadeoutAnimator, mouseOverTrack, trackAlpha, MAX_TRACK_ALPHA);
+        }
+    }
+
+    protected void resetFadeState(final FadeStateEngine.FadeState fadeState, final boolean overAnimatedComponent) {
+        if (fadeState == null) return;
+        if (scrollbar != null && (scrollbar.getValueIsAdjusting() || overAnimatedComponent)) {
+            fadeState.fadeIn();
+        } else {
+            fadeState.fadeOut();
+        }
     }
 
+    /**
+     * @deprecated Use {@link #resetFadeState(FadeStateEngine.FadeState, boolean)}. Only used for animators of
+     *             subclasses overriding {@link #createTrackFadeinAnimator()} and friends.
+     */
+    @Deprecated
     protected void resetAnimators(final LegacyAnimator fadeInAnimator, final LegacyAnimator fadeOutAnimator,
             final boolean overAnimatedComponent, final float currentAlpha, final float maxAlpha) {
         boolean fadeInRunning = fadeInAnimator.isRunning();
-        boolean fadeOutRunning = fadeInAnimator.isRunning();
+        boolean fadeOutRunning = fadeOutAnimator.isRunning();
         fadeInAnimator.reset();
         fadeOutAnimator.reset();
         if (scrollbar != null && (scrollbar.getValueIsAdjusting() || overAnimatedComponent)) {
@@ -260,6 +332,10 @@ public class DarkScrollBarListener<T extends DarkScrollBarUI> extends MouseAdapt
         return PropertyUtil.getBooleanProperty(scrollbar, KEY_HIGHLIGHT_ON_SCROLL);
     }
 
+    /**
+     * @deprecated Fades are time based and driven by the {@link FadeStateEngine}.
+     */
+    @Deprecated
     protected int getFadeResolution() {
         return FADE_RESOLUTION;
     }
@@ -296,22 +372,87 @@ public class DarkScrollBarListener<T extends DarkScrollBarUI> extends MouseAdapt
         return THUMB_FADE_IN_DELAY;
     }
 
+    /**
+     * Creates the fade state of the track. Not called if a subclass overrides the deprecated
+     * {@link #createTrackFadeinAnimator()} or {@link #createTrackFadeoutAnimator()}. Their animators are used instead.
+     *
+     * @return the fade state or null if the track shouldn't fade.
+     */
+    protected FadeStateEngine.FadeState createTrackFadeState() {
+        return FadeStateEngine.getInstance().createState(scrollbar, new FadeStateEngine.FadeListener() {
+            @Override
+            public void fadeStateChanged(final FadeStateEngine.FadeState state) {
+                trackState = state.getValue();
+                trackAlpha = MAX_TRACK_ALPHA * trackState;
+                repaint();
+            }
+        }).setFadeIn(getTrackFadeInDuration(), getTrackFadeInDelay())
+                .setFadeOut(getTrackFadeOutDuration(), getTrackFadeOutDelay());
+    }
+
+    /**
+     * Creates the fade state of the thumb. Not called if a subclass overrides the deprecated
+     * {@link #createThumbFadeinAnimator()} or {@link #createThumbFadeoutAnimator()}. Their animators are used instead.
+     *
+     * @return the fade state or null if the thumb shouldn't fade.
+     */
+    protected FadeStateEngine.FadeState createThumbFadeState() {
+        return FadeStateEngine.getInstance().createState(scrollbar, new FadeStateEngine.FadeListener() {
+            @Override
+            public void fadeStateChanged(final FadeStateEngine.FadeState state) {
+                thumbState = state.getValue();
+                thumbAlpha = MAX_THUMB_ALPHA * thumbState;
+                repaint();
+            }
+
+            @Override
+            public void fadeFinished(final FadeStateEngine.FadeState state, final boolean fadedIn) {
+                if (!fadedIn || scrollbar == null || !scrollbar.isShowing()) return;
+                Point p = MouseInfo.getPointerInfo().getLocation();
+                SwingUtilities.convertPointFromScreen(p, scrollbar);
+                if (!ui.getThumbBounds().contains(p) && !scrollbar.getValueIsAdjusting()) {
+                    mouseOverThumb = false;
+                    resetThumbAnimator();
+                }
+            }
+        }).setFadeIn(getThumbFadeInDuration(), getThumbFadeInDelay())
+                .setFadeOut(getThumbFadeOutDuration(), getThumbFadeOutDelay());
+    }
+
+    protected void repaint() {
+        Container parent = scrollbar.getParent();
+        if (parent instanceof JComponent) {
+            ((JComponent) parent).paintImmediately(scrollbar.getBounds());
+        }
+        if (parent != null) parent.repaint();
+    }
+
+    /** @deprecated Use {@link #createTrackFadeState()}. */
+    @Deprecated
     protected LegacyAnimator createTrackFadeoutAnimator() {
         return new TrackFadeOutAnimator();
     }
 
+    /** @deprecated Use {@link #createThumbFadeState()}. */
+    @Deprecated
     protected LegacyAnimator createThumbFadeoutAnimator() {
         return new ThumbFadeOutAnimator();
     }
 
+    /** @deprecated Use {@link #createTrackFadeState()}. */
+    @Deprecated
     protected LegacyAnimator createTrackFadeinAnimator() {
         return new TrackFadeInAnimator();
     }
 
+    /** @deprecated Use {@link #createThumbFadeState()}. */
+    @Deprecated
     protected LegacyAnimator createThumbFadeinAnimator() {
         return new ThumbFadeInAnimator();
     }
 
+    /** @deprecated Use {@link #createTrackFadeState()}. */
+    @Deprecated
     protected class TrackFadeInAnimator extends SBAnimator {
 
         public TrackFadeInAnimator() {
@@ -326,6 +467,8 @@ public class DarkScrollBarListener<T extends DarkScrollBarUI> extends MouseAdapt
         }
     }
 
+    /** @deprecated Use {@link #createTrackFadeState()}. */
+    @Deprecated
     protected class TrackFadeOutAnimator extends SBAnimator {
 
         public TrackFadeOutAnimator() {
@@ -340,6 +483,8 @@ public class DarkScrollBarListener<T extends DarkScrollBarUI> extends MouseAdapt
         }
     }
 
+    /** @deprecated Use {@link #createThumbFadeState()}. */
+    @Deprecated
     protected class ThumbFadeInAnimator extends SBAnimator {
 
         public ThumbFadeInAnimator() {
@@ -366,6 +511,8 @@ public class DarkScrollBarListener<T extends DarkScrollBarUI> extends MouseAdapt
         }
     }
 
+    /** @deprecated Use {@link #createThumbFadeState()}. */
+    @Deprecated
     protected class ThumbFadeOutAnimator extends SBAnimator {
 
         public ThumbFadeOutAnimator() {
@@ -380,6 +527,8 @@ public class DarkScrollBarListener<T extends DarkScrollBarUI> extends MouseAdapt
         }
     }
 
+    /** @deprecated Use {@link FadeStateEngine.FadeState}. */
+    @Deprecated
     protected abstract static class SBAnimator extends LegacyAnimator {
 
         private final JComponent component;
@@ -418,6 +567,5 @@ public class DarkScrollBarListener<T extends DarkScrollBarUI> extends MouseAdapt
                 component.getParent().repaint();
             }
         }
-
     }
 }
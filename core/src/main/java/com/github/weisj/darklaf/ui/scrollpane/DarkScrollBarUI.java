@@ -179,6 +179,10 @@ public class DarkScrollBarUI extends BasicScrollBarUI implements ScrollBarConsta
         PaintUtil.fillRect(g, rect.x + 1, rect.y + 1, rect.width - 2, rect.height - 2);
     }
 
+    /*
+     * The thumb colors change continuously while the thumb fades, hence they aren't put into the derived color
+     * cache, which would only miss and evict more useful entries.
+     */
     protected Color getThumbBorderColor() {
         double percent = Math.min(1.0, Math.max(0.0, 1 - (scrollBarListener.getThumbAlpha() - thumbAlpha)));
         return ColorUtil.blendColors(thumbBorderColor, thumbColor, percent);
@@ -28,6 +28,7 @@ import java.beans.PropertyChangeEvent;
 import javax.swing.*;
 import javax.swing.event.ChangeEvent;
 
+import com.github.weisj.darklaf.ui.util.DarkUIUtil;
 import com.github.weisj.darklaf.util.PropertyKey;
 import com.github.weisj.darklaf.util.PropertyUtil;
 
@@ -48,6 +49,9 @@ public class DarkTabbedPaneHandler extends TabbedPaneHandler {
     public void propertyChange(final PropertyChangeEvent e) {
         super.propertyChange(e);
         String key = e.getPropertyName();
+        if (PropertyKey.FONT.equals(key) || DarkUIUtil.isScaleChanged(e)) {
+            ui.invalidateTabSizes();
+        }
         if (DarkTabbedPaneUI.KEY_TAB_AREA_INSETS.equals(key)) {
             Object ins = e.getNewValue();
             if (ins instanceof Insets) {
@@ -87,6 +87,7 @@ public class DarkTabbedPaneUI extends DarkTabbedPaneUIBridge implements Customiz
     protected Icon newTabIcon;
 
     protected DarkScrollTabbedPaneHandler scrollHandler;
+    private final TabSizeCache tabSizeCache = new TabSizeCache();
     protected Component leadingComp;
     protected Component trailingComp;
     protected Component northComp;
@@ -140,6 +141,7 @@ public class DarkTabbedPaneUI extends DarkTabbedPaneUIBridge implements Customiz
             }
         }
         super.uninstallUI(c);
+        invalidateTabSizes();
     }
 
     @Override
@@ -372,7 +374,36 @@ public class DarkTabbedPaneUI extends DarkTabbedPaneUIBridge implements Customiz
 
     @Override
     protected int calculateTabHeight(final int tabPlacement, final int tabIndex, final int fontHeight) {
-        return super.calculateTabHeight(tabPlacement, tabIndex, fontHeight) - 1;
+        TabSizeCache.Entry entry = getTabSizeEntry(tabPlacement, tabIndex);
+        if (entry == null) return super.calculateTabHeight(tabPlacement, tabIndex, fontHeight) - 1;
+        int height = entry.getHeight(fontHeight);
+        if (height < 0) {
+            height = super.calculateTabHeight(tabPlacement, tabIndex, fontHeight) - 1;
+            entry.setHeight(fontHeight, height);
+        }
+        return height;
+    }
+
+    @Override
+    protected int calculateTabWidth(final int tabPlacement, final int tabIndex, final FontMetrics metrics) {
+        TabSizeCache.Entry entry = getTabSizeEntry(tabPlacement, tabIndex);
+        if (entry == null) return super.calculateTabWidth(tabPlacement, tabIndex, metrics);
+        int width = entry.getWidth(metrics);
+        if (width < 0) {
+            width = super.calculateTabWidth(tabPlacement, tabIndex, metrics);
+            entry.setWidth(metrics, width);
+        }
+        return width;
+    }
+
+    protected TabSizeCache.Entry getTabSizeEntry(final int tabPlacement, final int tabIndex) {
+        if (tabIndex < 0 || tabIndex >= tabPane.getTabCount()) return null;
+        return tabSizeCache.getEntry(tabPane, tabIndex, tabPane.getTitleAt(tabIndex), getIconForTab(tabIndex),
+                getTextViewForTab(tabIndex), getTabInsets(tabPlacement, tabIndex), tabPlacement);
+    }
+
+    protected void invalidateTabSizes() {
+        tabSizeCache.clear();
     }
 
     @Override
@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.ui.tabbedpane;
+
+import java.awt.*;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.swing.*;
+import javax.swing.text.View;
+
+/**
+ * Caches the measured size of tabs. An entry is keyed by the component of the tab and stays valid
+ * as long as the inputs of the measurement (title, icon, html view, font metrics, insets and
+ * placement) are the same instances as when it was computed. Tabs with a custom tab component or
+ * without a component aren't cached.
+ */
+class TabSizeCache {
+
+    private final Map<Component, Entry> entries = new WeakHashMap<>();
+
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the cache entry for the given tab if it can be cached.
+     *
+     * @param tabPane the tabbed pane.
+     * @param tabIndex the index of the tab.
+     * @param title the title of the tab.
+     * @param icon the icon of the tab.
+     * @param view the html view of the tab.
+     * @param insets the insets of the tab.
+     * @param tabPlacement the tab placement.
+     * @return the entry or null if the tab can't be cached.
+     */
+    Entry getEntry(final JTabbedPane tabPane, final int tabIndex, final String title, final Icon icon,
+            final View view, final Insets insets, final int tabPlacement) {
+        if (tabPane.getTabComponentAt(tabIndex) != null) return null;
+        Component c = tabPane.getComponentAt(tabIndex);
+        if (c == null) return null;
+        Entry entry = entries.get(c);
+        if (entry == null) {
+            entry = new Entry();
+            entries.put(c, entry);
+        }
+        entry.validate(title, icon, view, insets, tabPlacement);
+        return entry;
+    }
+
+    static final class Entry {
+        private String title;
+        private Icon icon;
+        private View view;
+        private Insets insets;
+        private int tabPlacement = -1;
+
+        private FontMetrics widthMetrics;
+        private int width = -1;
+
+        private int fontHeight = -1;
+        private int height = -1;
+
+        @SuppressWarnings({"ReferenceEquality", "StringEquality"})
+        private void validate(final String title, final Icon icon, final View view, final Insets insets,
+                final int tabPlacement) {
+            if (title != this.title || icon != this.icon || view != this.view || insets != this.insets
+                    || tabPlacement != this.tabPlacement) {
+                this.title = title;
+                this.icon = icon;
+                this.view = view;
+                this.insets = insets;
+                this.tabPlacement = tabPlacement;
+                width = -1;
+                height = -1;
+            }
+        }
+
+        @SuppressWarnings("ReferenceEquality")
+        int getWidth(final FontMetrics metrics) {
+            return metrics == widthMetrics ? width : -1;
+        }
+
+        void setWidth(final FontMetrics metrics, final int width) {
+            this.widthMetrics = metrics;
+            this.width = width;
+        }
+
+        int getHeight(final int fontHeight) {
+            return fontHeight == this.fontHeight ? height : -1;
+        }
+
+        void setHeight(final int fontHeight, final int height) {
+            this.fontHeight = fontHeight;
+            this.height = height;
+        }
+    }
+}
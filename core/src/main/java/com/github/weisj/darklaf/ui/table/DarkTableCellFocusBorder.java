@@ -43,14 +43,17 @@ public class DarkTableCellFocusBorder extends DarkCellBorderUIResource {
     public void paintBorder(final Component c, final Graphics g, final int x, final int y, final int width,
             final int height) {
         super.paintBorder(c, g, x, y, width, height);
-        if (isRowFocusBorder(c)) {
+        TableRenderContext context = TableRenderContext.forRenderer(c);
+        if (context != null && !context.isFocusRenderer(c)) context = null;
+        boolean rowFocus = context != null ? context.isRowFocusRenderer() : isRowFocusBorder(c);
+        if (rowFocus) {
             g.setColor(rowBorderColor);
             g.fillRect(0, 0, width, 1);
             g.fillRect(0, height - 1, width, 1);
-            if (forcePaintLeft(c)) {
+            if (context != null ? context.isForceLeftBorder() : forcePaintLeft(c)) {
                 g.fillRect(0, 0, 1, height);
             }
-            if (forcePaintRight(c)) {
+            if (context != null ? context.isForceRightBorder() : forcePaintRight(c)) {
                 g.fillRect(width - 1, 0, 1, height);
             }
         } else {
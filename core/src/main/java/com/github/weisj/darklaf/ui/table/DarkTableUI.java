@@ -73,6 +73,8 @@ public class DarkTableUI extends DarkTableUIBridge implements TableConstants, Ha
     private TableCellEditor oldBooleanEditor;
 
     protected DarkTableCellRendererDelegate rendererDelegate;
+    private TableRenderContext renderContext;
+    private TableRowSnapshotCache rowSnapshotCache;
 
     public static ComponentUI createUI(final JComponent c) {
         return new DarkTableUI();
@@ -146,6 +148,18 @@ public class DarkTableUI extends DarkTableUIBridge implements TableConstants, Ha
             popupListener = createPopupMouseListener();
             popupListener.install();
         }
+        updateRowSnapshotCache();
+    }
+
+    protected void updateRowSnapshotCache() {
+        boolean enabled = PropertyUtil.getBooleanProperty(table, KEY_ROW_SNAPSHOT_CACHE);
+        if (enabled && rowSnapshotCache == null) {
+            rowSnapshotCache = new TableRowSnapshotCache(this, table);
+            rowSnapshotCache.install();
+        } else if (!enabled && rowSnapshotCache != null) {
+            rowSnapshotCache.uninstall();
+            rowSnapshotCache = null;
+        }
     }
 
     protected CellHintPopupListener<JTable, ?> createPopupMouseListener() {
@@ -159,6 +173,10 @@ public class DarkTableUI extends DarkTableUIBridge implements TableConstants, Ha
             popupListener.uninstall();
             popupListener = null;
         }
+        if (rowSnapshotCache != null) {
+            rowSnapshotCache.uninstall();
+            rowSnapshotCache = null;
+        }
         // Handler is uninstalled in super.uninstallListeners()
         handler = null;
     }
@@ -450,7 +468,23 @@ public class DarkTableUI extends DarkTableUIBridge implements TableConstants, Ha
                 c.repaint(r);
             }
         }
-        super.paint(g, c);
+        renderContext = new TableRenderContext(table, true);
+        try {
+            super.paint(g, c);
+        } finally {
+            renderContext = null;
+        }
+    }
+
+    /**
+     * Returns the render context of the paint pass which is currently in progress.
+     *
+     * @param table the table.
+     * @return the render context or null if the table currently isn't painted.
+     */
+    public static TableRenderContext getRenderContext(final JTable table) {
+        DarkTableUI ui = DarkUIUtil.getUIOfType(table.getUI(), DarkTableUI.class);
+        return ui != null ? ui.renderContext : null;
     }
 
     public static boolean ignoreKeyCodeOnEdit(final KeyEvent event, final JTable table) {
@@ -493,15 +527,9 @@ public class DarkTableUI extends DarkTableUIBridge implements TableConstants, Ha
 
         int x = r.x;
         int y = r.y;
-        int w = r.width;
+        int w = cellPaintWidth(r, column);
         int h = r.height;
 
-        if (table.getShowVerticalLines() && !scrollBarVisible()) {
-            if (column == table.getColumnCount() - 1) {
-                w++;
-            }
-        }
-
         if (isEditorCell) {
             if (!table.getShowVerticalLines()) {
                 if (column > cMin) x--;
@@ -521,6 +549,26 @@ public class DarkTableUI extends DarkTableUIBridge implements TableConstants, Ha
         }
     }
 
+    /*
+     * The last column extends into the column margin if there is no scrollbar to cover the last grid line.
+     */
+    int cellPaintWidth(final Rectangle r, final int column) {
+        if (table.getShowVerticalLines() && !scrollBarVisible() && column == table.getColumnCount() - 1) {
+            return r.width + 1;
+        }
+        return r.width;
+    }
+
+    @Override
+    protected void paintCells(final Graphics g, final int rMin, final int rMax, final int cMin, final int cMax) {
+        if (rowSnapshotCache != null && rowSnapshotCache.paintCells(g, rMin, rMax, cMin, cMax)) {
+            // Remove any renderers that may be left in the rendererPane.
+            rendererPane.removeAll();
+            return;
+        }
+        super.paintCells(g, rMin, rMax, cMin, cMax);
+    }
+
     protected TableCellRenderer getCellRenderer(final int row, final int column) {
         TableCellRenderer renderer = table.getCellRenderer(row, column);
         if (renderer instanceof DarkTableCellRendererDelegate) return renderer;
@@ -646,6 +694,9 @@ public class DarkTableUI extends DarkTableUIBridge implements TableConstants, Ha
                 table.repaint();
             } else if (PropertyKey.ENABLED.equals(key)) {
                 DarkUIUtil.repaint(table.getTableHeader());
+            } else if (KEY_ROW_SNAPSHOT_CACHE.equals(key)) {
+                updateRowSnapshotCache();
+                table.repaint();
             }
         }
 
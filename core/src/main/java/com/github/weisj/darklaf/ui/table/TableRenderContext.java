@@ -0,0 +1,249 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.ui.table;
+
+import java.awt.*;
+
+import javax.swing.*;
+import javax.swing.border.Border;
+import javax.swing.table.JTableHeader;
+import javax.swing.table.TableColumn;
+
+import com.github.weisj.darklaf.ui.cell.CellConstants;
+import com.github.weisj.darklaf.ui.util.DarkUIUtil;
+import com.github.weisj.darklaf.util.PropertyUtil;
+
+/**
+ * Table state which stays constant while the cells of a table are painted. The context is computed once per
+ * {@link DarkTableUI#paint(Graphics, JComponent)} pass and read by the renderers instead of querying client
+ * properties, the {@link UIManager} and the selection models for every cell.
+ *
+ * <p>
+ * The focus border state of the cell which is currently being rendered is kept in plain fields of the context. If
+ * a renderer is requested outside of a paint pass a transient context is used and the state is stored in the
+ * client properties of the renderer component as before.
+ *
+ * @author Jannis Weis
+ */
+public class TableRenderContext implements TableConstants {
+
+    private final JTable table;
+    private final boolean paintPass;
+
+    private final boolean enabled;
+    private final boolean editing;
+    private final boolean tableHasFocus;
+    private final boolean tableFocused;
+    private final boolean rowFocusBorder;
+    private final boolean alternateRowColor;
+    private final boolean booleanRenderingEnabled;
+    private final boolean radioButtonRenderType;
+    private final int leadRow;
+    private final int leadColumn;
+    private final int draggedColumn;
+    private final Border focusBorder;
+    private final Border noFocusBorder;
+
+    private Component focusRenderer;
+    private boolean focusRendererRowFocus;
+    private boolean focusRendererForceLeft;
+    private boolean focusRendererForceRight;
+
+    TableRenderContext(final JTable table, final boolean paintPass) {
+        this.table = table;
+        this.paintPass = paintPass;
+        enabled = table.isEnabled();
+        editing = table.isEditing();
+        tableHasFocus = table.hasFocus();
+        tableFocused = DarkUIUtil.hasFocus(table);
+        rowFocusBorder = PropertyUtil.getBooleanProperty(table, KEY_FULL_ROW_FOCUS_BORDER);
+        alternateRowColor = PropertyUtil.getBooleanProperty(table, KEY_ALTERNATE_ROW_COLOR);
+        booleanRenderingEnabled = PropertyUtil.getBooleanProperty(table, KEY_RENDER_BOOLEAN_AS_CHECKBOX);
+        radioButtonRenderType =
+                PropertyUtil.isPropertyEqual(table, KEY_BOOLEAN_RENDER_TYPE, CellConstants.RENDER_TYPE_RADIOBUTTON);
+        leadRow = table.getSelectionModel().getLeadSelectionIndex();
+        leadColumn = table.getColumnModel().getSelectionModel().getLeadSelectionIndex();
+        JTableHeader header = table.getTableHeader();
+        TableColumn dragged = header != null ? header.getDraggedColumn() : null;
+        draggedColumn = dragged != null ? DarkTableUI.viewIndexForColumn(dragged, table) : -1;
+        focusBorder = UIManager.getBorder("Table.focusSelectedCellHighlightBorder");
+        noFocusBorder = UIManager.getBorder("Table.cellNoFocusBorder");
+    }
+
+    /**
+     * Returns the context of the current paint pass of the table or a transient context if the table currently
+     * isn't painted by a {@link DarkTableUI}.
+     *
+     * @param table the table.
+     * @return the render context.
+     */
+    public static TableRenderContext forTable(final JTable table) {
+        TableRenderContext context = DarkTableUI.getRenderContext(table);
+        return context != null ? context : new TableRenderContext(table, false);
+    }
+
+    /**
+     * Returns the context of the current paint pass of the table which contains the given renderer component.
+     *
+     * @param renderer the renderer component.
+     * @return the render context or null if the renderer isn't painted as part of a table paint pass.
+     */
+    public static TableRenderContext forRenderer(final Component renderer) {
+        Container pane = renderer.getParent();
+        Container parent = pane != null ? pane.getParent() : null;
+        return parent instanceof JTable ? DarkTableUI.getRenderContext((JTable) parent) : null;
+    }
+
+    public JTable getTable() {
+        return table;
+    }
+
+    public boolean isPaintPass() {
+        return paintPass;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isEditing() {
+        return editing;
+    }
+
+    /**
+     * @return whether the table or one of its children has the focus.
+     */
+    public boolean isTableFocused() {
+        return tableFocused;
+    }
+
+    /**
+     * @return whether the table itself has the focus.
+     */
+    public boolean isTableFocusOwner() {
+        return tableHasFocus;
+    }
+
+    /**
+     * Returns whether the given cell component should use its focused colors. This is the case if the table itself
+     * has the focus, the component or one of its children has the focus or the component is displayed inside a
+     * popup.
+     *
+     * @param comp the cell component.
+     * @return true if the cell should be painted as focused.
+     */
+    public boolean hasCellFocus(final Component comp) {
+        return tableHasFocus || DarkUIUtil.hasFocus(comp)
+                || DarkUIUtil.getParentOfType(JPopupMenu.class, comp, 4) != null;
+    }
+
+    public boolean isRowFocusBorder() {
+        return rowFocusBorder;
+    }
+
+    public boolean isAlternateRowColor() {
+        return alternateRowColor;
+    }
+
+    public boolean isRadioButtonRenderType() {
+        return radioButtonRenderType;
+    }
+
+    public int getLeadRow() {
+        return leadRow;
+    }
+
+    public int getLeadColumn() {
+        return leadColumn;
+    }
+
+    /**
+     * @return the view index of the column currently dragged or -1 if no column is dragged.
+     */
+    public int getDraggedColumn() {
+        return draggedColumn;
+    }
+
+    public Border getFocusBorder() {
+        return focusBorder;
+    }
+
+    public Border getNoFocusBorder() {
+        return noFocusBorder;
+    }
+
+    public boolean useBooleanRenderer(final Object value, final int column) {
+        return value instanceof Boolean
+                && (booleanRenderingEnabled || Boolean.class.isAssignableFrom(table.getColumnClass(column)));
+    }
+
+    /**
+     * Returns whether the value should be rendered by the boolean renderer. Outside of a paint pass only the
+     * property needed for this decision is looked up, instead of creating a transient context.
+     *
+     * @param table the table.
+     * @param value the value of the cell.
+     * @param column the column of the cell.
+     * @return true if the boolean renderer should be used.
+     */
+    public static boolean useBooleanRenderer(final JTable table, final Object value, final int column) {
+        TableRenderContext context = DarkTableUI.getRenderContext(table);
+        if (context != null) return context.useBooleanRenderer(value, column);
+        return TableConstants.useBooleanEditorForValue(value, table, column);
+    }
+
+    /**
+     * Sets the focus border state of the renderer component which is about to be painted.
+     *
+     * @param renderer the renderer component.
+     * @param rowFocus whether the focus border spans the whole row.
+     * @param forceLeft whether the left edge of the border has to be painted.
+     * @param forceRight whether the right edge of the border has to be painted.
+     */
+    public void setFocusRendererState(final Component renderer, final boolean rowFocus, final boolean forceLeft,
+            final boolean forceRight) {
+        focusRenderer = renderer;
+        focusRendererRowFocus = rowFocus;
+        focusRendererForceLeft = forceLeft;
+        focusRendererForceRight = forceRight;
+    }
+
+    public void clearFocusRendererState() {
+        setFocusRendererState(null, false, false, false);
+    }
+
+    @SuppressWarnings("ReferenceEquality")
+    public boolean isFocusRenderer(final Component c) {
+        return c != null && c == focusRenderer;
+    }
+
+    public boolean isRowFocusRenderer() {
+        return focusRendererRowFocus;
+    }
+
+    public boolean isForceLeftBorder() {
+        return focusRendererForceLeft;
+    }
+
+    public boolean isForceRightBorder() {
+        return focusRendererForceRight;
+    }
+}
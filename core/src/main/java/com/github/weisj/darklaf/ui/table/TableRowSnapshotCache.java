@@ -0,0 +1,487 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.ui.table;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.print.PrinterGraphics;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+import javax.swing.*;
+import javax.swing.event.*;
+import javax.swing.plaf.UIResource;
+import javax.swing.table.JTableHeader;
+import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableColumnModel;
+import javax.swing.table.TableModel;
+
+import com.github.weisj.darklaf.util.PropertyKey;
+
+/**
+ * Keeps rendered rows of a table as images, such that repainting a row whose content and state didn't change is a
+ * plain image copy. Snapshots are keyed by the row, the painted column range and geometry, the selection and
+ * focus state of the row and the renderers of its cells. They are invalidated by table model, column model and row
+ * sorter events and by property changes of the table. Changes to the state of a renderer itself aren't noticed.
+ *
+ * <p>
+ * Snapshots are only used if the table is opaque and the graphics transform maps the row to whole device pixels.
+ * Rows containing the editor and paint passes while a column is dragged are always painted directly. The same
+ * holds for rows with renderer components, which don't paint their background, as the snapshot can't contain
+ * what the table paints below them.
+ */
+class TableRowSnapshotCache implements TableModelListener, TableColumnModelListener, RowSorterListener,
+        PropertyChangeListener {
+
+    private static final int MAX_ENTRIES = 512;
+    private static final long MAX_PIXELS = 4L * 1024 * 1024;
+
+    private final DarkTableUI ui;
+    private final JTable table;
+    private final LinkedHashMap<RowKey, Snapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+    private long pixelCount;
+
+    private TableModel model;
+    private TableColumnModel columnModel;
+    private RowSorter<?> rowSorter;
+
+    TableRowSnapshotCache(final DarkTableUI ui, final JTable table) {
+        this.ui = ui;
+        this.table = table;
+    }
+
+    void install() {
+        table.addPropertyChangeListener(this);
+        attach();
+    }
+
+    void uninstall() {
+        table.removePropertyChangeListener(this);
+        detach();
+        clear();
+    }
+
+    private void attach() {
+        model = table.getModel();
+        columnModel = table.getColumnModel();
+        rowSorter = table.getRowSorter();
+        if (model != null) model.addTableModelListener(this);
+        if (columnModel != null) columnModel.addColumnModelListener(this);
+        if (rowSorter != null) rowSorter.addRowSorterListener(this);
+    }
+
+    private void detach() {
+        if (model != null) model.removeTableModelListener(this);
+        if (columnModel != null) columnModel.removeColumnModelListener(this);
+        if (rowSorter != null) rowSorter.removeRowSorterListener(this);
+        model = null;
+        columnModel = null;
+        rowSorter = null;
+    }
+
+    void clear() {
+        snapshots.clear();
+        pixelCount = 0;
+    }
+
+    /**
+     * Paints the cells of the given range using the row snapshots.
+     *
+     * @return false if snapshots can't be used for this paint pass. Nothing has been painted in this case.
+     */
+    boolean paintCells(final Graphics g, final int rMin, final int rMax, final int cMin, final int cMax) {
+        if (!(g instanceof Graphics2D) || g instanceof PrinterGraphics || !table.isOpaque()) return false;
+        if (table.getClientProperty(DarkTableUI.KEY_IS_PRINT_MODE) != null) return false;
+        JTableHeader header = table.getTableHeader();
+        if (header != null && header.getDraggedColumn() != null) return false;
+        TableRenderContext context = DarkTableUI.getRenderContext(table);
+        if (context == null) return false;
+        Graphics2D g2 = (Graphics2D) g;
+        AffineTransform at = g2.getTransform();
+        int allowedTypes = AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_UNIFORM_SCALE
+                | AffineTransform.TYPE_GENERAL_SCALE;
+        if ((at.getType() & ~allowedTypes) != 0) return false;
+        if (!isWhole(at.getScaleX()) || !isWhole(at.getScaleY())
+                || !isWhole(at.getTranslateX()) || !isWhole(at.getTranslateY())) {
+            return false;
+        }
+        int scaleX = (int) Math.round(at.getScaleX());
+        int scaleY = (int) Math.round(at.getScaleY());
+        if (scaleX < 1 || scaleY < 1) return false;
+
+        int columnCount = cMax - cMin + 1;
+        int[] cellX = new int[columnCount];
+        int[] cellWidth = new int[columnCount];
+        int stripX = Integer.MAX_VALUE;
+        int stripMaxX = Integer.MIN_VALUE;
+        for (int column = cMin; column <= cMax; column++) {
+            Rectangle r = table.getCellRect(rMin, column, false);
+            int i = column - cMin;
+            cellX[i] = r.x;
+            cellWidth[i] = ui.cellPaintWidth(r, column);
+            stripX = Math.min(stripX, r.x);
+            stripMaxX = Math.max(stripMaxX, r.x + cellWidth[i]);
+        }
+        int stripWidth = stripMaxX - stripX;
+        if (stripWidth <= 0) return false;
+
+        PassState pass = new PassState(context, cMin, cMax, stripX, stripWidth, scaleX, scaleY);
+        ListSelectionModel rowSelection = table.getSelectionModel();
+        int editingRow = table.isEditing() ? table.getEditingRow() : -1;
+        for (int row = rMin; row <= rMax; row++) {
+            Rectangle rowRect = table.getCellRect(row, cMin, false);
+            if (row == editingRow || rowRect.height <= 0) {
+                paintRow(g, row, cMin, cMax);
+                continue;
+            }
+            int leadColumn = row == context.getLeadRow() ? context.getLeadColumn() : -2;
+            RowKey key = new RowKey(pass, row, rowRect.height, rowSelection.isSelectedIndex(row), leadColumn,
+                    renderers(row, cMin, cMax));
+            Snapshot snapshot = snapshots.get(key);
+            if (snapshot == null) snapshot = createSnapshot(g2, key, rowRect, cMin, cMax);
+            if (snapshot == null || snapshot.image == null) {
+                paintRow(g, row, cMin, cMax);
+                continue;
+            }
+            for (int i = 0; i < columnCount; i++) {
+                int w = cellWidth[i];
+                if (w <= 0) continue;
+                int sx = (cellX[i] - stripX) * scaleX;
+                g.drawImage(snapshot.image,
+                        cellX[i], rowRect.y, cellX[i] + w, rowRect.y + rowRect.height,
+                        sx, 0, sx + w * scaleX, rowRect.height * scaleY, null);
+            }
+        }
+        return true;
+    }
+
+    private Snapshot createSnapshot(final Graphics2D g, final RowKey key, final Rectangle rowRect, final int cMin,
+            final int cMax) {
+        PassState pass = key.pass;
+        int width = pass.stripWidth * pass.scaleX;
+        int height = rowRect.height * pass.scaleY;
+        long pixels = (long) width * height;
+        if (pixels > MAX_PIXELS / 4) return null;
+        int modelRow = key.row < table.getRowCount() ? table.convertRowIndexToModel(key.row) : -1;
+        if (!hasOpaqueCells(key.row, cMin, cMax)) {
+            // Remember the decision, such that the renderers aren't prepared twice on every paint.
+            Snapshot snapshot = new Snapshot(null, modelRow, 0);
+            evict(0, width, height);
+            snapshots.put(key, snapshot);
+            return snapshot;
+        }
+        BufferedImage image = evict(pixels, width, height);
+        if (image == null) image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D ig = image.createGraphics();
+        try {
+            ig.setRenderingHints(g.getRenderingHints());
+            ig.setColor(table.getBackground());
+            ig.fillRect(0, 0, width, height);
+            ig.scale(pass.scaleX, pass.scaleY);
+            ig.translate(-pass.stripX, -rowRect.y);
+            paintRow(ig, key.row, cMin, cMax);
+        } finally {
+            ig.dispose();
+        }
+
+        Snapshot snapshot = new Snapshot(image, modelRow, pixels);
+        snapshots.put(key, snapshot);
+        pixelCount += pixels;
+        return snapshot;
+    }
+
+    /*
+     * Evicts the least recently used snapshots until the new snapshot fits into the budget. Returns the image of an
+     * evicted snapshot with matching size for reuse, if there is one.
+     */
+    private BufferedImage evict(final long pixels, final int width, final int height) {
+        BufferedImage reusable = null;
+        Iterator<Snapshot> it = snapshots.values().iterator();
+        while (it.hasNext() && (snapshots.size() >= MAX_ENTRIES || pixelCount + pixels > MAX_PIXELS)) {
+            Snapshot snapshot = it.next();
+            it.remove();
+            pixelCount -= snapshot.pixels;
+            if (reusable == null && snapshot.image != null
+                    && snapshot.image.getWidth() == width && snapshot.image.getHeight() == height) {
+                reusable = snapshot.image;
+            }
+        }
+        return reusable;
+    }
+
+    /*
+     * Snapshots are filled with the table background before the row is painted. Like DefaultTableCellRenderer a
+     * non-opaque renderer component with the background of the table counts as opaque.
+     */
+    private boolean hasOpaqueCells(final int row, final int cMin, final int cMax) {
+        Color background = table.getBackground();
+        for (int column = cMin; column <= cMax; column++) {
+            Component component = table.prepareRenderer(ui.getCellRenderer(row, column), row, column);
+            if (!component.isOpaque() && !Objects.equals(background, component.getBackground())) return false;
+        }
+        return true;
+    }
+
+    private TableCellRenderer[] renderers(final int row, final int cMin, final int cMax) {
+        TableCellRenderer[] renderers = new TableCellRenderer[cMax - cMin + 1];
+        for (int column = cMin; column <= cMax; column++) {
+            renderers[column - cMin] = table.getCellRenderer(row, column);
+        }
+        return renderers;
+    }
+
+    private void paintRow(final Graphics g, final int row, final int cMin, final int cMax) {
+        for (int column = cMin; column <= cMax; column++) {
+            ui.paintCell(g, table.getCellRect(row, column, false), row, column, cMin, cMax);
+        }
+    }
+
+    private static boolean isWhole(final double value) {
+        return Math.abs(value - Math.rint(value)) < 1E-6;
+    }
+
+    private void removeModelRows(final int firstRow, final int lastRow) {
+        Iterator<Snapshot> it = snapshots.values().iterator();
+        while (it.hasNext()) {
+            Snapshot snapshot = it.next();
+            if (snapshot.modelRow < 0 || (snapshot.modelRow >= firstRow && snapshot.modelRow <= lastRow)) {
+                it.remove();
+                pixelCount -= snapshot.pixels;
+            }
+        }
+    }
+
+    @Override
+    public void tableChanged(final TableModelEvent e) {
+        if (e.getType() == TableModelEvent.UPDATE && e.getFirstRow() >= 0 && e.getLastRow() != Integer.MAX_VALUE) {
+            removeModelRows(e.getFirstRow(), e.getLastRow());
+        } else {
+            clear();
+        }
+    }
+
+    @Override
+    public void sorterChanged(final RowSorterEvent e) {
+        clear();
+    }
+
+    @Override
+    public void columnAdded(final TableColumnModelEvent e) {
+        clear();
+    }
+
+    @Override
+    public void columnRemoved(final TableColumnModelEvent e) {
+        clear();
+    }
+
+    @Override
+    public void columnMoved(final TableColumnModelEvent e) {
+        if (e.getFromIndex() != e.getToIndex()) clear();
+    }
+
+    @Override
+    public void columnMarginChanged(final ChangeEvent e) {
+        clear();
+    }
+
+    @Override
+    public void columnSelectionChanged(final ListSelectionEvent e) {
+        // Column selection is part of the snapshot key.
+    }
+
+    @Override
+    public void propertyChange(final PropertyChangeEvent evt) {
+        String key = evt.getPropertyName();
+        if (PropertyKey.ANCESTOR.equals(key) || "tableCellEditor".equals(key)) return;
+        if ("selectionBackground".equals(key)
+                && evt.getOldValue() instanceof UIResource && evt.getNewValue() instanceof UIResource) {
+            // Swapped by the ui on focus changes. The focus state is part of the snapshot key.
+            return;
+        }
+        if ("model".equals(key) || "columnModel".equals(key) || "rowSorter".equals(key)) {
+            detach();
+            attach();
+        }
+        clear();
+    }
+
+    private static final class Snapshot {
+        private final BufferedImage image;
+        private final int modelRow;
+        private final long pixels;
+
+        private Snapshot(final BufferedImage image, final int modelRow, final long pixels) {
+            this.image = image;
+            this.modelRow = modelRow;
+            this.pixels = pixels;
+        }
+    }
+
+    static final class PassState {
+        private final int cMin;
+        private final int cMax;
+        private final int stripX;
+        private final int stripWidth;
+        private final int scaleX;
+        private final int scaleY;
+        private final boolean enabled;
+        private final boolean editing;
+        private final boolean tableFocused;
+        private final boolean tableFocusOwner;
+        private final boolean rowSelectionAllowed;
+        private final boolean columnSelectionAllowed;
+        private final BitSet columnSelection;
+        private final int hash;
+
+        private PassState(final TableRenderContext context, final int cMin, final int cMax, final int stripX,
+                final int stripWidth, final int scaleX, final int scaleY) {
+            this(cMin, cMax, stripX, stripWidth, scaleX, scaleY, context.isEnabled(), context.isEditing(),
+                    context.isTableFocused(), context.isTableFocusOwner(),
+                    context.getTable().getRowSelectionAllowed(), context.getTable().getColumnSelectionAllowed(),
+                    columnSelection(context.getTable().getColumnModel().getSelectionModel(), cMin, cMax));
+        }
+
+        PassState(final int cMin, final int cMax, final int stripX, final int stripWidth, final int scaleX,
+                final int scaleY, final boolean enabled, final boolean editing, final boolean tableFocused,
+                final boolean tableFocusOwner, final boolean rowSelectionAllowed,
+                final boolean columnSelectionAllowed, final BitSet columnSelection) {
+            this.cMin = cMin;
+            this.cMax = cMax;
+            this.stripX = stripX;
+            this.stripWidth = stripWidth;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            this.enabled = enabled;
+            this.editing = editing;
+            this.tableFocused = tableFocused;
+            this.tableFocusOwner = tableFocusOwner;
+            this.rowSelectionAllowed = rowSelectionAllowed;
+            this.columnSelectionAllowed = columnSelectionAllowed;
+            this.columnSelection = columnSelectionAllowed ? columnSelection : new BitSet();
+            int selectionHash = 0;
+            for (int i = this.columnSelection.nextSetBit(0); i >= 0; i = this.columnSelection.nextSetBit(i + 1)) {
+                selectionHash = 31 * selectionHash + cMin + i + 1;
+            }
+            int h = cMin;
+            h = 31 * h + cMax;
+            h = 31 * h + stripX;
+            h = 31 * h + stripWidth;
+            h = 31 * h + scaleX;
+            h = 31 * h + scaleY;
+            h = 31 * h + flags();
+            h = 31 * h + selectionHash;
+            hash = h;
+        }
+
+        /*
+         * The selected columns of the painted range. Bit i corresponds to the column cMin + i.
+         */
+        static BitSet columnSelection(final ListSelectionModel selectionModel, final int cMin, final int cMax) {
+            BitSet selection = new BitSet();
+            if (selectionModel == null || selectionModel.isSelectionEmpty()) return selection;
+            int min = Math.max(cMin, selectionModel.getMinSelectionIndex());
+            int max = Math.min(cMax, selectionModel.getMaxSelectionIndex());
+            for (int column = min; column <= max; column++) {
+                if (selectionModel.isSelectedIndex(column)) selection.set(column - cMin);
+            }
+            return selection;
+        }
+
+        private int flags() {
+            return (enabled ? 1 : 0) | (editing ? 2 : 0) | (tableFocused ? 4 : 0) | (tableFocusOwner ? 8 : 0)
+                    | (rowSelectionAllowed ? 16 : 0) | (columnSelectionAllowed ? 32 : 0);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PassState)) return false;
+            PassState other = (PassState) o;
+            return cMin == other.cMin && cMax == other.cMax && stripX == other.stripX
+                    && stripWidth == other.stripWidth && scaleX == other.scaleX && scaleY == other.scaleY
+                    && flags() == other.flags() && columnSelection.equals(other.columnSelection);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    static final class RowKey {
+        private final PassState pass;
+        private final int row;
+        private final int height;
+        private final boolean selected;
+        private final int leadColumn;
+        private final TableCellRenderer[] renderers;
+
+        RowKey(final PassState pass, final int row, final int height, final boolean selected, final int leadColumn,
+                final TableCellRenderer[] renderers) {
+            this.pass = pass;
+            this.row = row;
+            this.height = height;
+            this.selected = selected;
+            this.leadColumn = leadColumn;
+            this.renderers = renderers;
+        }
+
+        /*
+         * Renderers are compared by identity, as replacing a renderer doesn't fire a property change of the table.
+         */
+        private boolean sameRenderers(final TableCellRenderer[] other) {
+            if (renderers.length != other.length) return false;
+            for (int i = 0; i < renderers.length; i++) {
+                if (renderers[i] != other[i]) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RowKey)) return false;
+            RowKey other = (RowKey) o;
+            return row == other.row && height == other.height && selected == other.selected
+                    && leadColumn == other.leadColumn && pass.equals(other.pass) && sameRenderers(other.renderers);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = pass.hashCode();
+            h = 31 * h + row;
+            h = 31 * h + height;
+            h = 31 * h + (selected ? 1 : 0);
+            h = 31 * h + leadColumn;
+            for (TableCellRenderer renderer : renderers) {
+                h = 31 * h + System.identityHashCode(renderer);
+            }
+            return h;
+        }
+    }
+}
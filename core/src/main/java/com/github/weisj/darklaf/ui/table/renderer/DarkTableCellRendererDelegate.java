@@ -24,16 +24,12 @@ import java.awt.*;
 
 import javax.swing.*;
 import javax.swing.border.Border;
-import javax.swing.table.JTableHeader;
 import javax.swing.table.TableCellRenderer;
-import javax.swing.table.TableColumn;
 
 import com.github.weisj.darklaf.delegate.TableCellRendererDelegate;
 import com.github.weisj.darklaf.ui.cell.CellUtil;
-import com.github.weisj.darklaf.ui.table.DarkTableCellFocusBorder;
-import com.github.weisj.darklaf.ui.table.DarkTableUI;
 import com.github.weisj.darklaf.ui.table.TableConstants;
-import com.github.weisj.darklaf.ui.util.DarkUIUtil;
+import com.github.weisj.darklaf.ui.table.TableRenderContext;
 import com.github.weisj.darklaf.util.PropertyUtil;
 
 public class DarkTableCellRendererDelegate extends TableCellRendererDelegate implements TableConstants {
@@ -53,16 +49,12 @@ public class DarkTableCellRendererDelegate extends TableCellRendererDelegate imp
     @Override
     public Component getTableCellRendererComponent(final JTable table, final Object value, final boolean isSelected,
             final boolean hasFocus, final int row, final int column) {
+        TableRenderContext context = TableRenderContext.forTable(table);
         boolean booleanRenderer = useBooleanRenderer(table, value, column);
-        boolean isRowFocus = DarkTableCellFocusBorder.isRowFocusBorder(table)
-                && table.getSelectionModel().getLeadSelectionIndex() == row;
-        boolean rowLeadSelection = table.getSelectionModel().getLeadSelectionIndex() == row;
-        boolean columnLeadSelection = table.getColumnModel().getSelectionModel().getLeadSelectionIndex() == column;
-        if (rowLeadSelection && !columnLeadSelection
-                && PropertyUtil.getBooleanProperty(table, TableConstants.KEY_FULL_ROW_FOCUS_BORDER)) {
-            columnLeadSelection = true;
-        }
-        boolean isLeadSelectionCell = DarkUIUtil.hasFocus(table) && rowLeadSelection && columnLeadSelection;
+        boolean rowLeadSelection = context.getLeadRow() == row;
+        boolean isRowFocus = context.isRowFocusBorder() && rowLeadSelection;
+        boolean columnLeadSelection = context.getLeadColumn() == column || isRowFocus;
+        boolean isLeadSelectionCell = context.isTableFocused() && rowLeadSelection && columnLeadSelection;
 
         Component delegateComp = getDelegate()
                 .getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
@@ -79,10 +71,10 @@ public class DarkTableCellRendererDelegate extends TableCellRendererDelegate imp
         }
 
         if (component instanceof JComponent) {
-            setupBorderStyle(table, column, (JComponent) component, isLeadSelectionCell, isRowFocus, isSelected);
+            setupBorderStyle(context, column, (JComponent) component, isLeadSelectionCell, isRowFocus, isSelected);
         }
-        CellUtil.setupTableForeground(component, table, isSelected, row);
-        CellUtil.setupTableBackground(component, table, isSelected, row);
+        CellUtil.setupTableForeground(component, context, isSelected);
+        CellUtil.setupTableBackground(component, context, isSelected, row);
         return component;
     }
 
@@ -91,37 +83,46 @@ public class DarkTableCellRendererDelegate extends TableCellRendererDelegate imp
     }
 
     protected boolean useBooleanRenderer(final JTable table, final Object value, final int column) {
-        return TableConstants.useBooleanEditorForValue(value, table, column);
+        return TableRenderContext.useBooleanRenderer(table, value, column);
     }
 
     public void setupBorderStyle(final JTable table, final int column, final JComponent component,
             final boolean isLeadSelectionCell, final boolean isRowFocus, final boolean isSelected) {
-        Border focusBorder = UIManager.getBorder("Table.focusSelectedCellHighlightBorder");
+        setupBorderStyle(TableRenderContext.forTable(table), column, component, isLeadSelectionCell, isRowFocus,
+                isSelected);
+    }
+
+    public void setupBorderStyle(final TableRenderContext context, final int column, final JComponent component,
+            final boolean isLeadSelectionCell, final boolean isRowFocus, final boolean isSelected) {
+        Border focusBorder = context.getFocusBorder();
         boolean belongsToLeadSelection = isRowFocus || isLeadSelectionCell;
-        boolean showLeadFocusBorder = !table.isEditing()
+        boolean showLeadFocusBorder = !context.isEditing()
                 && belongsToLeadSelection
                 && !isSelected;
+        if (context.isPaintPass()) context.clearFocusRendererState();
         if (showLeadFocusBorder) {
             PropertyUtil.installBorder(component, focusBorder);
+            boolean forceLeft = false;
+            boolean forceRight = false;
             if (isRowFocus) {
-                component.putClientProperty(KEY_FULL_ROW_FOCUS_BORDER, true);
-                JTableHeader header = table.getTableHeader();
-                TableColumn draggedColumn = (header == null) ? null : header.getDraggedColumn();
-                boolean forceLeft = false;
-                boolean forceRight = false;
-                if (draggedColumn != null) {
-                    int index = DarkTableUI.viewIndexForColumn(draggedColumn, table);
+                int index = context.getDraggedColumn();
+                if (index >= 0) {
                     forceLeft = column == index + 1 || column == index;
                     forceRight = column == index - 1 || column == index;
                 }
-                component.putClientProperty(KEY_FORCE_RIGHT_BORDER, forceRight);
-                component.putClientProperty(KEY_FORCE_LEFT_BORDER, forceLeft);
+            }
+            if (context.isPaintPass()) {
+                context.setFocusRendererState(component, isRowFocus, forceLeft, forceRight);
             } else {
-                component.putClientProperty(KEY_FULL_ROW_FOCUS_BORDER, false);
+                component.putClientProperty(KEY_FULL_ROW_FOCUS_BORDER, isRowFocus);
+                if (isRowFocus) {
+                    component.putClientProperty(KEY_FORCE_RIGHT_BORDER, forceRight);
+                    component.putClientProperty(KEY_FORCE_LEFT_BORDER, forceLeft);
+                }
             }
         } else if (component.getBorder() == focusBorder
                 || focusBorder.getClass().isInstance(component.getBorder())) {
-            component.setBorder(UIManager.getBorder("Table.cellNoFocusBorder"));
+            component.setBorder(context.getNoFocusBorder());
         }
     }
 }
@@ -34,6 +34,7 @@ import org.jdesktop.swingx.JXTaskPane;
 import org.jdesktop.swingx.plaf.metal.MetalTaskPaneUI;
 
 import com.github.weisj.darklaf.graphics.PaintUtil;
+import com.github.weisj.darklaf.util.cache.FontCache;
 
 public class DarkTaskPaneUI extends MetalTaskPaneUI {
 
@@ -133,6 +134,9 @@ public class DarkTaskPaneUI extends MetalTaskPaneUI {
 
     protected class DarkPaneBorder extends PaneBorder {
 
+        private Font labelBaseFont;
+        private Font labelFont;
+
         @Override
         protected void paintTitleBackground(final JXTaskPane group, final Graphics g2) {
             Graphics2D g = (Graphics2D) g2;
@@ -166,9 +170,16 @@ public class DarkTaskPaneUI extends MetalTaskPaneUI {
         }
 
         @Override
+        @SuppressWarnings("ReferenceEquality")
         protected void configureLabel(final JXTaskPane group) {
             super.configureLabel(group);
-            label.setFont(label.getFont().deriveFont(Font.PLAIN));
+            // configureLabel is invoked on every paint. Only derive the font if the group font has changed.
+            Font font = label.getFont();
+            if (font != labelBaseFont) {
+                labelBaseFont = font;
+                labelFont = font != null ? FontCache.deriveFont(font, Font.PLAIN) : null;
+            }
+            label.setFont(labelFont);
         }
 
         @Override
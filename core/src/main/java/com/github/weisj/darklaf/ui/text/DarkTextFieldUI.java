@@ -37,6 +37,7 @@ import com.github.weisj.darklaf.listener.MouseMovementListener;
 import com.github.weisj.darklaf.listener.PopupMenuAdapter;
 import com.github.weisj.darklaf.ui.text.bridge.DarkTextFieldUIBridge;
 import com.github.weisj.darklaf.ui.util.DarkUIUtil;
+import com.github.weisj.darklaf.ui.util.UIStyleCache;
 import com.github.weisj.darklaf.util.FontUtil;
 import com.github.weisj.darklaf.util.PropertyUtil;
 import com.github.weisj.darklaf.util.graphics.GraphicsContext;
@@ -292,17 +293,18 @@ public class DarkTextFieldUI extends DarkTextFieldUIBridge implements PropertyCh
     @Override
     protected void installDefaults() {
         super.installDefaults();
-        arcSize = UIManager.getInt("TextField.arc");
-        searchArcSize = UIManager.getInt("TextField.searchArc");
-        background = UIManager.getColor("TextField.background");
-        inactiveBackground = UIManager.getColor("TextField.disabledBackground");
-        clearHover = UIManager.getIcon("TextField.search.clearHover.icon");
-        clear = UIManager.getIcon("TextField.search.clear.icon");
-        searchWithHistory = UIManager.getIcon("TextField.search.searchWithHistory.icon");
-        searchWithHistoryDisabled = UIManager.getIcon("TextField.search.searchWithHistory.disabled.icon");
-        search = UIManager.getIcon("TextField.search.search.icon");
-        searchDisabled = UIManager.getIcon("TextField.search.search.disabled.icon");
-        buttonPad = UIManager.getInt("TextField.iconPad");
+        TextFieldStyle style = UIStyleCache.getStyle(TextFieldStyle.class, TextFieldStyle::new);
+        arcSize = style.arcSize;
+        searchArcSize = style.searchArcSize;
+        background = style.background;
+        inactiveBackground = style.inactiveBackground;
+        clearHover = style.clearHover;
+        clear = style.clear;
+        searchWithHistory = style.searchWithHistory;
+        searchWithHistoryDisabled = style.searchWithHistoryDisabled;
+        search = style.search;
+        searchDisabled = style.searchDisabled;
+        buttonPad = style.buttonPad;
     }
 
     @Override
@@ -374,4 +376,32 @@ public class DarkTextFieldUI extends DarkTextFieldUIBridge implements PropertyCh
         LEFT_ACTION,
         NONE
     }
+
+    private static final class TextFieldStyle {
+        private final int arcSize;
+        private final int searchArcSize;
+        private final Color background;
+        private final Color inactiveBackground;
+        private final Icon clearHover;
+        private final Icon clear;
+        private final Icon searchWithHistory;
+        private final Icon searchWithHistoryDisabled;
+        private final Icon search;
+        private final Icon searchDisabled;
+        private final int buttonPad;
+
+        private TextFieldStyle(final UIStyleCache.StyleReader reader) {
+            arcSize = reader.getInt("TextField.arc");
+            searchArcSize = reader.getInt("TextField.searchArc");
+            background = reader.getColor("TextField.background");
+            inactiveBackground = reader.getColor("TextField.disabledBackground");
+            clearHover = reader.getIcon("TextField.search.clearHover.icon");
+            clear = reader.getIcon("TextField.search.clear.icon");
+            searchWithHistory = reader.getIcon("TextField.search.searchWithHistory.icon");
+            searchWithHistoryDisabled = reader.getIcon("TextField.search.searchWithHistory.disabled.icon");
+            search = reader.getIcon("TextField.search.search.icon");
+            searchDisabled = reader.getIcon("TextField.search.search.disabled.icon");
+            buttonPad = reader.getInt("TextField.iconPad");
+        }
+    }
 }
@@ -28,6 +28,7 @@ import java.util.Enumeration;
 import java.util.Objects;
 
 import javax.swing.*;
+import javax.swing.border.Border;
 import javax.swing.plaf.BorderUIResource;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.UIResource;
@@ -48,6 +49,7 @@ import com.github.weisj.darklaf.ui.cell.CellUtil;
 import com.github.weisj.darklaf.ui.cell.DarkCellRendererPane;
 import com.github.weisj.darklaf.ui.cell.hint.CellHintPopupListener;
 import com.github.weisj.darklaf.ui.util.DarkUIUtil;
+import com.github.weisj.darklaf.ui.util.UIStyleCache;
 import com.github.weisj.darklaf.util.PropertyUtil;
 import com.github.weisj.darklaf.util.graphics.GraphicsContext;
 
@@ -127,32 +129,31 @@ public class DarkTreeUI extends BasicTreeUI
         rendererDelegate = new DarkTreeCellRendererDelegate(null);
         rendererPane = createCellRendererPane();
         LookAndFeel.installColors(tree, "Tree.background", "Tree.foreground");
-        focusSelectedLineColor = UIManager.getColor("Tree.lineFocusSelected");
-        selectedLineColor = UIManager.getColor("Tree.lineSelected");
-        lineColor = UIManager.getColor("Tree.lineUnselected");
-        expandedFocusSelected = UIManager.getIcon("Tree.expanded.selected.focused.icon");
-        expandedSelected = UIManager.getIcon("Tree.expanded.selected.unfocused.icon");
-        expandedFocus = UIManager.getIcon("Tree.expanded.unselected.focused.icon");
-        expanded = UIManager.getIcon("Tree.expanded.unselected.unfocused.icon");
-        expandedDisabled = UIManager.getIcon("Tree.expanded.disabled.icon");
-        collapsedFocusSelected = UIManager.getIcon("Tree.collapsed.selected.focused.icon");
-        collapsedSelected = UIManager.getIcon("Tree.collapsed.selected.unfocused.icon");
-        collapsedFocus = UIManager.getIcon("Tree.collapsed.unselected.focused.icon");
-        collapsed = UIManager.getIcon("Tree.collapsed.unselected.unfocused.icon");
-        collapsedDisabled = UIManager.getIcon("Tree.collapsed.disabled.icon");
-        leadSelectionBorderInsets = UIManager.getInsets("Tree.leadSelectionBorderInsets");
-        if (leadSelectionBorderInsets == null) leadSelectionBorderInsets = new Insets(1, 1, 1, 1);
-        PropertyUtil.installBooleanProperty(tree, KEY_RENDER_BOOLEAN_AS_CHECKBOX, "Tree.renderBooleanAsCheckBox");
-        PropertyUtil.installProperty(tree, KEY_BOOLEAN_RENDER_TYPE, UIManager.getString("Tree.booleanRenderType"));
-        PropertyUtil.installProperty(tree, KEY_LINE_STYLE, UIManager.getString("Tree.defaultLineStyle"));
+        TreeStyle style = UIStyleCache.getStyle(TreeStyle.class, TreeStyle::new);
+        focusSelectedLineColor = style.focusSelectedLineColor;
+        selectedLineColor = style.selectedLineColor;
+        lineColor = style.lineColor;
+        expandedFocusSelected = style.expandedFocusSelected;
+        expandedSelected = style.expandedSelected;
+        expandedFocus = style.expandedFocus;
+        expanded = style.expanded;
+        expandedDisabled = style.expandedDisabled;
+        collapsedFocusSelected = style.collapsedFocusSelected;
+        collapsedSelected = style.collapsedSelected;
+        collapsedFocus = style.collapsedFocus;
+        collapsed = style.collapsed;
+        collapsedDisabled = style.collapsedDisabled;
+        leadSelectionBorderInsets = style.leadSelectionBorderInsets;
+        PropertyUtil.installBooleanProperty(tree, KEY_RENDER_BOOLEAN_AS_CHECKBOX, style.renderBooleanAsCheckBox);
+        PropertyUtil.installProperty(tree, KEY_BOOLEAN_RENDER_TYPE, style.booleanRenderType);
+        PropertyUtil.installProperty(tree, KEY_LINE_STYLE, style.lineStyle);
         LookAndFeel.installProperty(tree, JTree.SHOWS_ROOT_HANDLES_PROPERTY, true);
-        dashLength = UIManager.getInt("Tree.dash.length");
-        dashGapLength = UIManager.getInt("Tree.dash.gaplength");
-        arc = UIManager.getInt("Tree.selection.arc");
-        selectionMargin = UIManager.getInsets("Tree.selection.margin");
-        if (selectionMargin != null) {
-            PropertyUtil.installBorder(tree,
-                    new BorderUIResource.EmptyBorderUIResource(DarkUIUtil.scale(selectionMargin, 0.5f, null)));
+        dashLength = style.dashLength;
+        dashGapLength = style.dashGapLength;
+        arc = style.arc;
+        selectionMargin = style.selectionMargin;
+        if (style.selectionMarginBorder != null) {
+            PropertyUtil.installBorder(tree, style.selectionMarginBorder);
         }
     }
 
@@ -955,4 +956,56 @@ public class DarkTreeUI extends BasicTreeUI
             }
         }
     }
+
+    private static final class TreeStyle {
+        private final Color focusSelectedLineColor;
+        private final Color selectedLineColor;
+        private final Color lineColor;
+        private final Icon expandedFocusSelected;
+        private final Icon expandedSelected;
+        private final Icon expandedFocus;
+        private final Icon expanded;
+        private final Icon expandedDisabled;
+        private final Icon collapsedFocusSelected;
+        private final Icon collapsedSelected;
+        private final Icon collapsedFocus;
+        private final Icon collapsed;
+        private final Icon collapsedDisabled;
+        private final Insets leadSelectionBorderInsets;
+        private final boolean renderBooleanAsCheckBox;
+        private final String booleanRenderType;
+        private final String lineStyle;
+        private final int dashLength;
+        private final int dashGapLength;
+        private final int arc;
+        private final Insets selectionMargin;
+        private final Border selectionMarginBorder;
+
+        private TreeStyle(final UIStyleCache.StyleReader reader) {
+            focusSelectedLineColor = reader.getColor("Tree.lineFocusSelected");
+            selectedLineColor = reader.getColor("Tree.lineSelected");
+            lineColor = reader.getColor("Tree.lineUnselected");
+            expandedFocusSelected = reader.getIcon("Tree.expanded.selected.focused.icon");
+            expandedSelected = reader.getIcon("Tree.expanded.selected.unfocused.icon");
+            expandedFocus = reader.getIcon("Tree.expanded.unselected.focused.icon");
+            expanded = reader.getIcon("Tree.expanded.unselected.unfocused.icon");
+            expandedDisabled = reader.getIcon("Tree.expanded.disabled.icon");
+            collapsedFocusSelected = reader.getIcon("Tree.collapsed.selected.focused.icon");
+            collapsedSelected = reader.getIcon("Tree.collapsed.selected.unfocused.icon");
+            collapsedFocus = reader.getIcon("Tree.collapsed.unselected.focused.icon");
+            collapsed = reader.getIcon("Tree.collapsed.unselected.unfocused.icon");
+            collapsedDisabled = reader.getIcon("Tree.collapsed.disabled.icon");
+            leadSelectionBorderInsets = reader.getInsets("Tree.leadSelectionBorderInsets", new Insets(1, 1, 1, 1));
+            renderBooleanAsCheckBox = reader.getBoolean("Tree.renderBooleanAsCheckBox");
+            booleanRenderType = reader.getString("Tree.booleanRenderType");
+            lineStyle = reader.getString("Tree.defaultLineStyle");
+            dashLength = reader.getInt("Tree.dash.length");
+            dashGapLength = reader.getInt("Tree.dash.gaplength");
+            arc = reader.getInt("Tree.selection.arc");
+            selectionMargin = reader.getInsets("Tree.selection.margin");
+            selectionMarginBorder = selectionMargin != null
+                    ? new BorderUIResource.EmptyBorderUIResource(DarkUIUtil.scale(selectionMargin, 0.5f, null))
+                    : null;
+        }
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.ui.util;
+
+import java.awt.*;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.swing.*;
+import javax.swing.border.Border;
+
+/**
+ * Cache for immutable style records shared by all instances of a ui delegate. A record is created
+ * once from the current {@link UIDefaults} and reused until the look and feel defaults are replaced
+ * (e.g. because a new theme got installed) or one of the keys it was created from changes through
+ * {@link UIManager#put(Object, Object)}.
+ *
+ * @author Jannis Weis
+ */
+public final class UIStyleCache {
+
+    private static final Map<Class<?>, StyleEntry> styles = new ConcurrentHashMap<>();
+    private static final PropertyChangeListener defaultsListener = UIStyleCache::onDefaultsChanged;
+    private static UIDefaults lafDefaults;
+    private static UIDefaults observedDefaults;
+
+    private UIStyleCache() {}
+
+    public interface StyleFactory<T> {
+        T createStyle(final StyleReader reader);
+    }
+
+    /**
+     * Get the style record of the given type. If there is no valid record for the current defaults a
+     * new one is created using the given factory.
+     *
+     * @param type the type of the record.
+     * @param factory the factory to create the record.
+     * @param <T> the type of the record.
+     * @return the shared style record.
+     */
+    public static <T> T getStyle(final Class<T> type, final StyleFactory<T> factory) {
+        ensureValid();
+        StyleEntry entry = styles.get(type);
+        if (entry == null) {
+            StyleReader reader = new StyleReader();
+            entry = new StyleEntry(factory.createStyle(reader), reader.keys);
+            styles.put(type, entry);
+        }
+        return type.cast(entry.style);
+    }
+
+    /**
+     * Discards all cached style records.
+     */
+    public static void invalidate() {
+        styles.clear();
+    }
+
+    private static synchronized void ensureValid() {
+        UIDefaults currentLafDefaults = UIManager.getLookAndFeelDefaults();
+        if (currentLafDefaults != lafDefaults) {
+            lafDefaults = currentLafDefaults;
+            invalidate();
+        }
+        UIDefaults defaults = UIManager.getDefaults();
+        if (defaults != observedDefaults) {
+            if (observedDefaults != null) observedDefaults.removePropertyChangeListener(defaultsListener);
+            observedDefaults = defaults;
+            defaults.addPropertyChangeListener(defaultsListener);
+            invalidate();
+        }
+    }
+
+    private static void onDefaultsChanged(final PropertyChangeEvent e) {
+        String key = e.getPropertyName();
+        styles.values().removeIf(entry -> key == null || entry.keys.contains(key));
+    }
+
+    private static final class StyleEntry {
+        private final Object style;
+        private final Set<Object> keys;
+
+        private StyleEntry(final Object style, final Set<Object> keys) {
+            this.style = style;
+            this.keys = keys;
+        }
+    }
+
+    /**
+     * Reads values from the {@link UIManager} while recording the accessed keys.
+     */
+    public static final class StyleReader {
+
+        private final Set<Object> keys = new HashSet<>();
+
+        private StyleReader() {}
+
+        public Object get(final Object key) {
+            keys.add(key);
+            return UIManager.get(key);
+        }
+
+        public Color getColor(final Object key) {
+            keys.add(key);
+            return UIManager.getColor(key);
+        }
+
+        public Icon getIcon(final Object key) {
+            keys.add(key);
+            return UIManager.getIcon(key);
+        }
+
+        public Insets getInsets(final Object key) {
+            keys.add(key);
+            return UIManager.getInsets(key);
+        }
+
+        public Insets getInsets(final Object key, final Insets fallback) {
+            Insets insets = getInsets(key);
+            return insets != null ? insets : fallback;
+        }
+
+        public Border getBorder(final Object key) {
+            keys.add(key);
+            return UIManager.getBorder(key);
+        }
+
+        public Font getFont(final Object key) {
+            keys.add(key);
+            return UIManager.getFont(key);
+        }
+
+        public String getString(final Object key) {
+            keys.add(key);
+            return UIManager.getString(key);
+        }
+
+        public int getInt(final Object key) {
+            keys.add(key);
+            return UIManager.getInt(key);
+        }
+
+        public boolean getBoolean(final Object key) {
+            keys.add(key);
+            return UIManager.getBoolean(key);
+        }
+    }
+}
@@ -43,6 +43,7 @@ module darklaf.core {
     requires static com.google.errorprone.annotations;
     requires static com.google.auto.service;
     requires static swingx;
+    requires static jdk.jfr;
 
     uses com.github.weisj.darklaf.theme.Theme;
 
@@ -84,6 +85,7 @@ module darklaf.core {
     exports com.github.weisj.darklaf.listener;
     exports com.github.weisj.darklaf.settings;
     exports com.github.weisj.darklaf.task;
+    exports com.github.weisj.darklaf.trace;
     exports com.github.weisj.darklaf.layout;
 
     exports com.github.weisj.darklaf.ui;
@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.components.loading;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+
+import javax.swing.*;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.properties.icons.RotatableIcon;
+
+class LoadingIndicatorTest {
+
+    private static final int ICON_SIZE = 16;
+    private static final double[] SCALES = {1.0, 1.5, 2.0};
+
+    @Test
+    void testFramesMatchRotationOfPhase() {
+        Icon icon = new AsymmetricIcon();
+        for (double scale : SCALES) {
+            Image[] frames = RotationSprite.getFrames(icon, LoadingIndicatorPhase.FRAME_COUNT, scale, scale);
+            Assertions.assertEquals(LoadingIndicatorPhase.FRAME_COUNT, frames.length);
+            for (int phase = 0; phase < frames.length; phase++) {
+                // The rotation the per component animator used to apply for this phase.
+                RotatableIcon rotatableIcon = new RotatableIcon(icon);
+                rotatableIcon.setRotation(Math.PI * 2 * ((double) phase / LoadingIndicatorPhase.FRAME_COUNT));
+                BufferedImage expected = createImage(scale);
+                Graphics2D g = expected.createGraphics();
+                g.scale(scale, scale);
+                rotatableIcon.paintIcon(null, g, 0, 0);
+                g.dispose();
+
+                BufferedImage actual = createImage(scale);
+                g = actual.createGraphics();
+                g.drawImage(frames[phase], 0, 0, null);
+                g.dispose();
+                assertEqualImages(expected, actual, "phase=" + phase + " scale=" + scale);
+            }
+            Assertions.assertSame(frames,
+                    RotationSprite.getFrames(icon, LoadingIndicatorPhase.FRAME_COUNT, scale, scale));
+        }
+    }
+
+    @Test
+    void testDisabledIndicatorStopsAnimating() throws Exception {
+        runOnEventDispatchThread(() -> {
+            LoadingIndicator indicator = new LoadingIndicator();
+            // Creates the lightweight peer. Without a parent the indicator is showing from now on.
+            indicator.addNotify();
+            try {
+                indicator.setRunning(true);
+                Assertions.assertTrue(indicator.isRunning());
+                Assertions.assertTrue(LoadingIndicatorPhase.isRegistered(indicator));
+
+                indicator.setEnabled(false);
+                Assertions.assertFalse(indicator.isRunning());
+                Assertions.assertFalse(LoadingIndicatorPhase.isRegistered(indicator));
+
+                indicator.setEnabled(true);
+                Assertions.assertTrue(LoadingIndicatorPhase.isRegistered(indicator));
+
+                indicator.removeNotify();
+                Assertions.assertFalse(LoadingIndicatorPhase.isRegistered(indicator));
+            } finally {
+                indicator.setRunning(false);
+            }
+        });
+    }
+
+    private static BufferedImage createImage(final double scale) {
+        int size = (int) Math.ceil(ICON_SIZE * scale);
+        return new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private static void assertEqualImages(final BufferedImage expected, final BufferedImage actual,
+            final String message) {
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if (expected.getRGB(x, y) != actual.getRGB(x, y)) {
+                    Assertions.fail(message + ": Pixels differ at " + x + "," + y);
+                }
+            }
+        }
+    }
+
+    private static void runOnEventDispatchThread(final Runnable runnable) throws Exception {
+        try {
+            SwingUtilities.invokeAndWait(runnable);
+        } catch (final InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+    }
+
+    private static final class AsymmetricIcon implements Icon {
+
+        @Override
+        public void paintIcon(final Component c, final Graphics g, final int x, final int y) {
+            g.setColor(Color.RED);
+            g.fillRect(x + 2, y + 1, ICON_SIZE / 2, 3);
+            g.setColor(Color.BLUE);
+            g.fillRect(x + 1, y + ICON_SIZE / 2, 2, ICON_SIZE / 3);
+        }
+
+        @Override
+        public int getIconWidth() {
+            return ICON_SIZE;
+        }
+
+        @Override
+        public int getIconHeight() {
+            return ICON_SIZE;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.core.misc;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+
+import com.github.weisj.darklaf.LafManager;
+import com.github.weisj.darklaf.iconset.IconSet;
+import com.github.weisj.darklaf.properties.icons.DarkSVGIcon;
+import com.github.weisj.darklaf.properties.icons.IconAtlas;
+import com.github.weisj.darklaf.properties.icons.IconLoader;
+import com.github.weisj.darklaf.task.IconAtlasInitTask;
+import com.github.weisj.darklaf.theme.Theme;
+import com.github.weisj.darklaf.util.Scale;
+
+/**
+ * Pre-renders the iconset for all registered themes into an {@link IconAtlas}.
+ * <p>
+ * Arguments: {@code <output directory> <iconset resource directory>}
+ */
+public final class GenerateIconAtlas {
+
+    private static final double[] SCALES = {1.0, 1.25, 1.5, 2.0};
+    private static final int SHEET_WIDTH = 1024;
+    private static final int PADDING = 1;
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: GenerateIconAtlas <output directory> <iconset directory>");
+        }
+        Path outputDir = Paths.get(args[0]);
+        Path iconsetDir = Paths.get(args[1]);
+        Files.createDirectories(outputDir);
+
+        List<String> iconPaths;
+        try (Stream<Path> files = Files.walk(iconsetDir)) {
+            iconPaths = files.filter(p -> p.toString().endsWith(".svg"))
+                    .map(p -> iconsetDir.relativize(p).toString().replace('\\', '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        Map<String, String> index = new TreeMap<>();
+        for (Theme theme : LafManager.getRegisteredThemes()) {
+            LafManager.install(theme);
+            IconLoader loader = IconLoader.get(IconSet.class);
+            // Make sure all icons are rendered from their svg source.
+            loader.setIconAtlas(null);
+            IconLoader.updateAtlasTheme(null);
+
+            List<DarkSVGIcon> icons = new ArrayList<>(iconPaths.size());
+            for (String path : iconPaths) {
+                DarkSVGIcon icon = (DarkSVGIcon) loader.loadSVGIcon(path, true);
+                icons.add(icon);
+                index.put(IconAtlas.SIZE_PREFIX + path, icon.getIconWidth() + "," + icon.getIconHeight());
+            }
+            String themeId = IconAtlasInitTask.getAtlasThemeId(theme);
+            for (double scale : SCALES) {
+                int scalePercent = IconAtlas.toScalePercent(scale);
+                String sheetKey = IconAtlas.sheetKey(themeId, scalePercent);
+                String fileName = theme.getPrefix() + "_" + scalePercent + ".png";
+                writeSheet(outputDir.resolve(fileName), sheetKey, iconPaths, icons, scale, index);
+                index.put(IconAtlas.SHEET_PREFIX + sheetKey, fileName);
+            }
+            // The icons have been rendered at this point, hence their colors are resolved.
+            for (int i = 0; i < icons.size(); i++) {
+                String colorEntry = IconAtlas.createColorEntry(icons.get(i), UIManager.getDefaults());
+                if (colorEntry != null) {
+                    index.put(IconAtlas.COLORS_PREFIX + themeId + IconAtlas.PATH_SEPARATOR + iconPaths.get(i),
+                            colorEntry);
+                }
+            }
+        }
+
+        try (BufferedWriter writer =
+                Files.newBufferedWriter(outputDir.resolve(IconAtlas.INDEX_FILE), StandardCharsets.ISO_8859_1)) {
+            writer.write("# Generated by " + GenerateIconAtlas.class.getName() + ". Do not edit.");
+            writer.newLine();
+            for (Map.Entry<String, String> entry : index.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue());
+                writer.newLine();
+            }
+        }
+    }
+
+    private static void writeSheet(final Path file, final String sheetKey, final List<String> paths,
+            final List<DarkSVGIcon> icons, final double scale, final Map<String, String> index) throws IOException {
+        // Use the same rounding as DarkSVGIcon to get pixel identical results.
+        List<Image> images = new ArrayList<>(icons.size());
+        List<Rectangle> bounds = new ArrayList<>(icons.size());
+        int x = 0;
+        int y = 0;
+        int rowHeight = 0;
+        for (DarkSVGIcon icon : icons) {
+            Dimension size = Scale.scale(scale, scale, new Dimension(icon.getIconWidth(), icon.getIconHeight()));
+            if (x + size.width > SHEET_WIDTH) {
+                x = 0;
+                y += rowHeight + PADDING;
+                rowHeight = 0;
+            }
+            images.add(icon.createImage(size));
+            bounds.add(new Rectangle(x, y, size.width, size.height));
+            x += size.width + PADDING;
+            rowHeight = Math.max(rowHeight, size.height);
+        }
+
+        BufferedImage sheet = new BufferedImage(SHEET_WIDTH, Math.max(1, y + rowHeight), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = sheet.createGraphics();
+        for (int i = 0; i < images.size(); i++) {
+            Rectangle r = bounds.get(i);
+            g.drawImage(images.get(i), r.x, r.y, null);
+            index.put(sheetKey + IconAtlas.PATH_SEPARATOR + paths.get(i),
+                    r.x + "," + r.y + "," + r.width + "," + r.height);
+        }
+        g.dispose();
+        ImageIO.write(sheet, "png", file.toFile());
+    }
+}
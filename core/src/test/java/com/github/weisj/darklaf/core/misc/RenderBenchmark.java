@@ -0,0 +1,360 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.core.misc;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+
+import com.github.weisj.darklaf.LafManager;
+import com.github.weisj.darklaf.theme.Theme;
+import com.github.weisj.darklaf.ui.DemoLauncher;
+import com.github.weisj.darklaf.ui.demo.ComponentDemo;
+import com.github.weisj.darklaf.util.LogUtil;
+import com.github.weisj.darklaf.util.graphics.GraphicsUtil;
+
+/**
+ * Renders the content of every component demo offscreen for all registered themes at 1x and 2x scale. For each
+ * rendering the paint time and the bytes allocated per frame are measured and the final frame is compared against
+ * a golden image.
+ * <p>
+ * Arguments: {@code <output directory> [<golden directory>]}
+ * <p>
+ * The results are written to {@value #REPORT_FILE} in the output directory together with the rendered images. If a
+ * golden directory is given, images which differ from their golden counterpart and demos whose median paint time
+ * exceeds the golden report by more than the allowed slowdown are reported. The process exits with status 1 if a
+ * rendering differs or, with {@code benchmark.failOnSlowdown}, if a demo got slower.
+ * <p>
+ * System properties:
+ * <ul>
+ * <li>{@code benchmark.frames}: Number of measured frames (default 20).</li>
+ * <li>{@code benchmark.warmup}: Number of frames painted before measuring (default 5).</li>
+ * <li>{@code benchmark.pixelTolerance}: Maximum per channel difference for pixels to be considered equal (default
+ * 0).</li>
+ * <li>{@code benchmark.slowdown}: Allowed relative increase of the median paint time (default 0.5).</li>
+ * <li>{@code benchmark.failOnSlowdown}: Whether exceeding the allowed slowdown fails the run (default false).</li>
+ * <li>{@code benchmark.updateGolden}: Write the results into the golden directory instead of comparing.</li>
+ * <li>{@code benchmark.filter}: Only run demos whose name contains the given string.</li>
+ * </ul>
+ */
+public final class RenderBenchmark {
+
+    private static final Logger LOGGER = LogUtil.getLogger(RenderBenchmark.class);
+    private static final String REPORT_FILE = "render-benchmark.csv";
+    private static final String REPORT_HEADER =
+            "theme,demo,scale,width,height,median_ms,mean_ms,bytes_per_frame,diff_pixels,status";
+    private static final double[] SCALES = {1.0, 2.0};
+    private static final int MAX_WIDTH = 1280;
+    private static final int MAX_HEIGHT = 960;
+
+    private final Path outputDir;
+    private final Path goldenDir;
+    private final int frames = Integer.getInteger("benchmark.frames", 20);
+    private final int warmup = Integer.getInteger("benchmark.warmup", 5);
+    private final int pixelTolerance = Integer.getInteger("benchmark.pixelTolerance", 0);
+    private final double allowedSlowdown = Double.parseDouble(System.getProperty("benchmark.slowdown", "0.5"));
+    private final boolean failOnSlowdown = Boolean.getBoolean("benchmark.failOnSlowdown");
+    private final boolean updateGolden = Boolean.getBoolean("benchmark.updateGolden");
+    private final String filter = System.getProperty("benchmark.filter", "");
+    private final AllocationCounter allocationCounter = new AllocationCounter();
+
+    private final List<Result> results = new ArrayList<>();
+    private Map<String, Double> goldenTimes = Collections.emptyMap();
+
+    private RenderBenchmark(final Path outputDir, final Path goldenDir) {
+        this.outputDir = outputDir;
+        this.goldenDir = goldenDir;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        if (args.length < 1 || args.length > 2) {
+            throw new IllegalArgumentException("Usage: RenderBenchmark <output directory> [<golden directory>]");
+        }
+        Path outputDir = Paths.get(args[0]);
+        Path goldenDir = args.length > 1 && !args[1].isEmpty() ? Paths.get(args[1]) : null;
+        RenderBenchmark benchmark = new RenderBenchmark(outputDir, goldenDir);
+        boolean success = benchmark.run();
+        System.exit(success ? 0 : 1);
+    }
+
+    private boolean run() throws IOException, InterruptedException, InvocationTargetException {
+        Files.createDirectories(outputDir);
+        if (goldenDir != null && !updateGolden) {
+            goldenTimes = readReport(goldenDir.resolve(REPORT_FILE));
+        }
+        LafManager.setLogLevel(Level.WARNING);
+        List<DemoLauncher.DemoEntry> demos = new DemoLauncher().getDemoClasses();
+        for (Theme theme : LafManager.getRegisteredThemes()) {
+            SwingUtilities.invokeAndWait(() -> LafManager.install(theme));
+            for (DemoLauncher.DemoEntry demo : demos) {
+                if (demo.isDelicate() || !demo.getName().contains(filter)) continue;
+                SwingUtilities.invokeAndWait(() -> runDemo(theme, demo));
+            }
+        }
+        writeReport(outputDir.resolve(REPORT_FILE));
+        if (goldenDir != null && updateGolden) {
+            Files.createDirectories(goldenDir);
+            writeReport(goldenDir.resolve(REPORT_FILE));
+        }
+
+        boolean success = true;
+        for (Result result : results) {
+            if (result.status == Status.DIFFERENT || (failOnSlowdown && result.status == Status.SLOWER)) {
+                LOGGER.severe(result.theme + " " + result.demo + " @" + result.scale + "x: " + result.status);
+                success = false;
+            } else if (result.status == Status.SLOWER) {
+                LOGGER.warning(result.theme + " " + result.demo + " @" + result.scale + "x: " + result.status);
+            }
+        }
+        return success;
+    }
+
+    private void runDemo(final Theme theme, final DemoLauncher.DemoEntry demo) {
+        JComponent content;
+        try {
+            ComponentDemo componentDemo = demo.createInstance();
+            content = componentDemo.getContentPane();
+        } catch (final Exception | LinkageError e) {
+            LOGGER.warning("Skipping " + demo.getName() + ": " + e);
+            for (double scale : SCALES) {
+                results.add(new Result(theme.getPrefix(), demo.getName(), scale, 0, 0, 0, 0, -1, -1, Status.SKIPPED));
+            }
+            return;
+        }
+        Dimension size = content.getPreferredSize();
+        content.setSize(Math.max(1, Math.min(size.width, MAX_WIDTH)), Math.max(1, Math.min(size.height, MAX_HEIGHT)));
+        layoutTree(content);
+
+        for (double scale : SCALES) {
+            try {
+                results.add(measure(theme, demo.getName(), content, scale));
+            } catch (final RuntimeException | IOException e) {
+                LOGGER.log(Level.WARNING, "Rendering " + demo.getName() + " failed", e);
+                results.add(new Result(theme.getPrefix(), demo.getName(), scale, content.getWidth(),
+                        content.getHeight(), 0, 0, -1, -1, Status.FAILED));
+            }
+        }
+    }
+
+    private Result measure(final Theme theme, final String demoName, final JComponent content, final double scale)
+            throws IOException {
+        int width = content.getWidth();
+        int height = content.getHeight();
+        BufferedImage image = new BufferedImage((int) Math.ceil(width * scale), (int) Math.ceil(height * scale),
+                BufferedImage.TYPE_INT_ARGB);
+        for (int i = 0; i < warmup; i++) {
+            paint(content, image, scale);
+        }
+        long[] times = new long[frames];
+        long allocatedBefore = allocationCounter.allocatedBytes();
+        for (int i = 0; i < frames; i++) {
+            long start = System.nanoTime();
+            paint(content, image, scale);
+            times[i] = System.nanoTime() - start;
+        }
+        long allocatedAfter = allocationCounter.allocatedBytes();
+        long bytesPerFrame = allocatedBefore >= 0 && frames > 0 ? (allocatedAfter - allocatedBefore) / frames : -1;
+
+        Arrays.sort(times);
+        double median = frames > 0 ? times[frames / 2] / 1e6 : 0;
+        double mean = frames > 0 ? Arrays.stream(times).average().orElse(0) / 1e6 : 0;
+
+        String fileName = imageName(demoName, scale);
+        Path themeDir = outputDir.resolve(theme.getPrefix());
+        Files.createDirectories(themeDir);
+        ImageIO.write(image, "png", themeDir.resolve(fileName).toFile());
+
+        long diffPixels = -1;
+        Status status = Status.OK;
+        if (goldenDir != null) {
+            Path golden = goldenDir.resolve(theme.getPrefix()).resolve(fileName);
+            if (updateGolden) {
+                Files.createDirectories(golden.getParent());
+                ImageIO.write(image, "png", golden.toFile());
+            } else if (Files.exists(golden)) {
+                diffPixels = countDifferentPixels(image, ImageIO.read(golden.toFile()));
+                if (diffPixels != 0) status = Status.DIFFERENT;
+            } else {
+                status = Status.NO_GOLDEN;
+            }
+            Double goldenMedian = goldenTimes.get(reportKey(theme.getPrefix(), demoName, scale));
+            if (status == Status.OK && goldenMedian != null && median > goldenMedian * (1 + allowedSlowdown)) {
+                status = Status.SLOWER;
+            }
+        }
+        return new Result(theme.getPrefix(), demoName, scale, width, height, median, mean, bytesPerFrame, diffPixels,
+                status);
+    }
+
+    private static void paint(final JComponent content, final BufferedImage image, final double scale) {
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g.setComposite(AlphaComposite.SrcOver);
+            GraphicsUtil.setupAntialiasing(g);
+            g.scale(scale, scale);
+            content.paint(g);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private static void layoutTree(final Component c) {
+        if (c instanceof Container) {
+            Container container = (Container) c;
+            container.doLayout();
+            for (Component child : container.getComponents()) {
+                layoutTree(child);
+            }
+        }
+    }
+
+    private long countDifferentPixels(final BufferedImage image, final BufferedImage golden) {
+        if (golden == null || image.getWidth() != golden.getWidth() || image.getHeight() != golden.getHeight()) {
+            return (long) image.getWidth() * image.getHeight();
+        }
+        long count = 0;
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int a = image.getRGB(x, y);
+                int b = golden.getRGB(x, y);
+                if (a != b && maxChannelDifference(a, b) > pixelTolerance) count++;
+            }
+        }
+        return count;
+    }
+
+    private static int maxChannelDifference(final int argb1, final int argb2) {
+        int max = 0;
+        for (int shift = 0; shift < 32; shift += 8) {
+            int c1 = (argb1 >>> shift) & 0xFF;
+            int c2 = (argb2 >>> shift) & 0xFF;
+            max = Math.max(max, Math.abs(c1 - c2));
+        }
+        return max;
+    }
+
+    private static String imageName(final String demoName, final double scale) {
+        return demoName + "@" + (int) scale + "x.png";
+    }
+
+    private static String reportKey(final String theme, final String demo, final double scale) {
+        return theme + "," + demo + "," + (int) scale;
+    }
+
+    private void writeReport(final Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(REPORT_HEADER);
+            writer.newLine();
+            for (Result result : results) {
+                writer.write(result.toCsv());
+                writer.newLine();
+            }
+        }
+    }
+
+    private static Map<String, Double> readReport(final Path file) throws IOException {
+        if (!Files.exists(file)) return Collections.emptyMap();
+        Map<String, Double> times = new HashMap<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.startsWith("theme,")) continue;
+            String[] parts = line.split(",");
+            if (parts.length < 6) continue;
+            times.put(reportKey(parts[0], parts[1], Double.parseDouble(parts[2])), Double.parseDouble(parts[5]));
+        }
+        return times;
+    }
+
+    private enum Status {
+        OK,
+        DIFFERENT,
+        SLOWER,
+        NO_GOLDEN,
+        SKIPPED,
+        FAILED
+    }
+
+    private static final class Result {
+        private final String theme;
+        private final String demo;
+        private final double scale;
+        private final int width;
+        private final int height;
+        private final double medianMillis;
+        private final double meanMillis;
+        private final long bytesPerFrame;
+        private final long diffPixels;
+        private final Status status;
+
+        private Result(final String theme, final String demo, final double scale, final int width, final int height,
+                final double medianMillis, final double meanMillis, final long bytesPerFrame, final long diffPixels,
+                final Status status) {
+            this.theme = theme;
+            this.demo = demo;
+            this.scale = scale;
+            this.width = width;
+            this.height = height;
+            this.medianMillis = medianMillis;
+            this.meanMillis = meanMillis;
+            this.bytesPerFrame = bytesPerFrame;
+            this.diffPixels = diffPixels;
+            this.status = status;
+        }
+
+        private String toCsv() {
+            return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%.3f,%.3f,%d,%d,%s",
+                    theme, demo, (int) scale, width, height, medianMillis, meanMillis, bytesPerFrame, diffPixels,
+                    status);
+        }
+    }
+
+    /*
+     * Uses the allocation counter of the HotSpot ThreadMXBean if available.
+     */
+    private static final class AllocationCounter {
+        private final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        private long allocatedBytes() {
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean hotSpotBean = (com.sun.management.ThreadMXBean) bean;
+                if (hotSpotBean.isThreadAllocatedMemorySupported() && hotSpotBean.isThreadAllocatedMemoryEnabled()) {
+                    return hotSpotBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.core.test;
+
+import java.awt.*;
+import java.awt.event.KeyEvent;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.swing.*;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.components.DefaultColorPipette;
+
+class ColorPipetteTest implements NonThreadSafeTest {
+
+    private static final Color FILL_COLOR = new Color(0x3D83B8);
+    private static final int SAMPLE_DURATION = 300;
+    // The pipette samples the pixel at this offset to the pointer.
+    private static final int HOT_SPOT_OFFSET_X = -5;
+    private static final int HOT_SPOT_OFFSET_Y = 5;
+
+    @BeforeAll
+    static void setup() {
+        TestUtils.ensureLafInstalled();
+    }
+
+    @Test
+    void testAdaptiveSamplingMatchesPolling() throws Exception {
+        Assumptions.assumeFalse(GraphicsEnvironment.isHeadless(), "Sampling the screen requires a display");
+        Robot robot = new Robot();
+        AtomicReference<JFrame> frame = new AtomicReference<>();
+        AtomicReference<JComponent> content = new AtomicReference<>();
+        try {
+            TestUtils.runOnSwingThreadNotThrowing(() -> {
+                JPanel panel = new JPanel();
+                panel.setBackground(FILL_COLOR);
+                panel.setPreferredSize(new Dimension(200, 200));
+                JFrame f = new JFrame();
+                f.setUndecorated(true);
+                f.setContentPane(panel);
+                f.pack();
+                f.setLocationRelativeTo(null);
+                f.setVisible(true);
+                frame.set(f);
+                content.set(panel);
+            });
+            robot.waitForIdle();
+            AtomicReference<Point> center = new AtomicReference<>();
+            TestUtils.runOnSwingThreadNotThrowing(() -> {
+                JComponent panel = content.get();
+                Point p = new Point(panel.getWidth() / 2, panel.getHeight() / 2);
+                SwingUtilities.convertPointToScreen(p, panel);
+                center.set(p);
+            });
+            robot.mouseMove(center.get().x - HOT_SPOT_OFFSET_X, center.get().y - HOT_SPOT_OFFSET_Y);
+            robot.waitForIdle();
+
+            // The picker window is shown above the sampled region, hence the exact color depends on the
+            // window system. It has to be the same for all sampling modes though.
+            Color polled = sample(robot, content.get(), false, false);
+            Assertions.assertEquals(polled, sample(robot, content.get(), true, false));
+            Assertions.assertEquals(polled, sample(robot, content.get(), true, true));
+        } finally {
+            if (frame.get() != null) {
+                TestUtils.runOnSwingThreadNotThrowing(() -> TestUtils.closeWindow(frame.get()));
+            }
+        }
+    }
+
+    private static Color sample(final Robot robot, final JComponent parent, final boolean adaptive,
+            final boolean zoom) throws InterruptedException {
+        AtomicReference<DefaultColorPipette> pipette = new AtomicReference<>();
+        TestUtils.runOnSwingThreadNotThrowing(() -> pipette.set(new DefaultColorPipette(parent, (c, source) -> {
+        })));
+        Assumptions.assumeTrue(pipette.get().isAvailable(), "The screen can't be captured");
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            pipette.get().setAdaptiveSampling(adaptive);
+            pipette.get().show();
+        });
+        try {
+            robot.waitForIdle();
+            if (zoom) {
+                // Holding shift shows the magnified capture around the hot spot.
+                TestUtils.runOnSwingThreadNotThrowing(() -> pipette.get().eventDispatched(
+                        new KeyEvent(parent, KeyEvent.KEY_PRESSED, System.currentTimeMillis(),
+                                KeyEvent.SHIFT_DOWN_MASK, KeyEvent.VK_SHIFT, KeyEvent.CHAR_UNDEFINED)));
+            }
+            Thread.sleep(SAMPLE_DURATION);
+            robot.waitForIdle();
+            AtomicReference<Color> color = new AtomicReference<>();
+            TestUtils.runOnSwingThreadNotThrowing(() -> color.set(pipette.get().getColor()));
+            Assertions.assertNotNull(color.get(), "Nothing has been sampled");
+            return color.get();
+        } finally {
+            TestUtils.runOnSwingThreadNotThrowing(() -> {
+                pipette.get().cancelPipette();
+                pipette.get().dispose();
+            });
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.core.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.swing.JPanel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.LafManager;
+import com.github.weisj.darklaf.components.DynamicUI;
+import com.github.weisj.darklaf.theme.IntelliJTheme;
+
+class DynamicUITest implements NonThreadSafeTest {
+
+    private static final int OBJECT_COUNT = 3;
+
+    private final List<Object> objects = new ArrayList<>();
+    private final List<AtomicInteger> counters = new ArrayList<>();
+    private final List<Consumer<Object>> callbacks = new ArrayList<>();
+    private int batchSize;
+
+    @BeforeAll
+    static void setup() {
+        TestUtils.ensureLafInstalled();
+    }
+
+    @BeforeEach
+    void registerObjects() {
+        batchSize = DynamicUI.getBatchSize();
+        // Only update a single object per event dispatch cycle, such that later objects are still pending
+        // after the look and feel has been installed.
+        DynamicUI.setBatchSize(1);
+        for (int i = 0; i < OBJECT_COUNT; i++) {
+            register(new Object());
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        for (int i = 0; i < objects.size(); i++) {
+            DynamicUI.removeCallback(objects.get(i), callbacks.get(i));
+        }
+        DynamicUI.setBatchSize(batchSize);
+    }
+
+    @Test
+    void testRemovedCallbackIsSkippedByPendingBatch() {
+        List<Integer> countsAfterRemoval = new ArrayList<>();
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            installLaf();
+            for (int i = 0; i < objects.size(); i++) {
+                DynamicUI.removeCallback(objects.get(i), callbacks.get(i));
+                countsAfterRemoval.add(counters.get(i).get());
+            }
+        });
+        // Let the pending batches run.
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+        });
+        Assertions.assertEquals(countsAfterRemoval, getCounts());
+        Assertions.assertTrue(getTotalCount() < OBJECT_COUNT, "Objects weren't updated in batches: " + getCounts());
+    }
+
+    @Test
+    void testNewerUpdateCancelsPendingBatches() {
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            installLaf();
+            installLaf();
+        });
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+        });
+        for (int i = 0; i < objects.size(); i++) {
+            Assertions.assertTrue(counters.get(i).get() >= 1, "Object " + i + " hasn't been updated");
+        }
+        // Only the first batch of the earlier update may have run. Without cancellation every object would be
+        // updated twice.
+        Assertions.assertTrue(getTotalCount() <= OBJECT_COUNT + 1, "Pending batches weren't cancelled: " + getCounts());
+    }
+
+    @Test
+    void testUndisplayableComponentIsUpdatedOnceDisplayable() {
+        JPanel panel = new JPanel();
+        AtomicInteger counter = register(panel);
+        TestUtils.runOnSwingThreadNotThrowing(DynamicUITest::installLaf);
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+        });
+        Assertions.assertEquals(0, counter.get());
+
+        // Creates the lightweight peer, which makes the panel displayable.
+        TestUtils.runOnSwingThreadNotThrowing(panel::addNotify);
+        Assertions.assertEquals(1, counter.get());
+
+        // The component is only updated once.
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            panel.removeNotify();
+            panel.addNotify();
+        });
+        Assertions.assertEquals(1, counter.get());
+        TestUtils.runOnSwingThreadNotThrowing(panel::removeNotify);
+    }
+
+    private AtomicInteger register(final Object object) {
+        AtomicInteger counter = new AtomicInteger();
+        Consumer<Object> callback = o -> counter.incrementAndGet();
+        DynamicUI.registerCallback(object, callback, false);
+        objects.add(object);
+        counters.add(counter);
+        callbacks.add(callback);
+        return counter;
+    }
+
+    private List<Integer> getCounts() {
+        List<Integer> counts = new ArrayList<>();
+        for (AtomicInteger counter : counters) {
+            counts.add(counter.get());
+        }
+        return counts;
+    }
+
+    private int getTotalCount() {
+        int total = 0;
+        for (AtomicInteger counter : counters) {
+            total += counter.get();
+        }
+        return total;
+    }
+
+    private static void installLaf() {
+        LafManager.install(new IntelliJTheme());
+    }
+}
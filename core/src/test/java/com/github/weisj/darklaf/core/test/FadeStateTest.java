@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.core.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.graphics.FadeStateEngine;
+
+class FadeStateTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Test
+    void testFadeWithoutDurationFinishesImmediately() throws Exception {
+        Recorder recorder = new Recorder();
+        SwingUtilities.invokeAndWait(() -> {
+            FadeStateEngine.FadeState state = recorder.createState(0, 0);
+            state.fadeIn();
+            Assertions.assertFalse(state.isRunning());
+            Assertions.assertEquals(1, state.getValue());
+            Assertions.assertEquals(Boolean.TRUE, recorder.lastFinished);
+
+            state.fadeOut();
+            Assertions.assertFalse(state.isRunning());
+            Assertions.assertEquals(0, state.getValue());
+            Assertions.assertEquals(Boolean.FALSE, recorder.lastFinished);
+        });
+    }
+
+    @Test
+    void testFadeInThenOut() throws Exception {
+        Recorder recorder = new Recorder();
+        FadeStateEngine.FadeState[] state = new FadeStateEngine.FadeState[1];
+
+        recorder.expectFinish();
+        SwingUtilities.invokeAndWait(() -> {
+            state[0] = recorder.createState(100, 150);
+            state[0].fadeIn();
+            Assertions.assertTrue(state[0].isFadingIn());
+            Assertions.assertFalse(state[0].isFadingOut());
+        });
+        recorder.awaitFinish();
+        Assertions.assertEquals(Boolean.TRUE, recorder.lastFinished);
+        Assertions.assertFalse(state[0].isRunning());
+        Assertions.assertEquals(1, state[0].getValue());
+        assertMonotonic(recorder.values, true);
+
+        recorder.values.clear();
+        recorder.expectFinish();
+        SwingUtilities.invokeAndWait(() -> {
+            state[0].fadeOut();
+            Assertions.assertTrue(state[0].isFadingOut());
+            Assertions.assertFalse(state[0].isFadingIn());
+        });
+        recorder.awaitFinish();
+        Assertions.assertEquals(Boolean.FALSE, recorder.lastFinished);
+        Assertions.assertFalse(state[0].isRunning());
+        Assertions.assertEquals(0, state[0].getValue());
+        assertMonotonic(recorder.values, false);
+    }
+
+    @Test
+    void testReversingFadeContinuesFromCurrentValue() throws Exception {
+        Recorder recorder = new Recorder();
+        FadeStateEngine.FadeState[] state = new FadeStateEngine.FadeState[1];
+        float[] valueAtReversal = new float[1];
+        AtomicBoolean reversed = new AtomicBoolean(false);
+        CountDownLatch partiallyFadedIn = new CountDownLatch(1);
+
+        recorder.onChange = s -> {
+            if (s.getValue() > 0.3f) partiallyFadedIn.countDown();
+        };
+        recorder.expectFinish();
+        SwingUtilities.invokeAndWait(() -> {
+            state[0] = recorder.createState(400, 400);
+            state[0].fadeIn();
+        });
+        Assertions.assertTrue(partiallyFadedIn.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        SwingUtilities.invokeAndWait(() -> {
+            recorder.onChange = null;
+            if (state[0].isFadingIn()) {
+                valueAtReversal[0] = state[0].getValue();
+                recorder.values.clear();
+                state[0].fadeOut();
+                reversed.set(true);
+                Assertions.assertTrue(state[0].isFadingOut());
+            }
+        });
+        recorder.awaitFinish();
+        Assertions.assertEquals(0, state[0].getValue());
+        if (reversed.get()) {
+            Assertions.assertEquals(Boolean.FALSE, recorder.lastFinished);
+            Assertions.assertFalse(recorder.values.isEmpty());
+            Assertions.assertTrue(recorder.values.get(0) <= valueAtReversal[0],
+                    "Reversed fade jumped from " + valueAtReversal[0] + " to " + recorder.values.get(0));
+            assertMonotonic(recorder.values, false);
+        }
+    }
+
+    private static void assertMonotonic(final List<Float> values, final boolean increasing) {
+        for (int i = 1; i < values.size(); i++) {
+            float prev = values.get(i - 1);
+            float current = values.get(i);
+            if (increasing) {
+                Assertions.assertTrue(current >= prev, "Fade in decreased from " + prev + " to " + current);
+            } else {
+                Assertions.assertTrue(current <= prev, "Fade out increased from " + prev + " to " + current);
+            }
+        }
+    }
+
+    private static class Recorder implements FadeStateEngine.FadeListener {
+
+        private final List<Float> values = new ArrayList<>();
+        private volatile Boolean lastFinished;
+        private volatile CountDownLatch finished;
+        private volatile Consumer<FadeStateEngine.FadeState> onChange;
+
+        private FadeStateEngine.FadeState createState(final long fadeInDuration, final long fadeOutDuration) {
+            FadeStateEngine.FadeState state = FadeStateEngine.getInstance().createState(null, this)
+                    .setFadeIn(fadeInDuration, 0)
+                    .setFadeOut(fadeOutDuration, 0);
+            state.setEnabled(true);
+            return state;
+        }
+
+        private void expectFinish() {
+            finished = new CountDownLatch(1);
+        }
+
+        private void awaitFinish() throws InterruptedException {
+            Assertions.assertTrue(finished.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Fade did not finish");
+        }
+
+        @Override
+        public void fadeStateChanged(final FadeStateEngine.FadeState state) {
+            values.add(state.getValue());
+            Consumer<FadeStateEngine.FadeState> callback = onChange;
+            if (callback != null) callback.accept(state);
+        }
+
+        @Override
+        public void fadeFinished(final FadeStateEngine.FadeState state, final boolean fadedIn) {
+            lastFinished = fadedIn;
+            if (finished != null) finished.countDown();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.core.test;
+
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.swing.JLabel;
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.components.tabframe.JTabFrame;
+import com.github.weisj.darklaf.components.tabframe.LazyPanelPopup;
+import com.github.weisj.darklaf.components.tabframe.TabFramePopup;
+import com.github.weisj.darklaf.util.Alignment;
+
+class LazyPanelPopupTest implements NonThreadSafeTest {
+
+    private final List<Component> created = new ArrayList<>();
+    private final Supplier<Component> supplier = () -> {
+        Component c = new JLabel("Content " + created.size());
+        created.add(c);
+        return c;
+    };
+    private JTabFrame tabFrame;
+    private LazyPanelPopup popup;
+
+    @BeforeAll
+    static void setup() {
+        TestUtils.ensureLafInstalled();
+    }
+
+    @BeforeEach
+    void createTabFrame() {
+        created.clear();
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            tabFrame = new JTabFrame();
+            popup = tabFrame.addTab(supplier, "Lazy", null, Alignment.NORTH);
+        });
+    }
+
+    @Test
+    void testSupplierInvokedOnceOnFirstOpen() {
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            Assertions.assertTrue(created.isEmpty(), "Content created before the tab was opened");
+            Assertions.assertFalse(popup.isMaterialized());
+
+            tabFrame.openTab((TabFramePopup) popup);
+            Assertions.assertEquals(1, created.size(), "Content not created on first open");
+            Assertions.assertTrue(popup.isMaterialized());
+            Assertions.assertSame(created.get(0), popup.getContentPane());
+
+            tabFrame.closeTab((TabFramePopup) popup);
+            tabFrame.openTab((TabFramePopup) popup);
+            popup.materialize();
+            popup.materializeLater();
+        });
+        // Let the posted materializeLater run.
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            Assertions.assertEquals(1, created.size(), "Content created more than once");
+            Assertions.assertSame(created.get(0), popup.getContentPane());
+        });
+    }
+
+    @Test
+    void testMaterializeLaterOnlyPostsCreation() {
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            popup.materializeLater();
+            popup.materializeLater();
+            Assertions.assertTrue(created.isEmpty(), "Content created synchronously");
+            Assertions.assertFalse(popup.isMaterialized());
+        });
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            Assertions.assertEquals(1, created.size());
+            Assertions.assertTrue(popup.isMaterialized());
+        });
+    }
+
+    @Test
+    void testSwappedContentIsRemoved() {
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            tabFrame.openTab((TabFramePopup) popup);
+            Component first = created.get(0);
+            Assertions.assertTrue(SwingUtilities.isDescendingFrom(first, popup));
+
+            tabFrame.closeTab((TabFramePopup) popup);
+            popup.releaseContent();
+            Assertions.assertFalse(popup.isMaterialized());
+            Assertions.assertNull(first.getParent(), "Released content is still part of the popup");
+
+            tabFrame.openTab((TabFramePopup) popup);
+            Assertions.assertEquals(2, created.size(), "Released content not recreated on open");
+            Component second = created.get(1);
+            Assertions.assertTrue(SwingUtilities.isDescendingFrom(second, popup));
+            Assertions.assertNull(first.getParent());
+
+            Component replacement = new JLabel("Replacement");
+            popup.setContentPane(replacement);
+            Assertions.assertNull(second.getParent(), "Swapped content is still part of the popup");
+            Assertions.assertTrue(SwingUtilities.isDescendingFrom(replacement, popup));
+        });
+    }
+}
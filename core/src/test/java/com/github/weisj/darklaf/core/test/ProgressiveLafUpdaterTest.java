@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.core.test;
+
+import java.awt.CardLayout;
+import java.awt.Dimension;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JComponent;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.LafManager;
+import com.github.weisj.darklaf.theme.DarculaTheme;
+import com.github.weisj.darklaf.theme.IntelliJTheme;
+
+class ProgressiveLafUpdaterTest implements NonThreadSafeTest {
+
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    @BeforeAll
+    static void setup() {
+        TestUtils.ensureLafInstalled(new IntelliJTheme(), true);
+    }
+
+    @Test
+    void testHiddenCardRevalidatesContainer() throws Exception {
+        boolean progressive = LafManager.isProgressiveUpdateEnabled();
+        LafManager.setProgressiveUpdateEnabled(true);
+        JFrame[] frame = new JFrame[1];
+        JPanel[] cards = new JPanel[1];
+        ThemeSensitiveComponent[] hiddenCard = new ThemeSensitiveComponent[1];
+        int[] updateCount = new int[1];
+        try {
+            TestUtils.runOnSwingThreadNotThrowing(() -> {
+                cards[0] = new JPanel(new CardLayout());
+                hiddenCard[0] = new ThemeSensitiveComponent();
+                cards[0].add(new JLabel("Visible"), "visible");
+                cards[0].add(hiddenCard[0], "hidden");
+                frame[0] = new JFrame();
+                frame[0].add(cards[0]);
+                frame[0].pack();
+                frame[0].setVisible(true);
+                updateCount[0] = hiddenCard[0].updateCount;
+            });
+
+            TestUtils.runOnSwingThreadNotThrowing(() -> LafManager.install(new DarculaTheme()));
+
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            boolean[] updated = new boolean[1];
+            while (!updated[0] && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+                TestUtils.runOnSwingThreadNotThrowing(
+                        () -> updated[0] = hiddenCard[0].updateCount > updateCount[0]);
+            }
+            Assertions.assertTrue(updated[0], "Hidden card has not been updated");
+            // Let the pending validation of the repaint manager run.
+            TestUtils.runOnSwingThreadNotThrowing(() -> {
+            });
+
+            TestUtils.runOnSwingThreadNotThrowing(() -> {
+                Assertions.assertFalse(hiddenCard[0].isShowing(), "Card should still be hidden");
+                Assertions.assertTrue(cards[0].isValid(), "Card container hasn't been validated");
+                Dimension expected = hiddenCard[0].getPreferredSize();
+                Dimension actual = cards[0].getPreferredSize();
+                Assertions.assertTrue(actual.width >= expected.width && actual.height >= expected.height,
+                        "Preferred size " + actual + " doesn't fit hidden card " + expected);
+            });
+        } finally {
+            TestUtils.runOnSwingThreadNotThrowing(() -> {
+                if (frame[0] != null) TestUtils.closeWindow(frame[0]);
+            });
+            LafManager.setProgressiveUpdateEnabled(progressive);
+            TestUtils.ensureLafInstalled(new IntelliJTheme(), true);
+        }
+    }
+
+    /*
+     * Grows with every ui update, such that a stale layout of its parent is detectable. As no ui delegate is
+     * installed the update doesn't revalidate the component by itself.
+     */
+    private static final class ThemeSensitiveComponent extends JComponent {
+        private int updateCount;
+
+        @Override
+        public void updateUI() {
+            updateCount++;
+        }
+
+        @Override
+        public Dimension getPreferredSize() {
+            return new Dimension(100 + 50 * updateCount, 40 + 20 * updateCount);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.core.test;
+
+import javax.swing.JComponent;
+import javax.swing.JScrollBar;
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.graphics.LegacyAnimator;
+import com.github.weisj.darklaf.ui.scrollpane.DarkScrollBarListener;
+import com.github.weisj.darklaf.ui.scrollpane.DarkScrollBarUI;
+
+@SuppressWarnings("deprecation")
+class ScrollBarListenerTest {
+
+    @Test
+    void testLegacyAnimatorsOnlyCreatedForOverridingSubclasses() throws Exception {
+        RecordingAnimator fadeIn = new RecordingAnimator();
+        RecordingAnimator fadeOut = new RecordingAnimator();
+        int[] factoryCalls = new int[1];
+        SwingUtilities.invokeAndWait(() -> {
+            TestListener listener = new TestListener();
+            listener.hoverTrack(true);
+            Assertions.assertEquals(1, listener.getTrackState());
+            listener.hoverTrack(false);
+            Assertions.assertEquals(0, listener.getTrackState());
+            listener.uninstall();
+
+            TestListener thumbOnly = new TestListener() {
+                @Override
+                protected LegacyAnimator createThumbFadeinAnimator() {
+                    factoryCalls[0]++;
+                    return fadeIn;
+                }
+
+                @Override
+                protected LegacyAnimator createThumbFadeoutAnimator() {
+                    factoryCalls[0]++;
+                    return fadeOut;
+                }
+            };
+            Assertions.assertEquals(2, factoryCalls[0]);
+            // The track factories aren't overridden, hence the track is still driven by its fade state.
+            thumbOnly.hoverTrack(true);
+            Assertions.assertEquals(1, thumbOnly.getTrackState());
+            thumbOnly.hoverThumb(true);
+            Assertions.assertEquals(1, fadeIn.resumeCount);
+            thumbOnly.uninstall();
+        });
+    }
+
+    @Test
+    void testNullLegacyAnimatorDisablesFade() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            TestListener listener = new TestListener() {
+                @Override
+                protected LegacyAnimator createTrackFadeinAnimator() {
+                    return null;
+                }
+            };
+            listener.hoverTrack(true);
+            Assertions.assertEquals(0, listener.getTrackState());
+            Assertions.assertEquals(0, listener.getTrackAlpha());
+            listener.uninstall();
+        });
+    }
+
+    @Test
+    void testCustomLegacyAnimatorsAreRun() throws Exception {
+        RecordingAnimator fadeIn = new RecordingAnimator();
+        RecordingAnimator fadeOut = new RecordingAnimator();
+        SwingUtilities.invokeAndWait(() -> {
+            TestListener listener = new TestListener() {
+                @Override
+                protected LegacyAnimator createThumbFadeinAnimator() {
+                    return fadeIn;
+                }
+
+                @Override
+                protected LegacyAnimator createThumbFadeoutAnimator() {
+                    return fadeOut;
+                }
+            };
+            listener.hoverThumb(true);
+            Assertions.assertEquals(1, fadeIn.resumeCount);
+            Assertions.assertEquals(0, fadeOut.resumeCount);
+            listener.hoverThumb(false);
+            Assertions.assertEquals(1, fadeOut.resumeCount);
+            listener.uninstall();
+        });
+    }
+
+    private static class TestListener extends DarkScrollBarListener<DarkScrollBarUI> {
+
+        private TestListener() {
+            super(new JScrollBar(), null);
+        }
+
+        private void hoverTrack(final boolean hover) {
+            mouseOverTrack = hover;
+            resetTrackAnimator();
+        }
+
+        private void hoverThumb(final boolean hover) {
+            mouseOverThumb = hover;
+            resetThumbAnimator();
+        }
+    }
+
+    private static final class RecordingAnimator extends LegacyAnimator {
+        private int resumeCount;
+
+        private RecordingAnimator() {
+            super(10, 100, 0);
+        }
+
+        @Override
+        public void resume(final int startFrame, final boolean skipDelay, final JComponent target) {
+            resumeCount++;
+        }
+
+        @Override
+        public void resume(final int startFrame, final boolean skipDelay) {
+            resumeCount++;
+        }
+
+        @Override
+        public void paintNow(final float fraction) {}
+    }
+}
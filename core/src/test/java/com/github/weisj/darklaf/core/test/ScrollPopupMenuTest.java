@@ -0,0 +1,294 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.core.test;
+
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Point;
+import java.awt.event.KeyEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import javax.swing.DefaultListModel;
+import javax.swing.JFrame;
+import javax.swing.JMenuItem;
+import javax.swing.JPanel;
+import javax.swing.JViewport;
+import javax.swing.ListModel;
+import javax.swing.MenuElement;
+import javax.swing.MenuSelectionManager;
+import javax.swing.event.MenuKeyEvent;
+import javax.swing.event.MenuKeyListener;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.components.ScrollPopupMenu;
+import com.github.weisj.darklaf.components.text.SearchTextField;
+import com.github.weisj.darklaf.components.text.TextFieldHistoryPopup;
+
+class ScrollPopupMenuTest implements NonThreadSafeTest {
+
+    private static final int ENTRY_COUNT = 1000;
+    private static final int VISIBLE_ROWS = 5;
+    private static final Consumer<Integer> NO_ACTION = value -> {
+    };
+
+    @BeforeAll
+    static void setup() {
+        TestUtils.ensureLafInstalled();
+    }
+
+    @Test
+    void testRowsAreReboundWhenScrolled() {
+        AtomicReference<ScrollPopupMenu> popupMenu = new AtomicReference<>();
+        AtomicReference<JViewport> viewport = new AtomicReference<>();
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            popupMenu.set(createPopupMenu(NO_ACTION));
+            viewport.set(installInViewport(popupMenu.get()));
+            Assertions.assertEquals(rowTexts(0, VISIBLE_ROWS), getVisibleRowTexts(popupMenu.get()));
+        });
+
+        scrollToRow(viewport.get(), popupMenu.get(), 500);
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            Assertions.assertEquals(rowTexts(500, VISIBLE_ROWS), getVisibleRowTexts(popupMenu.get()));
+            // Rows are backed by a pool of items, which only covers the visible area.
+            Assertions.assertTrue(popupMenu.get().getComponentCount() <= VISIBLE_ROWS + 1,
+                    "Too many items: " + popupMenu.get().getComponentCount());
+        });
+
+        scrollToRow(viewport.get(), popupMenu.get(), ENTRY_COUNT - VISIBLE_ROWS);
+        TestUtils.runOnSwingThreadNotThrowing(() -> Assertions.assertEquals(
+                rowTexts(ENTRY_COUNT - VISIBLE_ROWS, VISIBLE_ROWS), getVisibleRowTexts(popupMenu.get())));
+    }
+
+    @Test
+    void testKeyboardNavigationWrapsAround() {
+        AtomicReference<ScrollPopupMenu> popupMenu = new AtomicReference<>();
+        AtomicReference<JViewport> viewport = new AtomicReference<>();
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            popupMenu.set(createPopupMenu(NO_ACTION));
+            viewport.set(installInViewport(popupMenu.get()));
+        });
+        scrollToRow(viewport.get(), popupMenu.get(), ENTRY_COUNT - VISIBLE_ROWS);
+
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            ScrollPopupMenu menu = popupMenu.get();
+            MenuSelectionManager manager = new MenuSelectionManager();
+            manager.setSelectedPath(new MenuElement[] {menu, getItem(menu, ENTRY_COUNT - 1)});
+
+            Assertions.assertTrue(pressKey(menu, manager, KeyEvent.VK_DOWN));
+            Assertions.assertEquals(rowText(0), getSelectedText(manager));
+            Assertions.assertEquals(rowText(0), getVisibleRowTexts(menu).get(0));
+
+            Assertions.assertTrue(pressKey(menu, manager, KeyEvent.VK_UP));
+            Assertions.assertEquals(rowText(ENTRY_COUNT - 1), getSelectedText(manager));
+            List<String> visibleRows = getVisibleRowTexts(menu);
+            Assertions.assertEquals(rowText(ENTRY_COUNT - 1), visibleRows.get(visibleRows.size() - 1));
+
+            Assertions.assertTrue(pressKey(menu, manager, KeyEvent.VK_UP));
+            Assertions.assertEquals(rowText(ENTRY_COUNT - 2), getSelectedText(manager));
+        });
+    }
+
+    @Test
+    void testActionReceivesModelElement() {
+        AtomicReference<Integer> selected = new AtomicReference<>();
+        AtomicReference<ScrollPopupMenu> popupMenu = new AtomicReference<>();
+        AtomicReference<JViewport> viewport = new AtomicReference<>();
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            popupMenu.set(createPopupMenu(selected::set));
+            viewport.set(installInViewport(popupMenu.get()));
+        });
+
+        scrollToRow(viewport.get(), popupMenu.get(), 700);
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            getItem(popupMenu.get(), 702).doClick(0);
+            Assertions.assertEquals(702, selected.get());
+        });
+
+        scrollToRow(viewport.get(), popupMenu.get(), 10);
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            getItem(popupMenu.get(), 10).doClick(0);
+            Assertions.assertEquals(10, selected.get());
+        });
+    }
+
+    @Test
+    void testAddingComponentsWithModelFails() {
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            ScrollPopupMenu popupMenu = createPopupMenu(NO_ACTION);
+            Assertions.assertThrows(IllegalStateException.class, () -> popupMenu.add(new JMenuItem("Item")));
+
+            popupMenu.setModel(null, null, null);
+            Assertions.assertDoesNotThrow(() -> popupMenu.add(new JMenuItem("Item")));
+        });
+    }
+
+    @Test
+    void testHistoryModelIsUpdatedWhenShown() {
+        AtomicReference<JFrame> frame = new AtomicReference<>();
+        try {
+            TestUtils.runOnSwingThreadNotThrowing(() -> {
+                SearchTextField textField = new SearchTextField(20);
+                TextFieldHistoryPopup popup = new TextFieldHistoryPopup(textField, 10, 200);
+                JFrame f = new JFrame();
+                frame.set(f);
+                f.add(textField);
+                f.pack();
+                f.setVisible(true);
+
+                popup.addEntry("first");
+                popup.addEntry("second");
+                popup.addEntry("third");
+                popup.addEntry("first");
+                popup.show(textField, 0, textField.getHeight());
+                // Newest entries first.
+                Assertions.assertEquals(Arrays.asList("first", "third", "second"), getElements(popup.getModel()));
+                popup.setVisible(false);
+
+                popup.addEntry("fourth");
+                popup.show(textField, 0, textField.getHeight());
+                Assertions.assertEquals(Arrays.asList("fourth", "first", "third", "second"),
+                        getElements(popup.getModel()));
+
+                popup.doLayout();
+                getItem(popup, "third").doClick(0);
+                Assertions.assertEquals("third", textField.getText());
+                popup.setVisible(false);
+            });
+        } finally {
+            if (frame.get() != null) {
+                TestUtils.runOnSwingThreadNotThrowing(() -> TestUtils.closeWindow(frame.get()));
+            }
+        }
+    }
+
+    private static ScrollPopupMenu createPopupMenu(final Consumer<Integer> action) {
+        DefaultListModel<Integer> model = new DefaultListModel<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            model.addElement(i);
+        }
+        ScrollPopupMenu popupMenu = new ScrollPopupMenu(200);
+        popupMenu.setModel(model, (item, value, index) -> item.setText(rowText(value)), action);
+        return popupMenu;
+    }
+
+    /*
+     * Mimics the scroll pane the popup menu is placed in if it exceeds its maximum size.
+     */
+    private static JViewport installInViewport(final ScrollPopupMenu popupMenu) {
+        Dimension size = popupMenu.getLayout().preferredLayoutSize(popupMenu);
+        JPanel view = new JPanel(null);
+        view.setSize(size);
+        view.add(popupMenu);
+        popupMenu.setBounds(0, 0, size.width, size.height);
+        JViewport viewport = new JViewport();
+        viewport.setView(view);
+        popupMenu.doLayout();
+        viewport.setSize(size.width, VISIBLE_ROWS * getRowHeight(popupMenu));
+        viewport.setViewPosition(new Point(0, 0));
+        popupMenu.doLayout();
+        return viewport;
+    }
+
+    /*
+     * The popup menu is notified about the new position through an event, which has to be dispatched before the
+     * rows are checked.
+     */
+    private static void scrollToRow(final JViewport viewport, final ScrollPopupMenu popupMenu, final int row) {
+        TestUtils.runOnSwingThreadNotThrowing(() -> {
+            int y = popupMenu.getInsets().top + row * getRowHeight(popupMenu);
+            viewport.setViewPosition(new Point(0, y));
+        });
+    }
+
+    private static int getRowHeight(final ScrollPopupMenu popupMenu) {
+        return popupMenu.getComponent(0).getHeight();
+    }
+
+    private static List<String> getVisibleRowTexts(final ScrollPopupMenu popupMenu) {
+        List<JMenuItem> items = new ArrayList<>();
+        for (Component c : popupMenu.getComponents()) {
+            if (c.isVisible() && c instanceof JMenuItem) items.add((JMenuItem) c);
+        }
+        items.sort(Comparator.comparingInt(Component::getY));
+        List<String> texts = new ArrayList<>();
+        for (JMenuItem item : items) {
+            texts.add(item.getText());
+        }
+        return texts;
+    }
+
+    private static JMenuItem getItem(final ScrollPopupMenu popupMenu, final int row) {
+        return getItem(popupMenu, rowText(row));
+    }
+
+    private static JMenuItem getItem(final ScrollPopupMenu popupMenu, final String text) {
+        for (Component c : popupMenu.getComponents()) {
+            if (c.isVisible() && c instanceof JMenuItem && text.equals(((JMenuItem) c).getText())) {
+                return (JMenuItem) c;
+            }
+        }
+        return Assertions.fail("No visible item for " + text);
+    }
+
+    private static boolean pressKey(final ScrollPopupMenu popupMenu, final MenuSelectionManager manager,
+            final int keyCode) {
+        MenuKeyEvent e = new MenuKeyEvent(popupMenu, KeyEvent.KEY_PRESSED, System.currentTimeMillis(), 0, keyCode,
+                KeyEvent.CHAR_UNDEFINED, manager.getSelectedPath(), manager);
+        for (MenuKeyListener listener : popupMenu.getMenuKeyListeners()) {
+            listener.menuKeyPressed(e);
+        }
+        return e.isConsumed();
+    }
+
+    private static String getSelectedText(final MenuSelectionManager manager) {
+        MenuElement[] path = manager.getSelectedPath();
+        Assertions.assertTrue(path.length > 0);
+        return ((JMenuItem) path[path.length - 1]).getText();
+    }
+
+    private static List<String> rowTexts(final int first, final int count) {
+        List<String> texts = new ArrayList<>();
+        for (int i = first; i < first + count; i++) {
+            texts.add(rowText(i));
+        }
+        return texts;
+    }
+
+    private static String rowText(final int row) {
+        return "Item " + row;
+    }
+
+    private static List<Object> getElements(final ListModel<?> model) {
+        List<Object> elements = new ArrayList<>();
+        for (int i = 0; i < model.getSize(); i++) {
+            elements.add(model.getElementAt(i));
+        }
+        return elements;
+    }
+}
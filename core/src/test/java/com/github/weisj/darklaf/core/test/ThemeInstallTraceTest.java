@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.core.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.LafManager;
+import com.github.weisj.darklaf.task.DefaultsAdjustmentTask;
+import com.github.weisj.darklaf.task.ThemeDefaultsInitTask;
+import com.github.weisj.darklaf.task.UserDefaultsAdjustmentTask;
+import com.github.weisj.darklaf.theme.IntelliJTheme;
+import com.github.weisj.darklaf.theme.Theme;
+import com.github.weisj.darklaf.trace.ThemeInstallTrace;
+import com.github.weisj.darklaf.trace.ThemeInstallTraceListener;
+
+class ThemeInstallTraceTest implements NonThreadSafeTest {
+
+    @BeforeAll
+    static void setup() {
+        TestUtils.ensureLafInstalled();
+    }
+
+    @Test
+    void testListenerReceivesTraces() {
+        List<ThemeInstallTrace> traces = new ArrayList<>();
+        ThemeInstallTraceListener listener = traces::add;
+        DefaultsAdjustmentTask adjustment = (currentTheme, properties) -> {
+            properties.put("ThemeInstallTraceTest.first", "first");
+            properties.put("ThemeInstallTraceTest.second", "second");
+            properties.remove("ThemeInstallTraceTest.first");
+        };
+        Theme theme = new IntelliJTheme();
+        LafManager.registerDefaultsAdjustmentTask(adjustment);
+        LafManager.addThemeInstallTraceListener(listener);
+        try {
+            TestUtils.runOnSwingThreadNotThrowing(() -> LafManager.install(theme));
+            Assertions.assertEquals(1, traces.size());
+            ThemeInstallTrace trace = traces.get(0);
+            Assertions.assertEquals(theme, trace.getTheme());
+
+            ThemeInstallTrace.TaskTrace themeTask = getTask(trace, ThemeDefaultsInitTask.class);
+            Assertions.assertEquals(ThemeInstallTrace.TaskKind.INIT, themeTask.getKind());
+            Assertions.assertTrue(themeTask.getKeyCount() > 0, "No keys counted for " + themeTask);
+
+            ThemeInstallTrace.TaskTrace userTask = getTask(trace, UserDefaultsAdjustmentTask.class);
+            Assertions.assertEquals(ThemeInstallTrace.TaskKind.ADJUSTMENT, userTask.getKind());
+            Assertions.assertEquals(3, userTask.getKeyCount());
+
+            long taskDuration = 0;
+            for (ThemeInstallTrace.TaskTrace task : trace.getTasks()) {
+                Assertions.assertTrue(task.getDuration() >= 0, "Negative duration of " + task);
+                Assertions.assertTrue(task.getKeyCount() >= 0, "Negative key count of " + task);
+                // Adjustments run inside of the theme defaults task.
+                if (task.getKind() == ThemeInstallTrace.TaskKind.INIT) taskDuration += task.getDuration();
+            }
+            Assertions.assertTrue(taskDuration <= trace.getDuration(),
+                    "Tasks took longer than the installation: " + trace);
+
+            LafManager.removeThemeInstallTraceListener(listener);
+            TestUtils.runOnSwingThreadNotThrowing(() -> LafManager.install(theme));
+            Assertions.assertEquals(1, traces.size());
+        } finally {
+            LafManager.removeThemeInstallTraceListener(listener);
+            LafManager.removeDefaultsAdjustmentTask(adjustment);
+        }
+    }
+
+    private static ThemeInstallTrace.TaskTrace getTask(final ThemeInstallTrace trace, final Class<?> taskClass) {
+        for (ThemeInstallTrace.TaskTrace task : trace.getTasks()) {
+            if (taskClass.getName().equals(task.getName())) return task;
+        }
+        return Assertions.fail("No trace of " + taskClass.getName() + " in " + trace);
+    }
+}
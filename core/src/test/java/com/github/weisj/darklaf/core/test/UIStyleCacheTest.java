@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.core.test;
+
+import javax.swing.UIManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.LafManager;
+import com.github.weisj.darklaf.theme.IntelliJTheme;
+import com.github.weisj.darklaf.ui.util.UIStyleCache;
+
+class UIStyleCacheTest implements NonThreadSafeTest {
+
+    private static final String STYLE_KEY = "UIStyleCacheTest.value";
+    private static final String UNRELATED_KEY = "UIStyleCacheTest.unrelated";
+
+    @BeforeAll
+    static void setup() {
+        TestUtils.ensureLafInstalled();
+    }
+
+    @AfterEach
+    void cleanup() {
+        UIManager.put(STYLE_KEY, null);
+        UIManager.put(UNRELATED_KEY, null);
+    }
+
+    @Test
+    void testNewLookAndFeelDefaultsDropRecords() {
+        Style style = getStyle();
+        Assertions.assertSame(style, getStyle());
+
+        TestUtils.runOnSwingThreadNotThrowing(() -> LafManager.install(new IntelliJTheme()));
+        Assertions.assertNotSame(style, getStyle());
+    }
+
+    @Test
+    void testPutOfReadKeyDropsRecord() {
+        UIManager.put(STYLE_KEY, "first");
+        Style style = getStyle();
+        Assertions.assertEquals("first", style.value);
+        Assertions.assertSame(style, getStyle());
+
+        UIManager.put(STYLE_KEY, "second");
+        Style newStyle = getStyle();
+        Assertions.assertNotSame(style, newStyle);
+        Assertions.assertEquals("second", newStyle.value);
+    }
+
+    @Test
+    void testPutOfUnrelatedKeyKeepsRecord() {
+        UIManager.put(STYLE_KEY, "value");
+        Style style = getStyle();
+
+        UIManager.put(UNRELATED_KEY, "unrelated");
+        Assertions.assertSame(style, getStyle());
+    }
+
+    private static Style getStyle() {
+        return UIStyleCache.getStyle(Style.class, Style::new);
+    }
+
+    private static final class Style {
+        private final Object value;
+
+        private Style(final UIStyleCache.StyleReader reader) {
+            value = reader.get(STYLE_KEY);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.defaults;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TextAndMnemonicTableTest {
+
+    @Test
+    void testDerivedValues() {
+        Map<String, Object> resources = new HashMap<>();
+        resources.put("FileChooser.save.textAndMnemonic", "&Save");
+        resources.put("ColorChooser.swatches.titleAndMnemonic", "S&watches");
+        resources.put("FileChooser.cancel.textAndMnemonic", "Cancel");
+        resources.put("FileChooser.cancelText", "Abort");
+
+        Map<String, Object> table = TextAndMnemonicTable.create(resources);
+
+        Assertions.assertEquals("Save", table.get("FileChooser.saveText"));
+        Assertions.assertEquals(Integer.toString('S'), table.get("FileChooser.saveMnemonic"));
+        Assertions.assertEquals(Integer.toString('S'), table.get("FileChooser.save.mnemonic"));
+        Assertions.assertEquals("0", table.get("FileChooser.saveDisplayedMnemonicIndex"));
+
+        Assertions.assertEquals("Swatches", table.get("ColorChooser.swatchesTitle"));
+        Assertions.assertEquals(Integer.toString('W'), table.get("ColorChooser.swatchesMnemonic"));
+        Assertions.assertEquals("1", table.get("ColorChooser.swatchesDisplayedMnemonicIndex"));
+
+        Assertions.assertEquals("Abort", table.get("FileChooser.cancelText"));
+        Assertions.assertNull(table.get("FileChooser.cancelMnemonic"));
+        Assertions.assertNull(table.get("FileChooser.cancelDisplayedMnemonicIndex"));
+        Assertions.assertNull(table.get("FileChooser.saveAndMnemonic"));
+    }
+
+    @Test
+    void testTableIsImmutable() {
+        Map<String, Object> resources = new HashMap<>();
+        resources.put("OptionPane.okButton.textAndMnemonic", "&OK");
+        Map<String, Object> table = TextAndMnemonicTable.create(resources);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> table.put("key", "value"));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.graphics;
+
+import java.awt.*;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.util.graphics.GraphicsUtil;
+
+class NineSliceCacheTest {
+
+    private static final int MAX_CHANNEL_DIFFERENCE = 2;
+    private static final double[] SCALES = {1.0, 1.25, 1.5, 2.0};
+    private static final int[] DEVICE_SIZES = {30, 47, 80};
+    private static final float[] ARCS = {0, 2, 5, 8, 12};
+    private static final float[] BORDER_WIDTHS = {1, 2, 3};
+    private static final Color BACKGROUND = new Color(0x3C3F41);
+    private static final Color FOREGROUND = new Color(0x5E6060);
+    private static final Color TRANSLUCENT = new Color(0x803D83B8, true);
+
+    @Test
+    void testRingMatchesDirectPainting() {
+        int painted = 0;
+        for (double scale : SCALES) {
+            for (int size : DEVICE_SIZES) {
+                float width = (float) (size / scale);
+                float height = (float) ((size / 2) / scale);
+                for (float arc : ARCS) {
+                    for (float bw : BORDER_WIDTHS) {
+                        for (boolean inside : new boolean[] {true, false}) {
+                            for (Color color : new Color[] {FOREGROUND, TRANSLUCENT}) {
+                                BufferedImage expected = createImage(size);
+                                Graphics2D g = createGraphics(expected, scale, color);
+                                g.fill(PaintUtil.createRingShape(width, height, arc, bw, inside));
+                                g.dispose();
+
+                                BufferedImage actual = createImage(size);
+                                g = createGraphics(actual, scale, color);
+                                boolean cached = NineSliceCache.paintRingSlices(g, width, height, arc, bw, inside);
+                                g.dispose();
+                                if (!cached) continue;
+                                painted++;
+                                assertEquivalent(expected, actual, "ring arc=" + arc + " bw=" + bw + " inside="
+                                        + inside + " scale=" + scale + " size=" + size);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        Assertions.assertTrue(painted > 0, "Cache was never applicable");
+    }
+
+    @Test
+    void testRoundRectMatchesDirectPainting() {
+        int painted = 0;
+        for (double scale : SCALES) {
+            for (int size : DEVICE_SIZES) {
+                float width = (float) (size / scale);
+                float height = (float) ((size / 2) / scale);
+                for (float arc : ARCS) {
+                    for (Color color : new Color[] {FOREGROUND, TRANSLUCENT}) {
+                        BufferedImage expected = createImage(size);
+                        Graphics2D g = createGraphics(expected, scale, color);
+                        g.fill(new RoundRectangle2D.Float(0, 0, width, height, arc, arc));
+                        g.dispose();
+
+                        BufferedImage actual = createImage(size);
+                        g = createGraphics(actual, scale, color);
+                        boolean cached = NineSliceCache.fillRoundRectSlices(g, 0, 0, width, height, arc);
+                        g.dispose();
+                        if (!cached) continue;
+                        painted++;
+                        assertEquivalent(expected, actual,
+                                "round rect arc=" + arc + " scale=" + scale + " size=" + size);
+                    }
+                }
+            }
+        }
+        Assertions.assertTrue(painted > 0, "Cache was never applicable");
+    }
+
+    @Test
+    void testNonIntegralBoundsAreNotCached() {
+        BufferedImage image = createImage(20);
+        Graphics2D g = createGraphics(image, 1.25, FOREGROUND);
+        Assertions.assertFalse(NineSliceCache.fillRoundRectSlices(g, 0, 0, 15.5f, 10, 4));
+        g.dispose();
+    }
+
+    @Test
+    void testOffscreenImagesAreNotCached() {
+        BufferedImage image = createImage(20);
+        Graphics2D g = createGraphics(image, 1, FOREGROUND);
+        Assertions.assertFalse(NineSliceCache.fillRoundRect(g, 0, 0, 20, 10, 4));
+        g.dispose();
+    }
+
+    private static BufferedImage createImage(final int size) {
+        return new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+    }
+
+    private static Graphics2D createGraphics(final BufferedImage image, final double scale, final Color color) {
+        Graphics2D g = image.createGraphics();
+        g.setColor(BACKGROUND);
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g.scale(scale, scale);
+        GraphicsUtil.setupStrokePainting(g);
+        g.setColor(color);
+        return g;
+    }
+
+    private static void assertEquivalent(final BufferedImage expected, final BufferedImage actual,
+            final String description) {
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                int e = expected.getRGB(x, y);
+                int a = actual.getRGB(x, y);
+                for (int shift = 0; shift <= 16; shift += 8) {
+                    int difference = Math.abs(((e >> shift) & 0xFF) - ((a >> shift) & 0xFF));
+                    if (difference > MAX_CHANNEL_DIFFERENCE) {
+                        Assertions.fail(description + ": pixel (" + x + "," + y + ") differs by " + difference
+                                + " (expected " + Integer.toHexString(e) + ", got " + Integer.toHexString(a)
+                                + ")");
+                    }
+                }
+            }
+        }
+    }
+}
@@ -103,9 +103,17 @@ public class DemoLauncher extends BaseComponentDemo {
                     componentDemo);
         }
 
+        public ComponentDemo createInstance() throws ReflectiveOperationException {
+            return ClassFinder.getInstance(demo.getType());
+        }
+
+        public String getName() {
+            return demo.getType().getSimpleName();
+        }
+
         @Override
         public String toString() {
-            return demo.getType().getSimpleName() + ".java";
+            return getName() + ".java";
         }
 
         public boolean isDelicate() {
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.ui.progressbar;
+
+import java.lang.reflect.InvocationTargetException;
+
+import javax.swing.*;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.LafManager;
+import com.github.weisj.darklaf.core.test.NonThreadSafeTest;
+import com.github.weisj.darklaf.theme.IntelliJTheme;
+
+class IndeterminateProgressAnimatorTest implements NonThreadSafeTest {
+
+    @BeforeAll
+    static void setup() throws Exception {
+        runOnEventDispatchThread(() -> {
+            if (!LafManager.isInstalled()) LafManager.install(new IntelliJTheme());
+        });
+    }
+
+    @Test
+    void testSameIntervalSharesTimer() throws Exception {
+        runOnEventDispatchThread(() -> {
+            JProgressBar first = createShowingProgressBar();
+            JProgressBar second = createShowingProgressBar();
+            try {
+                Timer timer = getTimer(first);
+                Assertions.assertNotNull(timer);
+                Assertions.assertSame(timer, getTimer(second));
+                Assertions.assertTrue(timer.isRunning());
+            } finally {
+                dispose(first);
+                dispose(second);
+            }
+        });
+    }
+
+    @Test
+    void testTimerStopsIfNoProgressBarIsShowing() throws Exception {
+        runOnEventDispatchThread(() -> {
+            JProgressBar first = createShowingProgressBar();
+            JProgressBar second = createShowingProgressBar();
+            try {
+                Timer timer = getTimer(first);
+                first.setVisible(false);
+                Assertions.assertTrue(timer.isRunning());
+                second.setVisible(false);
+                Assertions.assertFalse(timer.isRunning());
+                // Hidden progress bars stay registered and resume the animation once they are shown again.
+                Assertions.assertSame(timer, getTimer(first));
+
+                first.setVisible(true);
+                Assertions.assertTrue(timer.isRunning());
+                dispose(first);
+                Assertions.assertNull(getTimer(first));
+                Assertions.assertFalse(timer.isRunning());
+            } finally {
+                dispose(first);
+                dispose(second);
+            }
+        });
+    }
+
+    @Test
+    void testChangedIntervalMovesToOtherTimer() throws Exception {
+        runOnEventDispatchThread(() -> {
+            JProgressBar progressBar = createShowingProgressBar();
+            try {
+                DarkProgressBarUI ui = (DarkProgressBarUI) progressBar.getUI();
+                Timer timer = getTimer(progressBar);
+                int interval = timer.getDelay() + 7;
+                IndeterminateProgressAnimator.register(ui, interval);
+
+                Timer newTimer = getTimer(progressBar);
+                Assertions.assertNotSame(timer, newTimer);
+                Assertions.assertEquals(interval, newTimer.getDelay());
+                Assertions.assertTrue(newTimer.isRunning());
+                Assertions.assertFalse(timer.isRunning());
+            } finally {
+                dispose(progressBar);
+            }
+        });
+    }
+
+    private static JProgressBar createShowingProgressBar() {
+        JProgressBar progressBar = new JProgressBar();
+        Assertions.assertTrue(progressBar.getUI() instanceof DarkProgressBarUI);
+        // Creates the lightweight peer. Without a parent the progress bar is showing from now on.
+        progressBar.addNotify();
+        progressBar.setIndeterminate(true);
+        return progressBar;
+    }
+
+    private static void dispose(final JProgressBar progressBar) {
+        progressBar.setIndeterminate(false);
+        if (progressBar.isDisplayable()) progressBar.removeNotify();
+    }
+
+    private static Timer getTimer(final JProgressBar progressBar) {
+        return IndeterminateProgressAnimator.getTimer((DarkProgressBarUI) progressBar.getUI());
+    }
+
+    private static void runOnEventDispatchThread(final Runnable runnable) throws Exception {
+        try {
+            SwingUtilities.invokeAndWait(runnable);
+        } catch (final InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+    }
+}
@@ -89,6 +89,13 @@ public class TabFrameDemo extends BaseComponentDemo {
                     pcc.add(new JLabel(o.toString() + "_" + i + " Popup"));
                     tabFrame.addTab(pcc, o + "_" + i, folderIcon, o);
                 }
+                String lazyTitle = o + "_lazy";
+                tabFrame.addTab(() -> {
+                    JPanel pcc = new JPanel();
+                    pcc.setOpaque(true);
+                    pcc.add(new JLabel(lazyTitle + " Popup"));
+                    return pcc;
+                }, lazyTitle, folderIcon, o).setReleaseDelay(10000);
             }
         }
         TabbedPopup tabbedPopup = new TabbedPopup("Tabbed Popup:");
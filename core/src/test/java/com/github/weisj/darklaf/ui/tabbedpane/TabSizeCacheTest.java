@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.ui.tabbedpane;
+
+import java.awt.*;
+import java.lang.reflect.InvocationTargetException;
+
+import javax.swing.*;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.LafManager;
+import com.github.weisj.darklaf.core.test.NonThreadSafeTest;
+import com.github.weisj.darklaf.properties.icons.EmptyIcon;
+import com.github.weisj.darklaf.theme.IntelliJTheme;
+
+class TabSizeCacheTest implements NonThreadSafeTest {
+
+    private static final int PLACEMENT = SwingConstants.TOP;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        runOnEventDispatchThread(() -> {
+            if (!LafManager.isInstalled()) LafManager.install(new IntelliJTheme());
+        });
+    }
+
+    @Test
+    void testInsertionAndRemoval() throws Exception {
+        runOnEventDispatchThread(() -> {
+            JTabbedPane tabPane = createTabbedPane();
+            int firstWidth = getWidth(tabPane, 0);
+
+            tabPane.insertTab("A considerably longer title", null, new JPanel(), null, 0);
+            Assertions.assertNotEquals(firstWidth, getWidth(tabPane, 0));
+            Assertions.assertEquals(firstWidth, getWidth(tabPane, 1));
+            assertSizesUpToDate(tabPane);
+
+            tabPane.removeTabAt(0);
+            Assertions.assertEquals(firstWidth, getWidth(tabPane, 0));
+            assertSizesUpToDate(tabPane);
+        });
+    }
+
+    @Test
+    void testTitleChange() throws Exception {
+        runOnEventDispatchThread(() -> {
+            JTabbedPane tabPane = createTabbedPane();
+            int width = getWidth(tabPane, 0);
+
+            tabPane.setTitleAt(0, tabPane.getTitleAt(0) + " with a suffix");
+            Assertions.assertTrue(getWidth(tabPane, 0) > width);
+            assertSizesUpToDate(tabPane);
+        });
+    }
+
+    @Test
+    void testIconChange() throws Exception {
+        runOnEventDispatchThread(() -> {
+            JTabbedPane tabPane = createTabbedPane();
+            int width = getWidth(tabPane, 1);
+            int height = getHeight(tabPane, 1);
+
+            tabPane.setIconAt(1, EmptyIcon.create(40, 3 * height));
+            Assertions.assertTrue(getWidth(tabPane, 1) > width);
+            Assertions.assertTrue(getHeight(tabPane, 1) > height);
+            assertSizesUpToDate(tabPane);
+        });
+    }
+
+    @Test
+    void testFontChange() throws Exception {
+        runOnEventDispatchThread(() -> {
+            JTabbedPane tabPane = createTabbedPane();
+            int width = getWidth(tabPane, 0);
+            int height = getHeight(tabPane, 0);
+
+            Font font = tabPane.getFont();
+            tabPane.setFont(font.deriveFont(font.getSize2D() * 2));
+            Assertions.assertTrue(getWidth(tabPane, 0) > width);
+            Assertions.assertTrue(getHeight(tabPane, 0) > height);
+            assertSizesUpToDate(tabPane);
+        });
+    }
+
+    private static JTabbedPane createTabbedPane() {
+        JTabbedPane tabPane = new JTabbedPane(PLACEMENT);
+        Assertions.assertTrue(tabPane.getUI() instanceof DarkTabbedPaneUI);
+        tabPane.addTab("Tab", new JPanel());
+        tabPane.addTab("Another tab", EmptyIcon.create(16), new JPanel());
+        // Fill the cache.
+        assertSizesUpToDate(tabPane);
+        return tabPane;
+    }
+
+    /*
+     * Compares the cached sizes with the sizes measured after clearing the cache.
+     */
+    private static void assertSizesUpToDate(final JTabbedPane tabPane) {
+        int count = tabPane.getTabCount();
+        int[] widths = new int[count];
+        int[] heights = new int[count];
+        for (int i = 0; i < count; i++) {
+            widths[i] = getWidth(tabPane, i);
+            heights[i] = getHeight(tabPane, i);
+        }
+        getUI(tabPane).invalidateTabSizes();
+        for (int i = 0; i < count; i++) {
+            Assertions.assertEquals(getWidth(tabPane, i), widths[i], "Width of tab " + i);
+            Assertions.assertEquals(getHeight(tabPane, i), heights[i], "Height of tab " + i);
+        }
+    }
+
+    private static int getWidth(final JTabbedPane tabPane, final int index) {
+        FontMetrics metrics = tabPane.getFontMetrics(tabPane.getFont());
+        return getUI(tabPane).calculateTabWidth(PLACEMENT, index, metrics);
+    }
+
+    private static int getHeight(final JTabbedPane tabPane, final int index) {
+        FontMetrics metrics = tabPane.getFontMetrics(tabPane.getFont());
+        return getUI(tabPane).calculateTabHeight(PLACEMENT, index, metrics.getHeight());
+    }
+
+    private static DarkTabbedPaneUI getUI(final JTabbedPane tabPane) {
+        return (DarkTabbedPaneUI) tabPane.getUI();
+    }
+
+    private static void runOnEventDispatchThread(final Runnable runnable) throws Exception {
+        try {
+            SwingUtilities.invokeAndWait(runnable);
+        } catch (final InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+    }
+}
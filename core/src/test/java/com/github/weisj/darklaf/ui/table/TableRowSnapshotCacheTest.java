@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.ui.table;
+
+import java.util.BitSet;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableCellRenderer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.ui.table.TableRowSnapshotCache.PassState;
+import com.github.weisj.darklaf.ui.table.TableRowSnapshotCache.RowKey;
+
+class TableRowSnapshotCacheTest {
+
+    private static final int C_MIN = 0;
+    private static final int C_MAX = 40;
+
+    @Test
+    void testEqualStatesMatch() {
+        PassState a = state(true, true, selection(2, 5, 7));
+        PassState b = state(true, true, selection(2, 5, 7));
+        Assertions.assertEquals(a, b);
+        Assertions.assertEquals(a.hashCode(), b.hashCode());
+    }
+
+    @Test
+    void testColumnSelectionChangeInvalidates() {
+        Assertions.assertNotEquals(state(true, true, selection(2)), state(true, true, selection(3)));
+        Assertions.assertNotEquals(state(true, true, selection(2)), state(true, true, selection(2, 3)));
+        Assertions.assertNotEquals(state(true, true, selection()), state(true, true, selection(0)));
+    }
+
+    @Test
+    void testColumnSelectionHashCollision() {
+        // Both selections produce the same polynomial hash: 31 * (0 + 1) + (1 + 1) == 32 + 1.
+        PassState a = state(true, true, selection(0, 1));
+        PassState b = state(true, true, selection(32));
+        Assertions.assertEquals(a.hashCode(), b.hashCode());
+        Assertions.assertNotEquals(a, b);
+    }
+
+    @Test
+    void testColumnSelectionIgnoredIfNotAllowed() {
+        PassState a = new PassState(C_MIN, C_MAX, 0, 400, 1, 1, true, false, true, true, true, false, selection(2));
+        PassState b = new PassState(C_MIN, C_MAX, 0, 400, 1, 1, true, false, true, true, true, false, selection(3));
+        Assertions.assertEquals(a, b);
+    }
+
+    @Test
+    void testFocusChangeInvalidates() {
+        BitSet selection = selection(4);
+        PassState focused = state(true, true, selection);
+        Assertions.assertNotEquals(focused, state(false, false, selection));
+        Assertions.assertNotEquals(focused, state(true, false, selection));
+        Assertions.assertNotEquals(state(true, false, selection), state(false, false, selection));
+    }
+
+    @Test
+    void testRendererChangeInvalidates() {
+        PassState pass = state(true, true, selection());
+        TableCellRenderer renderer = new DefaultTableCellRenderer();
+        TableCellRenderer[] renderers = {renderer, renderer};
+        RowKey key = new RowKey(pass, 3, 20, false, -2, renderers);
+        RowKey sameRenderers = new RowKey(pass, 3, 20, false, -2, renderers.clone());
+        Assertions.assertEquals(key, sameRenderers);
+        Assertions.assertEquals(key.hashCode(), sameRenderers.hashCode());
+
+        TableCellRenderer[] replaced = {renderer, new DefaultTableCellRenderer()};
+        Assertions.assertNotEquals(key, new RowKey(pass, 3, 20, false, -2, replaced));
+    }
+
+    @Test
+    void testColumnSelectionFromModel() {
+        ListSelectionModel model = new DefaultListSelectionModel();
+        model.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        Assertions.assertEquals(selection(), PassState.columnSelection(model, 2, 8));
+
+        model.addSelectionInterval(1, 3);
+        model.addSelectionInterval(6, 6);
+        model.addSelectionInterval(10, 12);
+        Assertions.assertEquals(selection(0, 1, 4), PassState.columnSelection(model, 2, 8));
+
+        model.removeSelectionInterval(6, 6);
+        Assertions.assertEquals(selection(0, 1), PassState.columnSelection(model, 2, 8));
+    }
+
+    private static PassState state(final boolean tableFocused, final boolean tableFocusOwner,
+            final BitSet columnSelection) {
+        return new PassState(C_MIN, C_MAX, 0, 400, 1, 1, true, false, tableFocused, tableFocusOwner, true, true,
+                columnSelection);
+    }
+
+    private static BitSet selection(final int... columns) {
+        BitSet selection = new BitSet();
+        for (int column : columns) {
+            selection.set(column);
+        }
+        return selection;
+    }
+}
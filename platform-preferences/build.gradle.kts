@@ -8,4 +8,11 @@ dependencies {
     implementation(projects.darklafPlatformBase)
     implementation(projects.darklafWindows)
     implementation(projects.darklafMacos)
+
+    testImplementation(testLibs.junit.api)
+    testRuntimeOnly(testLibs.junit.engine)
+}
+
+tasks.test {
+    useJUnitPlatform()
 }
@@ -27,6 +27,7 @@ import java.util.List;
 import com.github.weisj.darklaf.platform.SystemInfo;
 import com.github.weisj.darklaf.platform.macos.MacOSThemePreferenceProvider;
 import com.github.weisj.darklaf.platform.preferences.impl.DefaultThemePreferenceProvider;
+import com.github.weisj.darklaf.platform.preferences.impl.LinuxThemePreferenceProvider;
 import com.github.weisj.darklaf.platform.windows.WindowsThemePreferenceProvider;
 import com.github.weisj.darklaf.theme.spec.PreferredThemeStyle;
 import com.github.weisj.darklaf.theme.spec.ThemePreferenceProvider;
@@ -74,6 +75,8 @@ public class SystemPreferencesManager {
                 nativeProvider = new WindowsThemePreferenceProvider();
             } else if (SystemInfo.isMac && allowNativeReporting) {
                 nativeProvider = new MacOSThemePreferenceProvider();
+            } else if (SystemInfo.isLinux && allowNativeReporting) {
+                nativeProvider = new LinuxThemePreferenceProvider();
             } else {
                 nativeProvider = new DefaultThemePreferenceProvider();
             }
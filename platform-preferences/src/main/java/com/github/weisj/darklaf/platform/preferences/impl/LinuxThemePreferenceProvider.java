@@ -0,0 +1,306 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.platform.preferences.impl;
+
+import java.awt.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.github.weisj.darklaf.theme.spec.*;
+
+/**
+ * Theme preference provider for Linux desktops. The preference is read from the configuration files
+ * of GTK ({@code gtk-3.0/settings.ini}, {@code gtk-4.0/settings.ini}) and KDE ({@code kdeglobals})
+ * inside the users configuration directory.
+ * <p>
+ * Changes are detected through a {@link WatchService} which is only active while reporting is
+ * enabled. Bursts of file events (editors and settings daemons usually write several times) are
+ * coalesced before the configuration is read again. If the configuration directory doesn't exist
+ * changes aren't watched at all.
+ * <p>
+ * Only KDE stores a native accent color.
+ */
+public class LinuxThemePreferenceProvider implements ThemePreferenceProvider {
+
+    static final long DEBOUNCE_MILLIS = 250;
+
+    private static final String GTK3_SETTINGS = "gtk-3.0";
+    private static final String GTK4_SETTINGS = "gtk-4.0";
+    private static final String GTK_SETTINGS_FILE = "settings.ini";
+    private static final String KDE_GLOBALS_FILE = "kdeglobals";
+
+    private final Path configDirectory;
+    private final boolean preferKde;
+    private final PreferredThemeStyle fallbackStyle =
+            new PreferredThemeStyle(ContrastRule.STANDARD, ColorToneRule.LIGHT);
+
+    private volatile Consumer<PreferredThemeStyle> callback;
+    private ConfigMonitor monitor;
+
+    public LinuxThemePreferenceProvider() {
+        this(defaultConfigDirectory(), isKdeSession());
+    }
+
+    public LinuxThemePreferenceProvider(final Path configDirectory, final boolean preferKde) {
+        this.configDirectory = configDirectory;
+        this.preferKde = preferKde;
+    }
+
+    private static Path defaultConfigDirectory() {
+        String xdgConfigHome = System.getenv("XDG_CONFIG_HOME");
+        if (xdgConfigHome != null && !xdgConfigHome.isEmpty()) return Paths.get(xdgConfigHome);
+        return Paths.get(System.getProperty("user.home"), ".config");
+    }
+
+    private static boolean isKdeSession() {
+        String desktop = System.getenv("XDG_CURRENT_DESKTOP");
+        return desktop != null && desktop.toUpperCase(Locale.ROOT).contains("KDE");
+    }
+
+    @Override
+    public PreferredThemeStyle getPreference() {
+        PreferredThemeStyle style = null;
+        if (preferKde) style = readKdePreference();
+        if (style == null) style = readGtkPreference();
+        if (style == null && !preferKde) style = readKdePreference();
+        return style != null ? style : fallbackStyle;
+    }
+
+    private PreferredThemeStyle readGtkPreference() {
+        Map<String, String> settings = readSection(configDirectory.resolve(GTK4_SETTINGS).resolve(GTK_SETTINGS_FILE),
+                "Settings");
+        if (settings.isEmpty()) {
+            settings = readSection(configDirectory.resolve(GTK3_SETTINGS).resolve(GTK_SETTINGS_FILE), "Settings");
+        }
+        if (settings.isEmpty()) return null;
+        String themeName = settings.getOrDefault("gtk-theme-name", "");
+        String preferDark = settings.get("gtk-application-prefer-dark-theme");
+        boolean highContrast = containsIgnoreCase(themeName, "HighContrast");
+        boolean dark = "1".equals(preferDark) || "true".equalsIgnoreCase(preferDark)
+                || containsIgnoreCase(themeName, "dark") || containsIgnoreCase(themeName, "inverse");
+        return create(highContrast, dark, null);
+    }
+
+    private PreferredThemeStyle readKdePreference() {
+        Map<String, Map<String, String>> globals = readIni(configDirectory.resolve(KDE_GLOBALS_FILE));
+        if (globals.isEmpty()) return null;
+        Map<String, String> general = globals.getOrDefault("General", new HashMap<>());
+        String colorScheme = general.getOrDefault("ColorScheme", "");
+        boolean dark;
+        Color background = parseColor(globals.getOrDefault("Colors:Window", new HashMap<>()).get("BackgroundNormal"));
+        if (background != null) {
+            dark = luminance(background) < 0.5;
+        } else {
+            dark = containsIgnoreCase(colorScheme, "dark");
+        }
+        boolean highContrast = containsIgnoreCase(colorScheme, "HighContrast");
+        return create(highContrast, dark, parseColor(general.get("AccentColor")));
+    }
+
+    private PreferredThemeStyle create(final boolean highContrast, final boolean dark, final Color accentColor) {
+        ContrastRule contrastRule = highContrast ? ContrastRule.HIGH_CONTRAST : ContrastRule.STANDARD;
+        ColorToneRule toneRule = dark ? ColorToneRule.DARK : ColorToneRule.LIGHT;
+        AccentColorRule accentColorRule =
+                accentColor != null ? AccentColorRule.fromColor(accentColor) : AccentColorRule.getDefault();
+        return new PreferredThemeStyle(contrastRule, toneRule, accentColorRule);
+    }
+
+    private static boolean containsIgnoreCase(final String value, final String part) {
+        return value.toLowerCase(Locale.ROOT).contains(part.toLowerCase(Locale.ROOT));
+    }
+
+    private static double luminance(final Color c) {
+        return (0.2126 * c.getRed() + 0.7152 * c.getGreen() + 0.0722 * c.getBlue()) / 255;
+    }
+
+    private static Color parseColor(final String value) {
+        if (value == null) return null;
+        String[] parts = value.split(",");
+        if (parts.length < 3) return null;
+        try {
+            return new Color(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()),
+                    Integer.parseInt(parts[2].trim()));
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, String> readSection(final Path file, final String section) {
+        return readIni(file).getOrDefault(section, new HashMap<>());
+    }
+
+    private static Map<String, Map<String, String>> readIni(final Path file) {
+        Map<String, Map<String, String>> sections = new HashMap<>();
+        if (!Files.isRegularFile(file)) return sections;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Map<String, String> current = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#") || line.startsWith(";")) continue;
+                if (line.startsWith("[") && line.endsWith("]")) {
+                    current = sections.computeIfAbsent(line.substring(1, line.length() - 1), k -> new HashMap<>());
+                    continue;
+                }
+                int separator = line.indexOf('=');
+                if (current == null || separator < 0) continue;
+                String key = line.substring(0, separator).trim();
+                // Strip KDE localization and flag suffixes e.g. Key[$e].
+                int bracket = key.indexOf('[');
+                if (bracket > 0) key = key.substring(0, bracket);
+                current.put(key, line.substring(separator + 1).trim());
+            }
+        } catch (final IOException ignored) {
+            // Treat unreadable configuration as absent.
+        }
+        return sections;
+    }
+
+    void reportPreferenceChange(final PreferredThemeStyle style) {
+        Consumer<PreferredThemeStyle> cb = callback;
+        if (cb != null) cb.accept(style);
+    }
+
+    @Override
+    public void initialize() {}
+
+    @Override
+    public void setCallback(final Consumer<PreferredThemeStyle> callback) {
+        this.callback = callback;
+    }
+
+    @Override
+    public synchronized void setReporting(final boolean reporting) {
+        if (reporting == isReporting()) return;
+        if (reporting) {
+            // Without the directory there is nothing to register, and the monitor would wait forever.
+            if (!Files.isDirectory(configDirectory)) return;
+            ConfigMonitor configMonitor = null;
+            try {
+                configMonitor = new ConfigMonitor();
+                configMonitor.start();
+                monitor = configMonitor;
+            } catch (final IOException e) {
+                if (configMonitor != null) configMonitor.stop();
+            }
+        } else {
+            monitor.stop();
+            monitor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isReporting() {
+        return monitor != null;
+    }
+
+    @Override
+    public boolean canReport() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsNativeAccentColor() {
+        return preferKde;
+    }
+
+    @Override
+    public boolean supportsNativeTheme() {
+        return true;
+    }
+
+    private final class ConfigMonitor implements Runnable {
+
+        private final WatchService watchService;
+        private final Thread thread;
+        private PreferredThemeStyle lastStyle;
+
+        private ConfigMonitor() throws IOException {
+            watchService = configDirectory.getFileSystem().newWatchService();
+            thread = new Thread(this, "Darklaf Linux Preference Monitor");
+            thread.setDaemon(true);
+        }
+
+        private void start() throws IOException {
+            registerDirectories();
+            lastStyle = getPreference();
+            thread.start();
+        }
+
+        private void stop() {
+            thread.interrupt();
+            try {
+                watchService.close();
+            } catch (final IOException ignored) {
+                // Nothing to do.
+            }
+        }
+
+        private void registerDirectories() throws IOException {
+            register(configDirectory);
+            register(configDirectory.resolve(GTK3_SETTINGS));
+            register(configDirectory.resolve(GTK4_SETTINGS));
+        }
+
+        private void register(final Path directory) throws IOException {
+            if (!Files.isDirectory(directory)) return;
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    WatchKey key = watchService.take();
+                    drain(key);
+                    // Coalesce all events which arrive shortly after the first one.
+                    while ((key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                        drain(key);
+                    }
+                    // Settings directories may have been created in the meantime.
+                    registerDirectories();
+                    PreferredThemeStyle style = getPreference();
+                    if (!style.equals(lastStyle)) {
+                        lastStyle = style;
+                        reportPreferenceChange(style);
+                    }
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (final ClosedWatchServiceException | IOException ignored) {
+                // Monitoring has been stopped.
+            }
+        }
+
+        private void drain(final WatchKey key) {
+            key.pollEvents();
+            key.reset();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.platform.preferences.impl;
+
+import java.awt.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.weisj.darklaf.theme.spec.ColorToneRule;
+import com.github.weisj.darklaf.theme.spec.ContrastRule;
+import com.github.weisj.darklaf.theme.spec.PreferredThemeStyle;
+
+class LinuxThemePreferenceProviderTest {
+
+    @TempDir
+    Path configDirectory;
+
+    private void writeGtkSettings(final String content) throws IOException {
+        Path dir = Files.createDirectories(configDirectory.resolve("gtk-3.0"));
+        Files.write(dir.resolve("settings.ini"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeKdeGlobals(final String content) throws IOException {
+        Files.write(configDirectory.resolve("kdeglobals"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testFallbackWithoutConfiguration() {
+        LinuxThemePreferenceProvider provider = new LinuxThemePreferenceProvider(configDirectory, false);
+        PreferredThemeStyle style = provider.getPreference();
+        Assertions.assertEquals(ColorToneRule.LIGHT, style.getColorToneRule());
+        Assertions.assertEquals(ContrastRule.STANDARD, style.getContrastRule());
+    }
+
+    @Test
+    void testGtkSettings() throws IOException {
+        LinuxThemePreferenceProvider provider = new LinuxThemePreferenceProvider(configDirectory, false);
+        writeGtkSettings("[Settings]\ngtk-theme-name=Adwaita\ngtk-application-prefer-dark-theme=1\n");
+        Assertions.assertEquals(ColorToneRule.DARK, provider.getPreference().getColorToneRule());
+
+        writeGtkSettings("[Settings]\ngtk-theme-name=Adwaita-dark\n");
+        Assertions.assertEquals(ColorToneRule.DARK, provider.getPreference().getColorToneRule());
+
+        writeGtkSettings("[Settings]\ngtk-theme-name=HighContrast\n");
+        PreferredThemeStyle style = provider.getPreference();
+        Assertions.assertEquals(ColorToneRule.LIGHT, style.getColorToneRule());
+        Assertions.assertEquals(ContrastRule.HIGH_CONTRAST, style.getContrastRule());
+    }
+
+    @Test
+    void testKdeGlobals() throws IOException {
+        LinuxThemePreferenceProvider provider = new LinuxThemePreferenceProvider(configDirectory, true);
+        writeGtkSettings("[Settings]\ngtk-theme-name=Breeze\n");
+        writeKdeGlobals("[General]\nColorScheme=BreezeDark\nAccentColor=61,174,233\n"
+                + "[Colors:Window]\nBackgroundNormal=32,35,38\n");
+        PreferredThemeStyle style = provider.getPreference();
+        Assertions.assertEquals(ColorToneRule.DARK, style.getColorToneRule());
+        Assertions.assertEquals(new Color(61, 174, 233), style.getAccentColorRule().getAccentColor());
+    }
+
+    @Test
+    void testOnlyKdeSupportsNativeAccentColor() {
+        Assertions.assertTrue(new LinuxThemePreferenceProvider(configDirectory, true).supportsNativeAccentColor());
+        Assertions.assertFalse(new LinuxThemePreferenceProvider(configDirectory, false).supportsNativeAccentColor());
+    }
+
+    @Test
+    void testMissingConfigDirectoryIsNotWatched() {
+        LinuxThemePreferenceProvider provider =
+                new LinuxThemePreferenceProvider(configDirectory.resolve("missing"), false);
+        provider.setReporting(true);
+        Assertions.assertFalse(provider.isReporting());
+        provider.setReporting(false);
+        Assertions.assertFalse(provider.isReporting());
+    }
+
+    @Test
+    void testChangesAreReported() throws Exception {
+        writeGtkSettings("[Settings]\ngtk-theme-name=Adwaita\n");
+        LinuxThemePreferenceProvider provider = new LinuxThemePreferenceProvider(configDirectory, false);
+        CompletableFuture<PreferredThemeStyle> reported = new CompletableFuture<>();
+        provider.setCallback(reported::complete);
+        provider.setReporting(true);
+        try {
+            Assertions.assertTrue(provider.isReporting());
+            writeGtkSettings("[Settings]\ngtk-theme-name=Adwaita-dark\n");
+            PreferredThemeStyle style = reported.get(30, TimeUnit.SECONDS);
+            Assertions.assertEquals(ColorToneRule.DARK, style.getColorToneRule());
+        } finally {
+            provider.setReporting(false);
+        }
+        Assertions.assertFalse(provider.isReporting());
+    }
+}
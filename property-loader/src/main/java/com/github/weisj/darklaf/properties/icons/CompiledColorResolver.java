@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.properties.icons;
+
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.*;
+
+import com.github.weisj.darklaf.util.Pair;
+
+/**
+ * Resolves the color and opacity keys of {@link ThemedSVGIcon}s against the global defaults. Each distinct
+ * combination of key, fallbacks and value type is resolved only once per theme using
+ * {@link IconColorMapper#getEntry(Map, Map, Object, Object[], Class)}. The result, including the values of inline
+ * fallbacks, is stored in a {@link Plan}, which icons keep as long as it is valid. Hence patching the colors of an
+ * icon after the first time only requires reading the cached values.
+ * <p>
+ * All plans are discarded whenever the {@link ThemedIconDependencyIndex} generation changes or a value is put into
+ * the defaults. Invalidating a themed icon explicitly only recompiles the plans of its own keys.
+ */
+final class CompiledColorResolver {
+
+    private static final CompiledColorResolver INSTANCE = new CompiledColorResolver();
+
+    private final Map<PlanKey, Plan> plans = new HashMap<>();
+    private final PropertyChangeListener defaultsListener = e -> invalidate();
+    private long generation = -1;
+    private int epoch;
+    private UIDefaults observedDefaults;
+
+    private CompiledColorResolver() {}
+
+    static CompiledColorResolver get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Prepares the resolver for the given defaults.
+     *
+     * @param dependencyGeneration the current generation of the {@link ThemedIconDependencyIndex}.
+     * @param defaults the defaults.
+     * @return the epoch of valid plans.
+     */
+    @SuppressWarnings("ReferenceEquality")
+    synchronized int prepare(final long dependencyGeneration, final UIDefaults defaults) {
+        if (observedDefaults != defaults) {
+            if (observedDefaults != null) observedDefaults.removePropertyChangeListener(defaultsListener);
+            observedDefaults = defaults;
+            defaults.addPropertyChangeListener(defaultsListener);
+            discardPlans();
+        }
+        if (generation != dependencyGeneration) {
+            generation = dependencyGeneration;
+            discardPlans();
+        }
+        return epoch;
+    }
+
+    private synchronized void invalidate() {
+        discardPlans();
+    }
+
+    private void discardPlans() {
+        plans.clear();
+        epoch++;
+    }
+
+    /**
+     * Get the resolution plan for the given key.
+     *
+     * @param key the key.
+     * @param fallbacks the fallback keys.
+     * @param type the type of the value.
+     * @param defaults the defaults.
+     * @return the plan.
+     */
+    synchronized Plan plan(final String key, final String[] fallbacks, final Class<?> type,
+            final Map<Object, Object> defaults) {
+        PlanKey planKey = new PlanKey(key, fallbacks, type);
+        Plan plan = plans.get(planKey);
+        if (plan == null) {
+            plan = compile(key, fallbacks, type, defaults);
+            plans.put(planKey, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Compiles the resolution plan for the given key again and replaces the current one. Values put into defaults
+     * which aren't observed by the resolver (e.g. the look and feel defaults) are picked up this way.
+     *
+     * @param key the key.
+     * @param fallbacks the fallback keys.
+     * @param type the type of the value.
+     * @param defaults the defaults.
+     * @return the plan.
+     */
+    synchronized Plan recompile(final String key, final String[] fallbacks, final Class<?> type,
+            final Map<Object, Object> defaults) {
+        Plan plan = compile(key, fallbacks, type, defaults);
+        plans.put(new PlanKey(key, fallbacks, type), plan);
+        return plan;
+    }
+
+    private Plan compile(final String key, final String[] fallbacks, final Class<?> type,
+            final Map<Object, Object> defaults) {
+        List<Object> dependencies = new ArrayList<>();
+        Pair<Object, ?> entry = IconColorMapper.getEntry(defaults, null, key, fallbacks, type, dependencies);
+        return new Plan(entry.getFirst(), entry.getSecond(), dependencies.toArray(), epoch);
+    }
+
+    static final class Plan {
+        final Object terminalKey;
+        final Object value;
+        final Object[] dependencies;
+        final int epoch;
+
+        private Plan(final Object terminalKey, final Object value, final Object[] dependencies, final int epoch) {
+            this.terminalKey = terminalKey;
+            this.value = value;
+            this.dependencies = dependencies;
+            this.epoch = epoch;
+        }
+    }
+
+    private static final class PlanKey {
+        private final String key;
+        private final String[] fallbacks;
+        private final Class<?> type;
+        private final int hash;
+
+        private PlanKey(final String key, final String[] fallbacks, final Class<?> type) {
+            this.key = key;
+            this.fallbacks = fallbacks;
+            this.type = type;
+            this.hash = 31 * (31 * String.valueOf(key).hashCode() + Arrays.hashCode(fallbacks)) + type.hashCode();
+        }
+
+        @Override
+        @SuppressWarnings("ReferenceEquality")
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PlanKey)) return false;
+            PlanKey that = (PlanKey) o;
+            return hash == that.hash
+                    && type == that.type
+                    && (key == null ? that.key == null : key.equals(that.key))
+                    && Arrays.equals(fallbacks, that.fallbacks);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -65,6 +65,9 @@ public class DarkSVGIcon
      */
     private static final double extraScale = 2.0;
 
+    private static final int ATLAS_TRANSFORM_TYPES = AffineTransform.TYPE_TRANSLATION
+            | AffineTransform.TYPE_UNIFORM_SCALE | AffineTransform.TYPE_GENERAL_SCALE;
+
     private final @NotNull Dimension iconSize;
 
     private final @NotNull SVGDocumentHolder svgDocumentHolder;
@@ -77,6 +80,13 @@ public class DarkSVGIcon
     private double scaleY;
     private Image image;
 
+    private IconAtlas atlas;
+    private String atlasPath;
+    private Dimension atlasSize;
+    private Image atlasImage;
+    private String atlasImageTheme;
+    private int atlasImageScale;
+
     /**
      * Method to fetch the SVG icon from an url.
      *
@@ -92,6 +102,16 @@ public class DarkSVGIcon
     protected DarkSVGIcon(final int width, final int height, final DarkSVGIcon parent) {
         this.iconSize = new Dimension(width, height);
         this.svgDocumentHolder = parent.svgDocumentHolder;
+        this.atlas = parent.atlas;
+        this.atlasPath = parent.atlasPath;
+        this.atlasSize = parent.atlasSize;
+    }
+
+    void setAtlasEntry(final IconAtlas atlas, final String path) {
+        this.atlas = atlas;
+        this.atlasPath = path;
+        this.atlasSize = atlas != null ? atlas.getIconSize(path) : null;
+        invalidateAtlasImage();
     }
 
     @Override
@@ -194,6 +214,14 @@ public class DarkSVGIcon
     @Override
     public void paintIcon(final Component c, final Graphics g, final int x, final int y, final double rotation) {
         boolean dr = isDirectRenderingMode();
+        if (!dr && rotation == 0) {
+            Image preRendered = getAtlasImage(g);
+            if (preRendered != null) {
+                Dimension size = getSize();
+                g.drawImage(preRendered, x, y, size.width, size.height, c);
+                return;
+            }
+        }
         if (dr) {
             ensureLoaded(true);
         } else {
@@ -226,6 +254,43 @@ public class DarkSVGIcon
         g2.setTransform(transform);
     }
 
+    private Image getAtlasImage(final Graphics g) {
+        if (atlasSize == null) return null;
+        String themeId = IconLoader.getAtlasTheme();
+        if (themeId == null || !atlasSize.equals(getSize())) return null;
+        // The image has to be drawn at the device scale, which isn't necessarily the one of the component
+        // e.g. when painting into an off-screen buffer.
+        AffineTransform transform = ((Graphics2D) g).getTransform();
+        if ((transform.getType() & ~ATLAS_TRANSFORM_TYPES) != 0) return null;
+        int scale = IconAtlas.toScalePercent(transform.getScaleX());
+        if (scale != IconAtlas.toScalePercent(transform.getScaleY())) return null;
+        if (!isAtlasImageValid(atlas, themeId, atlasPath)) return null;
+        if (!themeId.equals(atlasImageTheme) || scale != atlasImageScale) {
+            atlasImage = atlas.getImage(themeId, scale, atlasPath);
+            atlasImageTheme = themeId;
+            atlasImageScale = scale;
+        }
+        return atlasImage;
+    }
+
+    /**
+     * Returns whether the pre-rendered image of the icon in the given atlas reflects the current appearance of
+     * the icon.
+     *
+     * @param atlas the atlas.
+     * @param themeId the id of the atlas theme.
+     * @param path the path of the icon in the atlas.
+     * @return true if the pre-rendered image can be used.
+     */
+    protected boolean isAtlasImageValid(final IconAtlas atlas, final String themeId, final String path) {
+        return true;
+    }
+
+    void invalidateAtlasImage() {
+        atlasImage = null;
+        atlasImageTheme = null;
+    }
+
     public boolean isDirectRenderingMode() {
         return directRendering;
     }
@@ -252,10 +317,18 @@ public class DarkSVGIcon
 
     private void ensureSizeLoaded() {
         if (iconSize.width < 0 || iconSize.height < 0) {
-            SVGDocument svg = getSVGDocument();
-            FloatSize svgSize = svg.size();
-            int width = (int) (svgSize.width + 0.5);
-            int height = (int) (svgSize.height + 0.5);
+            int width;
+            int height;
+            if (atlasSize != null) {
+                // Avoid parsing the svg only to determine its size.
+                width = atlasSize.width;
+                height = atlasSize.height;
+            } else {
+                SVGDocument svg = getSVGDocument();
+                FloatSize svgSize = svg.size();
+                width = (int) (svgSize.width + 0.5);
+                height = (int) (svgSize.height + 0.5);
+            }
 
             if (iconSize.height < 0 && iconSize.width >= 0) {
                 height = (int) ((iconSize.width * height) / (double) width);
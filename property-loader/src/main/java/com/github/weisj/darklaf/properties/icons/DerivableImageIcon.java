@@ -32,6 +32,7 @@ import javax.swing.*;
 
 import com.github.weisj.darklaf.util.LazyValue;
 import com.github.weisj.darklaf.util.LogUtil;
+import com.github.weisj.darklaf.util.Scale;
 
 public class DerivableImageIcon
         implements DerivableIcon<DerivableImageIcon>, IconLoader.CacheableIcon, ImageSource, Accessible {
@@ -277,10 +278,25 @@ public class DerivableImageIcon
                     return;
                 }
             }
-            g.drawImage(img, x, y, width, height, c);
+            g.drawImage(getImageForScale(img, g), x, y, width, height, c);
         }
     }
 
+    private Image getImageForScale(final Image img, final Graphics g) {
+        if (!(g instanceof Graphics2D)) return img;
+        double sx = Scale.getScaleX((Graphics2D) g);
+        double sy = Scale.getScaleY((Graphics2D) g);
+        if (sx <= 0 || sy <= 0 || (Scale.equalWithError(sx, 1) && Scale.equalWithError(sy, 1))) return img;
+        Image original = getOriginal();
+        if (original == null) return img;
+        int w = (int) Math.ceil(sx * width);
+        int h = (int) Math.ceil(sy * height);
+        // The source doesn't provide more detail than this. Let Java2D upscale it while painting.
+        if (w >= original.getWidth(null) || h >= original.getHeight(null)) return original;
+        Image scaled = ScaledImageCache.getScaledImage(original, w, h, scalingMode);
+        return scaled != null ? scaled : img;
+    }
+
     private boolean ensureImageLoaded(final Image img) {
         MediaTracker tracker = new MediaTracker(new Component() {});
         tracker.addImage(img, 0);
@@ -373,7 +389,7 @@ public class DerivableImageIcon
 
     @Override
     public Image createImage(final Dimension size) {
-        return getOriginal().getScaledInstance(size.width, size.height, scalingMode);
+        return ScaledImageCache.getScaledImage(getOriginal(), size.width, size.height, scalingMode);
     }
 
     @Override
@@ -481,7 +497,7 @@ public class DerivableImageIcon
             int height = icon.getIconHeight();
             if (originalImage != null && width > 0 && height > 0) {
                 if (originalImage.getWidth(observer) != width || originalImage.getHeight(observer) != height) {
-                    return originalImage.getScaledInstance(width, height, icon.scalingMode);
+                    return ScaledImageCache.getScaledImage(originalImage, width, height, icon.scalingMode);
                 } else {
                     return originalImage;
                 }
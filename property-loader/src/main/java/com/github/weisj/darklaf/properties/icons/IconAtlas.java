@@ -0,0 +1,277 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.properties.icons;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.imageio.ImageIO;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.darklaf.util.LogUtil;
+
+/**
+ * A collection of pre-rendered icons. Icons are packed into one sheet per theme and scale factor. The
+ * sheets are only decoded once an icon of them is requested.
+ * <p>
+ * The atlas is described by an index file in {@link Properties} format with the following entries:
+ * <ul>
+ * <li>{@code size.<path>=<width>,<height>}: The intrinsic size of the icon at {@code path}.</li>
+ * <li>{@code sheet.<theme>@<scale>=<file>}: The image file containing the icons of the given theme
+ * rendered at the given scale (in percent).</li>
+ * <li>{@code <theme>@<scale>|<path>=<x>,<y>,<width>,<height>}: The location of the icon in the sheet.</li>
+ * <li>{@code colors.<theme>|<path>=<fingerprint>;<key>,<key>,...}: The properties the colors of the icon have been
+ * resolved from and a fingerprint of their values when the icon was rendered. The pre-rendered image may only be used
+ * as long as the properties still have these values. Icons without this entry are always rendered from their svg.</li>
+ * </ul>
+ *
+ * @see IconLoader#setIconAtlas(IconAtlas)
+ */
+public final class IconAtlas {
+
+    private static final Logger LOGGER = LogUtil.getLogger(IconAtlas.class);
+
+    public static final String INDEX_FILE = "index.properties";
+    public static final String SIZE_PREFIX = "size.";
+    public static final String SHEET_PREFIX = "sheet.";
+    public static final String COLORS_PREFIX = "colors.";
+    public static final char SCALE_SEPARATOR = '@';
+    public static final char PATH_SEPARATOR = '|';
+
+    private final Properties index;
+    private final Function<String, URL> resourceLocator;
+    private final Map<String, BufferedImage> sheets = new HashMap<>();
+    private final Map<String, Image> icons = new HashMap<>();
+    private final Map<String, ColorEntry> colorEntries = new HashMap<>();
+
+    private IconAtlas(final Properties index, final Function<String, URL> resourceLocator) {
+        this.index = index;
+        this.resourceLocator = resourceLocator;
+    }
+
+    /**
+     * Loads an atlas. The locator is used to resolve the index file and the sheets referenced by it.
+     *
+     * @param resourceLocator the locator for the atlas resources.
+     * @return the atlas or null if no atlas is available at the given location.
+     */
+    public static @Nullable IconAtlas load(final @NotNull Function<String, URL> resourceLocator) {
+        URL indexUrl = resourceLocator.apply(INDEX_FILE);
+        if (indexUrl == null) return null;
+        Properties index = new Properties();
+        try (InputStream stream = indexUrl.openStream()) {
+            index.load(stream);
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, "Could not read icon atlas index " + indexUrl, e);
+            return null;
+        }
+        return new IconAtlas(index, resourceLocator);
+    }
+
+    public static String sheetKey(final String themeId, final int scalePercent) {
+        return themeId + SCALE_SEPARATOR + scalePercent;
+    }
+
+    public static int toScalePercent(final double scale) {
+        return (int) Math.round(scale * 100);
+    }
+
+    /**
+     * Returns the intrinsic size of the icon at the given path.
+     *
+     * @param path the path of the icon.
+     * @return the size or null if the icon isn't contained in the atlas.
+     */
+    public @Nullable Dimension getIconSize(final String path) {
+        int[] values = parseInts(index.getProperty(SIZE_PREFIX + path), 2);
+        return values != null ? new Dimension(values[0], values[1]) : null;
+    }
+
+    /**
+     * Returns whether the atlas contains the icon at the given path.
+     *
+     * @param path the path of the icon.
+     * @return true if the icon is contained in the atlas.
+     */
+    public boolean contains(final String path) {
+        return index.containsKey(SIZE_PREFIX + path);
+    }
+
+    /**
+     * Returns the pre-rendered image of an icon.
+     *
+     * @param themeId the id of the theme.
+     * @param scalePercent the scale factor in percent.
+     * @param path the path of the icon.
+     * @return the image or null if the icon isn't available for the given theme and scale.
+     */
+    public synchronized @Nullable Image getImage(final String themeId, final int scalePercent,
+            final String path) {
+        String sheetKey = sheetKey(themeId, scalePercent);
+        String key = sheetKey + PATH_SEPARATOR + path;
+        Image image = icons.get(key);
+        if (image != null || icons.containsKey(key)) return image;
+        image = extractImage(sheetKey, key);
+        icons.put(key, image);
+        return image;
+    }
+
+    /**
+     * Returns whether the colors of an icon currently resolve to the values the icon has been pre-rendered with.
+     *
+     * @param themeId the id of the theme.
+     * @param path the path of the icon.
+     * @param defaults the defaults the colors of the icon are resolved from.
+     * @return true if the pre-rendered image of the icon matches its current colors.
+     */
+    public boolean matchesColors(final String themeId, final String path, final Map<Object, Object> defaults) {
+        ColorEntry entry;
+        synchronized (this) {
+            String key = COLORS_PREFIX + themeId + PATH_SEPARATOR + path;
+            entry = colorEntries.get(key);
+            if (entry == null && !colorEntries.containsKey(key)) {
+                entry = ColorEntry.parse(index.getProperty(key));
+                colorEntries.put(key, entry);
+            }
+        }
+        return entry != null && entry.fingerprint == fingerprint(entry.keys, defaults);
+    }
+
+    /**
+     * Creates the value of the {@link #COLORS_PREFIX} entry for an icon, which has been rendered using the given
+     * defaults.
+     *
+     * @param icon the icon.
+     * @param defaults the defaults the icon has been rendered with.
+     * @return the entry or null if the colors of the icon can't be tracked.
+     */
+    public static @Nullable String createColorEntry(final DarkSVGIcon icon, final Map<Object, Object> defaults) {
+        Object[] dependencies = icon instanceof ThemedSVGIcon
+                ? ((ThemedSVGIcon) icon).getDependencies()
+                : new Object[0];
+        if (dependencies == null) return null;
+        String[] keys = new String[dependencies.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = String.valueOf(dependencies[i]);
+        }
+        Arrays.sort(keys);
+        return Long.toHexString(fingerprint(keys, defaults)) + ';' + String.join(",", keys);
+    }
+
+    static long fingerprint(final String[] keys, final Map<Object, Object> defaults) {
+        // Only use hash codes, which are stable across runs.
+        long hash = 1;
+        for (String key : keys) {
+            hash = 31 * hash + key.hashCode();
+            hash = 31 * hash + valueHash(defaults.get(key));
+        }
+        return hash;
+    }
+
+    private static int valueHash(final Object value) {
+        if (value == null) return 0;
+        if (value instanceof Color) return ((Color) value).getRGB();
+        if (value instanceof Number || value instanceof Boolean) return value.toString().hashCode();
+        if (value instanceof String) return value.hashCode();
+        return value.getClass().getName().hashCode();
+    }
+
+    private Image extractImage(final String sheetKey, final String key) {
+        int[] bounds = parseInts(index.getProperty(key), 4);
+        if (bounds == null) return null;
+        if (!sheets.containsKey(sheetKey)) sheets.put(sheetKey, loadSheet(sheetKey));
+        BufferedImage sheet = sheets.get(sheetKey);
+        if (sheet == null) return null;
+        if (bounds[0] + bounds[2] > sheet.getWidth() || bounds[1] + bounds[3] > sheet.getHeight()) {
+            LOGGER.warning("Icon atlas entry '" + key + "' is out of bounds.");
+            return null;
+        }
+        // Sub images share the raster of the sheet.
+        return sheet.getSubimage(bounds[0], bounds[1], bounds[2], bounds[3]);
+    }
+
+    private BufferedImage loadSheet(final String sheetKey) {
+        String file = index.getProperty(SHEET_PREFIX + sheetKey);
+        if (file == null) return null;
+        URL url = resourceLocator.apply(file);
+        if (url == null) {
+            LOGGER.warning("Icon atlas sheet '" + file + "' not found.");
+            return null;
+        }
+        try {
+            LOGGER.fine(() -> "Decoding icon atlas sheet " + file);
+            return ImageIO.read(url);
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, "Could not read icon atlas sheet " + url, e);
+            return null;
+        }
+    }
+
+    private static final class ColorEntry {
+        private final long fingerprint;
+        private final String[] keys;
+
+        private ColorEntry(final long fingerprint, final String[] keys) {
+            this.fingerprint = fingerprint;
+            this.keys = keys;
+        }
+
+        private static ColorEntry parse(final String value) {
+            if (value == null) return null;
+            int separator = value.indexOf(';');
+            if (separator < 0) return null;
+            try {
+                long fingerprint = Long.parseUnsignedLong(value.substring(0, separator), 16);
+                String keys = value.substring(separator + 1);
+                return new ColorEntry(fingerprint, keys.isEmpty() ? new String[0] : keys.split(","));
+            } catch (final NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    private static int[] parseInts(final String value, final int count) {
+        if (value == null) return null;
+        String[] parts = value.split(",");
+        if (parts.length != count) return null;
+        int[] result = new int[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                result[i] = Integer.parseInt(parts[i].trim());
+            }
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+        return result;
+    }
+}
@@ -22,6 +22,7 @@ package com.github.weisj.darklaf.properties.icons;
 
 import java.awt.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import com.github.weisj.darklaf.properties.PropertyLoader;
@@ -41,24 +42,38 @@ public final class IconColorMapper {
     private static final Logger LOGGER = LogUtil.getLogger(IconLoader.class);
     private static final String INLINE_VALUE_PREFIX = "%";
     private static final Color FALLBACK_COLOR = Color.RED;
+    private static final Object NO_VALUE = new Object();
+    /*
+     * Results of inline values which don't reference other properties. These don't depend on the theme.
+     */
+    private static final Map<InlineValue, Object> inlineConstants = new ConcurrentHashMap<>();
 
     public static Color resolveColor(final String key, final String[] fallbacks,
             final Map<Object, Object> propertyMap, final Map<Object, Object> contextDefaults) {
-        Color color = get(propertyMap, contextDefaults, key, fallbacks, Color.class);
+        return colorOrFallback(get(propertyMap, contextDefaults, key, fallbacks, Color.class), key, fallbacks);
+    }
 
+    static Color colorOrFallback(final Color color, final String key, final String[] fallbacks) {
         if (color == null) {
-            color = FALLBACK_COLOR;
             LOGGER.warning("Could not load color with id '" + key + "' fallbacks" + Arrays.toString(fallbacks)
-                    + ". Using color '" + color + "' instead.");
+                    + ". Using color '" + FALLBACK_COLOR + "' instead.");
+            return FALLBACK_COLOR;
         }
         return color;
     }
 
     public static float getOpacity(final String key, final String[] fallbacks, final Map<Object, Object> propertyMap,
             final Map<Object, Object> contextDefaults) {
-        if ((key == null || key.isEmpty()) && (fallbacks == null || fallbacks.length == 0)) return -1;
+        if (!hasOpacity(key, fallbacks)) return -1;
         // UIManager defaults to 0, if the value isn't an integer (or null).
-        Number obj = get(propertyMap, contextDefaults, key, fallbacks, Number.class);
+        return toOpacity(get(propertyMap, contextDefaults, key, fallbacks, Number.class), key);
+    }
+
+    static boolean hasOpacity(final String key, final String[] fallbacks) {
+        return (key != null && !key.isEmpty()) || (fallbacks != null && fallbacks.length != 0);
+    }
+
+    static float toOpacity(final Number obj, final String key) {
         if (obj instanceof Integer) {
             return obj.intValue() / 100.0f;
         } else if (obj instanceof Long) {
@@ -75,29 +90,35 @@ public final class IconColorMapper {
 
     public static <T> Pair<Object, T> getEntry(final Map<Object, Object> map, final Map<Object, Object> contextDefaults,
             final Object key, final Object[] fallbacks, final Class<T> type) {
+        return getEntry(map, contextDefaults, key, fallbacks, type, null);
+    }
+
+    /*
+     * If dependencies is non-null all keys which are looked up during the resolution are added to it.
+     */
+    static <T> Pair<Object, T> getEntry(final Map<Object, Object> map, final Map<Object, Object> contextDefaults,
+            final Object key, final Object[] fallbacks, final Class<T> type, final Collection<Object> dependencies) {
         Object obj = null;
         String refPrefix = PropertyLoader.getReferencePrefix();
-        Set<Object> seen = new HashSet<>();
+        Set<Object> seen = contextDefaults != null ? new HashSet<>() : null;
         Object currentKey = key;
         int max = fallbacks != null ? fallbacks.length : 0;
         outer: for (int i = -1; i < max; i++) {
             currentKey = i < 0 ? key : fallbacks[i];
             int retryCount = 5;
             if (i >= 0 && currentKey instanceof String && ((String) currentKey).startsWith(INLINE_VALUE_PREFIX)) {
-                ParseResult p = Parser.parse(
-                        Parser.createParseResult(Objects.toString(key),
-                                ((String) currentKey).substring(INLINE_VALUE_PREFIX.length())),
-                        new ParserContext(map, contextDefaults, IconLoader.get()));
-                obj = Types.safeCast(p.result, type);
+                obj = Types.safeCast(parseInlineValue(map, contextDefaults, key, (String) currentKey, dependencies),
+                        type);
             }
             do {
+                if (dependencies != null) dependencies.add(currentKey);
                 if (obj == null) {
                     obj = map.get(currentKey);
                 }
                 if (contextDefaults != null && (obj == null || seen.contains(obj))) {
                     obj = contextDefaults.get(currentKey);
                 }
-                seen.add(obj);
+                if (seen != null) seen.add(obj);
                 if (obj instanceof String && obj.toString().startsWith(refPrefix)) {
                     currentKey = obj.toString().substring(refPrefix.length());
                     obj = null;
@@ -117,8 +138,52 @@ public final class IconColorMapper {
         return new Pair<>(currentKey, type.cast(obj));
     }
 
+    private static Object parseInlineValue(final Map<Object, Object> map, final Map<Object, Object> contextDefaults,
+            final Object key, final String inlineValue, final Collection<Object> dependencies) {
+        String value = inlineValue.substring(INLINE_VALUE_PREFIX.length());
+        boolean constant = !value.contains(PropertyLoader.getReferencePrefix());
+        InlineValue cacheKey = null;
+        if (constant) {
+            cacheKey = new InlineValue(Objects.toString(key), value);
+            Object cached = inlineConstants.get(cacheKey);
+            if (cached != null) return cached != NO_VALUE ? cached : null;
+        } else if (dependencies != null) {
+            // The inline value references other properties.
+            dependencies.add(ThemedIconDependencyIndex.UNTRACKED);
+        }
+        ParseResult p = Parser.parse(Parser.createParseResult(Objects.toString(key), value),
+                new ParserContext(map, contextDefaults, IconLoader.get()));
+        if (cacheKey != null) {
+            inlineConstants.put(cacheKey, p.result != null ? p.result : NO_VALUE);
+        }
+        return p.result;
+    }
+
     public static <T> T get(final Map<Object, Object> map, final Map<Object, Object> contextDefaults, final Object key,
             final Object[] fallbacks, final Class<T> type) {
         return getEntry(map, contextDefaults, key, fallbacks, type).getSecond();
     }
+
+    private static final class InlineValue {
+        private final String key;
+        private final String value;
+
+        private InlineValue(final String key, final String value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof InlineValue)) return false;
+            InlineValue that = (InlineValue) o;
+            return key.equals(that.key) && value.equals(that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * key.hashCode() + value.hashCode();
+        }
+    }
 }
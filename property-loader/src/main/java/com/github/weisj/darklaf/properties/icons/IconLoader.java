@@ -27,6 +27,8 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
@@ -54,6 +56,9 @@ public final class IconLoader implements IconResolver {
 
     private static final AtomicReference<Object> currentThemeKey = new AtomicReference<>(null);
     private static final AtomicReference<AwareIconStyle> currentAwareStyle = new AtomicReference<>(null);
+    private static final AtomicReference<String> currentAtlasTheme = new AtomicReference<>(null);
+    private static final AtomicInteger defaultsModificationStamp = new AtomicInteger();
+    private static final AtomicBoolean observingDefaults = new AtomicBoolean();
 
     private static final SVGLoader loader;
 
@@ -63,6 +68,7 @@ public final class IconLoader implements IconResolver {
     private final @Nullable Class<?> parentClass;
 
     private boolean cacheEnabled = true;
+    private @Nullable IconAtlas iconAtlas;
     private final SoftCache<IconKey, DarkUIAwareIcon> awareIconCache = new SoftCache<>();
     private final SoftCache<IconKey, CacheableIcon> iconCache = new SoftCache<>();
 
@@ -72,6 +78,7 @@ public final class IconLoader implements IconResolver {
             String key = e.getPropertyName();
             if ("lookAndFeel".equals(key)) {
                 updateThemeStatus(new Object());
+                updateAtlasTheme(null);
             }
         });
         loader = new SVGLoader();
@@ -160,6 +167,50 @@ public final class IconLoader implements IconResolver {
         return cacheEnabled;
     }
 
+    /**
+     * Sets the atlas of pre-rendered icons. Themed svg icons contained in the atlas will use the
+     * pre-rendered images instead of rendering the svg whenever possible i.e. the icon is requested
+     * in its intrinsic size, an atlas theme is set and the atlas contains images for the current scale
+     * factor. In all other cases the svg is rendered as usual.
+     *
+     * @param iconAtlas the icon atlas or null if no atlas should be used.
+     * @see #updateAtlasTheme(String)
+     */
+    public void setIconAtlas(final @Nullable IconAtlas iconAtlas) {
+        this.iconAtlas = iconAtlas;
+        clearCache();
+    }
+
+    /**
+     * Returns the atlas of pre-rendered icons.
+     *
+     * @return the icon atlas or null if none is set.
+     */
+    public @Nullable IconAtlas getIconAtlas() {
+        return iconAtlas;
+    }
+
+    /**
+     * Updates the id of the theme used for looking up images in icon atlases. If the current theme
+     * isn't part of an atlas (e.g. because the accent color has been customized) this should be set to
+     * null.
+     *
+     * @param themeId the id of the theme.
+     * @see #setIconAtlas(IconAtlas)
+     */
+    public static void updateAtlasTheme(final @Nullable String themeId) {
+        currentAtlasTheme.set(themeId);
+    }
+
+    /**
+     * Get the id of the theme used for looking up images in icon atlases.
+     *
+     * @return the theme id or null if atlases shouldn't be used.
+     */
+    public static @Nullable String getAtlasTheme() {
+        return currentAtlasTheme.get();
+    }
+
     /**
      * Updates the style of aware icons. Changing it will force aware icons to change their appearance
      * accordingly.
@@ -185,6 +236,29 @@ public final class IconLoader implements IconResolver {
         IconUtil.reloadDynamicFrameIcons();
     }
 
+    /**
+     * Returns the number of frame icons which are reloaded by {@link #reloadFrameIcons()}.
+     *
+     * @return the number of dynamic frame icons.
+     */
+    public static int getFrameIconCount() {
+        return IconUtil.getDynamicFrameIconCount();
+    }
+
+    /**
+     * Returns the number of icons currently cached by all icon loaders. These are the icons which refresh their
+     * colors after {@link #updateThemeStatus(Object)} has been called.
+     *
+     * @return the number of cached icons.
+     */
+    public static int getCachedIconCount() {
+        int count = 0;
+        for (IconLoader iconLoader : iconLoaderMap.values()) {
+            count += iconLoader.cacheSize();
+        }
+        return count;
+    }
+
     /**
      * Get the current aware icon style.
      *
@@ -204,6 +278,19 @@ public final class IconLoader implements IconResolver {
         return currentThemeKey.get();
     }
 
+    /**
+     * Returns a stamp which changes whenever a value is put into the global defaults. Replacing the defaults
+     * of the look and feel doesn't change the stamp.
+     *
+     * @return the current stamp.
+     */
+    static int getDefaultsModificationStamp() {
+        if (!observingDefaults.get() && observingDefaults.compareAndSet(false, true)) {
+            UIManager.getDefaults().addPropertyChangeListener(e -> defaultsModificationStamp.incrementAndGet());
+        }
+        return defaultsModificationStamp.get();
+    }
+
     /**
      * Get an aware icon. If [path] is the search root of the current icon loader then the icon resource
      * will be resolved to [path]/dark/[icon_path] and [path]/light/[icon_path] Uses 16x16 icons by
@@ -431,6 +518,10 @@ public final class IconLoader implements IconResolver {
                 svgIcon = new CustomThemedIcon(uri, w, h, propertyMap);
             } else {
                 svgIcon = new ThemedSVGIcon(uri, w, h);
+                IconAtlas atlas = iconAtlas;
+                if (atlas != null && atlas.contains(path)) {
+                    svgIcon.setAtlasEntry(atlas, path);
+                }
             }
         } else {
             svgIcon = new DarkSVGIcon(uri, w, h);
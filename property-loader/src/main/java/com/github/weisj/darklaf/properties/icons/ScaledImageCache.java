@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.properties.icons;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import com.github.weisj.darklaf.util.ImageUtil;
+
+/**
+ * Creates and caches scaled versions of images. Scaled images are compatible {@link BufferedImage}s
+ * which can be painted with hardware acceleration. Downscaling is done progressively in steps of at
+ * most one half using bilinear interpolation, which yields results comparable to
+ * {@link Image#SCALE_AREA_AVERAGING} at a fraction of the cost.
+ * <p>
+ * Results are cached per source image, pixel size and scaling mode and are shared between all icons
+ * using the same source image.
+ */
+final class ScaledImageCache {
+
+    private static final Map<Image, Map<ScaleKey, SoftReference<Image>>> cache = new WeakHashMap<>();
+
+    private ScaledImageCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static Image getScaledImage(final Image source, final int width, final int height, final int scalingMode) {
+        if (source == null || width <= 0 || height <= 0) return null;
+        ScaleKey key = new ScaleKey(width, height, scalingMode);
+        synchronized (cache) {
+            Map<ScaleKey, SoftReference<Image>> scaledImages = cache.get(source);
+            if (scaledImages != null) {
+                SoftReference<Image> ref = scaledImages.get(key);
+                Image img = ref != null ? ref.get() : null;
+                if (img != null) return img;
+            }
+        }
+        Image scaled = createScaledImage(source, width, height, scalingMode);
+        // Don't keep the source alive through its own cache entry.
+        if (scaled == source) return scaled;
+        synchronized (cache) {
+            cache.computeIfAbsent(source, s -> new HashMap<>()).put(key, new SoftReference<>(scaled));
+        }
+        return scaled;
+    }
+
+    static void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private static Image createScaledImage(final Image source, final int width, final int height,
+            final int scalingMode) {
+        if (!ensureImageLoaded(source)) {
+            // The image isn't available yet. Fall back to the asynchronous toolkit scaling.
+            return source.getScaledInstance(width, height, scalingMode);
+        }
+        int w = source.getWidth(null);
+        int h = source.getHeight(null);
+        if (w == width && h == height) return source;
+
+        boolean progressive = !isNearestNeighbour(scalingMode);
+        Object interpolation = progressive
+                ? RenderingHints.VALUE_INTERPOLATION_BILINEAR
+                : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR;
+
+        Image current = source;
+        do {
+            if (progressive && w > width) w = Math.max(width, (w + 1) / 2);
+            else w = width;
+            if (progressive && h > height) h = Math.max(height, (h + 1) / 2);
+            else h = height;
+            current = drawScaled(current, w, h, interpolation);
+        } while (w != width || h != height);
+        return current;
+    }
+
+    private static boolean isNearestNeighbour(final int scalingMode) {
+        return scalingMode == Image.SCALE_FAST || scalingMode == Image.SCALE_REPLICATE;
+    }
+
+    private static BufferedImage drawScaled(final Image img, final int width, final int height,
+            final Object interpolation) {
+        BufferedImage target = ImageUtil.createCompatibleTranslucentImage(width, height);
+        Graphics2D g = target.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(img, 0, 0, width, height, null);
+        g.dispose();
+        return target;
+    }
+
+    private static boolean ensureImageLoaded(final Image img) {
+        if (img.getWidth(null) >= 0 && img.getHeight(null) >= 0) return true;
+        MediaTracker tracker = new MediaTracker(new Component() {});
+        tracker.addImage(img, 0);
+        try {
+            tracker.waitForAll();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return !tracker.isErrorAny() && img.getWidth(null) >= 0 && img.getHeight(null) >= 0;
+    }
+
+    private static final class ScaleKey {
+        private final int width;
+        private final int height;
+        private final int scalingMode;
+
+        private ScaleKey(final int width, final int height, final int scalingMode) {
+            this.width = width;
+            this.height = height;
+            this.scalingMode = scalingMode;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ScaleKey that = (ScaleKey) o;
+            return width == that.width && height == that.height && scalingMode == that.scalingMode;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(width, height, scalingMode);
+        }
+    }
+}
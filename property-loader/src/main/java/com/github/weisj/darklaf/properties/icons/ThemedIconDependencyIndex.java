@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.properties.icons;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps track of the values of all color and opacity keys, which have been used to patch {@link ThemedSVGIcon}s.
+ * Whenever the theme status of {@link IconLoader} changes the values are compared against the current defaults and
+ * each key remembers the generation at which its value last changed. An icon only needs to patch its colors and
+ * re-render if one of the keys it depends on changed since it has been patched the last time.
+ */
+final class ThemedIconDependencyIndex {
+
+    /*
+     * Dependency marker for values which can't be tracked, e.g. inline values which reference other properties.
+     */
+    static final Object UNTRACKED = new Object();
+
+    private static final ThemedIconDependencyIndex INSTANCE = new ThemedIconDependencyIndex();
+
+    private final Map<Object, KeyState> keys = new HashMap<>();
+    private Object syncedTheme;
+    private Object syncedSource;
+    private long generation;
+
+    private ThemedIconDependencyIndex() {}
+
+    static ThemedIconDependencyIndex get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Synchronizes the tracked values with the given defaults if the theme status or the source of the defaults
+     * has changed. The theme status is updated while the defaults of the new theme are created, hence it alone
+     * doesn't indicate that the defaults have already been replaced.
+     *
+     * @param theme the current theme status.
+     * @param source the object the defaults are currently backed by.
+     * @param defaults the defaults used to resolve the icon colors.
+     * @return the current generation.
+     */
+    @SuppressWarnings("ReferenceEquality")
+    synchronized long sync(final Object theme, final Object source, final Map<Object, Object> defaults) {
+        if (theme == syncedTheme && source == syncedSource) return generation;
+        generation++;
+        for (Map.Entry<Object, KeyState> entry : keys.entrySet()) {
+            Object value = defaults.get(entry.getKey());
+            KeyState state = entry.getValue();
+            if (!Objects.equals(value, state.value)) {
+                state.value = value;
+                state.changedAt = generation;
+            }
+        }
+        syncedTheme = theme;
+        syncedSource = source;
+        return generation;
+    }
+
+    /**
+     * Registers the keys an icon depends on. The index has to be synchronized with the defaults first.
+     *
+     * @param dependencies the keys.
+     * @param defaults the defaults used to resolve the icon colors.
+     * @return the dependencies as an array or null if they can't be tracked.
+     */
+    synchronized Object[] register(final Collection<Object> dependencies, final Map<Object, Object> defaults) {
+        if (dependencies.contains(UNTRACKED)) return null;
+        for (Object key : dependencies) {
+            if (!keys.containsKey(key)) {
+                keys.put(key, new KeyState(defaults.get(key), generation));
+            }
+        }
+        return dependencies.toArray();
+    }
+
+    /**
+     * Returns whether any of the given keys changed after the given generation.
+     *
+     * @param dependencies the keys.
+     * @param since the generation.
+     * @return true if any key changed.
+     */
+    synchronized boolean hasChanged(final Object[] dependencies, final long since) {
+        for (Object key : dependencies) {
+            KeyState state = keys.get(key);
+            if (state == null || state.changedAt > since) return true;
+        }
+        return false;
+    }
+
+    private static final class KeyState {
+        private Object value;
+        private long changedAt;
+
+        private KeyState(final Object value, final long changedAt) {
+            this.value = value;
+            this.changedAt = changedAt;
+        }
+    }
+}
@@ -22,7 +22,9 @@ package com.github.weisj.darklaf.properties.icons;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.swing.*;
 
@@ -41,6 +43,19 @@ public class ThemedSVGIcon extends DarkSVGIcon implements ThemedIcon {
     private final List<ThemedSVGIconParserProvider.ThemedSolidColorPaint> paints;
     private Object currentTheme;
     private boolean updatedNotDuringPaint;
+    /*
+     * The keys the colors have been resolved from and the generation of the dependency index at that time.
+     * Null if the colors can't be tracked.
+     */
+    private Object[] dependencies;
+    private long dependencyGeneration;
+    /*
+     * The state the atlas image has last been validated against.
+     */
+    private Object atlasThemeStatus;
+    private int atlasDefaultsStamp;
+    private String atlasValidatedTheme;
+    private boolean atlasColorsValid;
 
     public ThemedSVGIcon(final URI uri, final int displayWidth, final int displayHeight) {
         super(uri, displayWidth, displayHeight);
@@ -52,6 +67,8 @@ public class ThemedSVGIcon extends DarkSVGIcon implements ThemedIcon {
         this.paints = icon.paints;
         this.currentTheme = icon.currentTheme;
         this.updatedNotDuringPaint = icon.updatedNotDuringPaint;
+        this.dependencies = icon.dependencies;
+        this.dependencyGeneration = icon.dependencyGeneration;
     }
 
     @Override
@@ -76,6 +93,16 @@ public class ThemedSVGIcon extends DarkSVGIcon implements ThemedIcon {
 
     protected boolean ensureTheme(final boolean painting) {
         Object theme = IconLoader.getThemeStatus();
+        if (currentTheme != theme && currentTheme != null && dependencies != null) {
+            // Keep the current colors and raster if none of the referenced properties have changed.
+            UIDefaults defaults = getContextDefaults();
+            ThemedIconDependencyIndex index = ThemedIconDependencyIndex.get();
+            long generation = index.sync(theme, UIManager.getLookAndFeelDefaults(), defaults);
+            if (!index.hasChanged(dependencies, dependencyGeneration)) {
+                currentTheme = theme;
+                dependencyGeneration = generation;
+            }
+        }
         if (currentTheme != theme) {
             patchColors();
             currentTheme = theme;
@@ -116,13 +143,55 @@ public class ThemedSVGIcon extends DarkSVGIcon implements ThemedIcon {
 
     public void invalidate() {
         currentTheme = new Object();
+        dependencies = null;
+        // The plans may hold values which have been changed without notifying the resolver.
+        for (ThemedSVGIconParserProvider.ThemedSolidColorPaint paint : paints) {
+            paint.clearPlans();
+        }
+        atlasThemeStatus = null;
+        invalidateAtlasImage();
+    }
+
+    Object[] getDependencies() {
+        return dependencies;
+    }
+
+    @Override
+    @SuppressWarnings("ReferenceEquality")
+    protected boolean isAtlasImageValid(final IconAtlas atlas, final String themeId, final String path) {
+        UIDefaults defaults = getContextDefaults();
+        if (defaults != UIManager.getDefaults()) return false;
+        Object themeStatus = IconLoader.getThemeStatus();
+        int defaultsStamp = IconLoader.getDefaultsModificationStamp();
+        if (themeStatus != atlasThemeStatus || defaultsStamp != atlasDefaultsStamp
+                || !themeId.equals(atlasValidatedTheme)) {
+            // The atlas has been rendered with the stock colors of the theme. Only use it if the colors
+            // the icon depends on still have these values.
+            atlasColorsValid = atlas.matchesColors(themeId, path, defaults);
+            atlasThemeStatus = themeStatus;
+            atlasDefaultsStamp = defaultsStamp;
+            atlasValidatedTheme = themeId;
+        }
+        return atlasColorsValid;
     }
 
     protected UIDefaults getContextDefaults() {
         return UIManager.getDefaults();
     }
 
+    @SuppressWarnings("ReferenceEquality")
     protected void patchColors() {
-        ThemedSVGIconParserProvider.patchColors(paints(), getContextDefaults(), null);
+        UIDefaults defaults = getContextDefaults();
+        dependencies = null;
+        if (defaults != UIManager.getDefaults()) {
+            ThemedSVGIconParserProvider.patchColors(paints(), defaults, null);
+            return;
+        }
+        ThemedIconDependencyIndex index = ThemedIconDependencyIndex.get();
+        long generation = index.sync(IconLoader.getThemeStatus(), UIManager.getLookAndFeelDefaults(), defaults);
+        Set<Object> keys = new HashSet<>();
+        ThemedSVGIconParserProvider.patchColors(paints(), defaults, generation, keys);
+        dependencies = index.register(keys, defaults);
+        dependencyGeneration = generation;
     }
 }
@@ -21,11 +21,15 @@
 package com.github.weisj.darklaf.properties.icons;
 
 import java.awt.*;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import javax.swing.*;
+
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -114,6 +118,47 @@ public class ThemedSVGIconParserProvider extends DefaultParserProvider {
         }
     }
 
+    /*
+     * Patches the colors against the global defaults using the compiled resolution plans of the paints. All keys
+     * the colors depend on are added to the dependencies.
+     */
+    static void patchColors(final List<ThemedSolidColorPaint> paints, final UIDefaults defaults,
+            final long dependencyGeneration, final Collection<Object> dependencies) {
+        CompiledColorResolver resolver = CompiledColorResolver.get();
+        int epoch = resolver.prepare(dependencyGeneration, defaults);
+        for (ThemedSolidColorPaint paint : paints) {
+            CompiledColorResolver.Plan colorPlan = paint.colorPlan;
+            if (paint.recompilePlans) {
+                colorPlan = resolver.recompile(paint.colorKey, paint.colorFallbacks, Color.class, defaults);
+                paint.colorPlan = colorPlan;
+            } else if (colorPlan == null || colorPlan.epoch != epoch) {
+                colorPlan = resolver.plan(paint.colorKey, paint.colorFallbacks, Color.class, defaults);
+                paint.colorPlan = colorPlan;
+            }
+            Collections.addAll(dependencies, colorPlan.dependencies);
+            paint.color = IconColorMapper.colorOrFallback((Color) colorPlan.value, paint.colorKey,
+                    paint.colorFallbacks);
+
+            float opacity = -1;
+            if (IconColorMapper.hasOpacity(paint.opacityKey, paint.opacityFallbacks)) {
+                CompiledColorResolver.Plan opacityPlan = paint.opacityPlan;
+                if (paint.recompilePlans) {
+                    opacityPlan = resolver.recompile(paint.opacityKey, paint.opacityFallbacks, Number.class,
+                            defaults);
+                    paint.opacityPlan = opacityPlan;
+                } else if (opacityPlan == null || opacityPlan.epoch != epoch) {
+                    opacityPlan = resolver.plan(paint.opacityKey, paint.opacityFallbacks, Number.class, defaults);
+                    paint.opacityPlan = opacityPlan;
+                }
+                Collections.addAll(dependencies, opacityPlan.dependencies);
+                opacity = IconColorMapper.toOpacity((Number) opacityPlan.value, paint.opacityKey);
+            }
+            if (opacity < 0) opacity = paint.originalOpacity;
+            paint.color = ColorUtil.toAlpha(paint.color, opacity);
+            paint.recompilePlans = false;
+        }
+    }
+
     public static Map<Object, Object> getProperties(List<ThemedSVGIconParserProvider.ThemedSolidColorPaint> paints) {
         Map<Object, Object> values = new HashMap<>(paints.size() * 2, 0.75f);
         for (ThemedSVGIconParserProvider.ThemedSolidColorPaint paint : paints) {
@@ -142,6 +187,9 @@ public class ThemedSVGIconParserProvider extends DefaultParserProvider {
         private final float originalOpacity;
 
         private Color color = DefaultPaintParser.DEFAULT_COLOR;
+        private CompiledColorResolver.Plan colorPlan;
+        private CompiledColorResolver.Plan opacityPlan;
+        private boolean recompilePlans;
 
         ThemedSolidColorPaint(final String colorKey, final String[] colorFallbacks,
                 final String opacityKey, final String[] opacityFallbacks,
@@ -153,6 +201,12 @@ public class ThemedSVGIconParserProvider extends DefaultParserProvider {
             this.originalOpacity = originalOpacity;
         }
 
+        void clearPlans() {
+            colorPlan = null;
+            opacityPlan = null;
+            recompilePlans = true;
+        }
+
         @Override
         public @NotNull Paint paint() {
             return color;
@@ -28,6 +28,7 @@ import java.util.Map;
 
 import com.github.weisj.darklaf.properties.uiresource.DarkFontUIResource;
 import com.github.weisj.darklaf.util.FontUtil;
+import com.github.weisj.darklaf.util.cache.FontCache;
 
 public class FontParser extends KeyFilteredParser implements Delimiters {
 
@@ -78,8 +79,8 @@ public class FontParser extends KeyFilteredParser implements Delimiters {
         if (style < 0) style = base.getStyle();
 
         // noinspection MagicConstant
-        Font font = base.deriveFont(style, size);
-        return ParserUtil.setNonNull(parseResult, new DarkFontUIResource(font.deriveFont(attributes)));
+        Font font = FontCache.deriveUIResource(base, style, size, attributes, DarkFontUIResource::new);
+        return ParserUtil.setNonNull(parseResult, font);
     }
 
     private ParseResult parseBaseFont(final ParseResult parseResult, final ParserContext context) {
@@ -0,0 +1,230 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.properties.color;
+
+import java.awt.*;
+
+import javax.swing.plaf.ColorUIResource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.util.ColorUtil;
+import com.github.weisj.darklaf.util.PackedColor;
+import com.github.weisj.darklaf.util.cache.DerivedColorCache;
+
+class PackedColorTest {
+
+    private static final int[] COMPONENTS = {0, 1, 17, 63, 64, 127, 128, 129, 191, 200, 254, 255};
+    private static final int[] ALPHAS = {0, 1, 128, 254, 255};
+    private static final double[] FACTORS = {0, 0.1, 0.25, 0.5, 0.7, 0.999, 1, 1.2, 1.5, 2.7, -0.5};
+    private static final double[] UNIT_STEPS = {0, 0.05, 0.125, 1 / 3.0, 0.5, 0.6, 2 / 3.0, 0.9, 0.999, 1};
+
+    @Test
+    void testHSLMatchesColorModel() {
+        double[] hsl = new double[3];
+        for (int rgb : colorGrid()) {
+            Color color = new Color(rgb);
+            double[] expected = DarkColorModelHSL.RGBtoHSLValues(color.getRed(), color.getGreen(), color.getBlue());
+            PackedColor.toHSL(rgb, hsl);
+            for (int i = 0; i < 3; i++) {
+                Assertions.assertEquals(expected[i], hsl[i], 0, "hsl[" + i + "] of " + color);
+            }
+        }
+    }
+
+    @Test
+    void testFromHSLMatchesColorModel() {
+        for (double h : new double[] {-0.25, 0, 0.1, 1 / 6.0, 0.25, 0.5, 0.75, 0.99, 1, 1.3}) {
+            for (double s : UNIT_STEPS) {
+                for (double l : UNIT_STEPS) {
+                    Color expected = DarkColorModelHSL.getColorFromHSLValues(h, s, l);
+                    Assertions.assertEquals(expected.getRGB(), PackedColor.fromHSL(h, s, l),
+                            "h=" + h + " s=" + s + " l=" + l);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testHSLRoundTrip() {
+        double[] hsl = new double[3];
+        for (int rgb : colorGrid()) {
+            PackedColor.toHSL(rgb, hsl);
+            Assertions.assertEquals(rgb, PackedColor.fromHSL(hsl[0], hsl[1], hsl[2]), Integer.toHexString(rgb));
+        }
+    }
+
+    @Test
+    void testHSBMatchesColor() {
+        float[] hsb = new float[3];
+        for (int rgb : colorGrid()) {
+            Color color = new Color(rgb);
+            float[] expected = Color.RGBtoHSB(color.getRed(), color.getGreen(), color.getBlue(), null);
+            PackedColor.toHSB(rgb, hsb);
+            for (int i = 0; i < 3; i++) {
+                Assertions.assertEquals(expected[i], hsb[i], 0, "hsb[" + i + "] of " + color);
+            }
+        }
+        for (double h : UNIT_STEPS) {
+            for (double s : UNIT_STEPS) {
+                for (double b : UNIT_STEPS) {
+                    Assertions.assertEquals(Color.HSBtoRGB((float) h, (float) s, (float) b),
+                            PackedColor.fromHSB(h, s, b), "h=" + h + " s=" + s + " b=" + b);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testBlendMatchesColorUtil() {
+        int[] grid = colorGrid();
+        for (int i = 0; i < grid.length; i += 7) {
+            for (int j = 0; j < grid.length; j += 11) {
+                Color c1 = new Color(grid[i]);
+                Color c2 = new Color(grid[j]);
+                for (double percent : UNIT_STEPS) {
+                    Color expected = referenceBlend(c1, c2, percent);
+                    String message = c1 + " " + c2 + " " + percent;
+                    Assertions.assertEquals(expected.getRGB(), PackedColor.blend(grid[i], grid[j], percent), message);
+                    Assertions.assertEquals(expected, ColorUtil.blendColors(c1, c2, percent), message);
+                    Assertions.assertEquals(expected, DerivedColorCache.blend(c1, c2, percent), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testShiftMatchesColorUtil() {
+        for (int rgb : colorGrid()) {
+            for (int alpha : ALPHAS) {
+                Color color = new Color(PackedColor.withAlpha(rgb, alpha), true);
+                for (double factor : FACTORS) {
+                    Color expected = referenceShift(color, factor);
+                    String message = color + " alpha=" + alpha + " factor=" + factor;
+                    Assertions.assertEquals(expected.getRGB(), PackedColor.shift(color.getRGB(), factor), message);
+                    Assertions.assertEquals(expected, ColorUtil.shift(color, factor), message);
+                    Assertions.assertEquals(expected, DerivedColorCache.shift(color, factor), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testAlphaMatchesColorUtil() {
+        for (int rgb : colorGrid()) {
+            Color color = new Color(rgb);
+            for (int alpha : new int[] {-10, 0, 1, 100, 254, 255, 300}) {
+                Color expected = referenceToAlpha(color, alpha);
+                Assertions.assertEquals(expected.getRGB(), PackedColor.withAlpha(rgb, alpha));
+                Assertions.assertEquals(expected, ColorUtil.toAlpha(color, alpha));
+                Assertions.assertEquals(expected, DerivedColorCache.withAlpha(color, alpha));
+            }
+            for (double alpha : UNIT_STEPS) {
+                Color expected = referenceToAlpha(color, (int) Math.round(alpha * 255));
+                Assertions.assertEquals(expected.getRGB(), PackedColor.withAlpha(rgb, alpha));
+                Assertions.assertEquals(expected, ColorUtil.toAlpha(color, alpha));
+                Assertions.assertEquals(expected, DerivedColorCache.withAlpha(color, alpha));
+            }
+            Color translucent = new Color(PackedColor.withAlpha(rgb, 100), true);
+            Assertions.assertEquals(color, ColorUtil.removeAlpha(translucent));
+            Assertions.assertEquals(color.getRGB(), PackedColor.removeAlpha(translucent.getRGB()));
+            Assertions.assertEquals(color, DerivedColorCache.removeAlpha(translucent));
+        }
+        Assertions.assertEquals(Color.BLACK, DerivedColorCache.withAlpha(null, 255));
+    }
+
+    @Test
+    void testBrightnessMatchesColorUtil() {
+        for (int rgb : colorGrid()) {
+            Color color = new Color(rgb);
+            int r = color.getRed();
+            int g = color.getGreen();
+            int b = color.getBlue();
+            double perceived = Math.sqrt(0.299 * r * r + 0.587 * g * g + 0.114 * b * b);
+            Assertions.assertEquals(perceived, PackedColor.perceivedBrightness(rgb), 0, color.toString());
+            Assertions.assertEquals(perceived, ColorUtil.getPerceivedBrightness(color), 0, color.toString());
+            Assertions.assertEquals(ColorUtil.getLuminance(color), PackedColor.luminance(rgb), 0, color.toString());
+        }
+        Assertions.assertEquals(21, PackedColor.contrastRatio(Color.WHITE.getRGB(), Color.BLACK.getRGB()), 1E-9);
+        Assertions.assertEquals(1, PackedColor.contrastRatio(Color.GRAY.getRGB(), Color.GRAY.getRGB()), 1E-9);
+    }
+
+    @Test
+    void testCacheReturnsSameInstance() {
+        Color c1 = new Color(0x3C3F41);
+        Color c2 = new Color(0xBBBBBB);
+        ColorUIResource blended = DerivedColorCache.blend(c1, c2, 0.3);
+        Assertions.assertSame(blended, DerivedColorCache.blend(c1, c2, 0.3));
+        Assertions.assertNotSame(blended, DerivedColorCache.blend(c2, c1, 0.3));
+        Assertions.assertNotEquals(blended, DerivedColorCache.blend(c1, c2, 0.31));
+
+        ColorUIResource shifted = DerivedColorCache.shift(c1, 1.5);
+        Assertions.assertSame(shifted, DerivedColorCache.shift(c1, 1.5));
+        Assertions.assertEquals(referenceShift(c1, 1.5), shifted);
+
+        DerivedColorCache.clear();
+        ColorUIResource recomputed = DerivedColorCache.blend(c1, c2, 0.3);
+        Assertions.assertNotSame(blended, recomputed);
+        Assertions.assertEquals(blended, recomputed);
+    }
+
+    private static int[] colorGrid() {
+        int n = COMPONENTS.length;
+        int[] colors = new int[n * n * n];
+        int index = 0;
+        for (int r : COMPONENTS) {
+            for (int g : COMPONENTS) {
+                for (int b : COMPONENTS) {
+                    colors[index++] = new Color(r, g, b).getRGB();
+                }
+            }
+        }
+        return colors;
+    }
+
+    /*
+     * The component wise computations ColorUtil used before it delegated to PackedColor.
+     */
+    private static Color referenceBlend(final Color color1, final Color color2, final double percent) {
+        if (percent == 1) return color1;
+        if (percent == 0) return color2;
+        double inversePercent = 1.0 - percent;
+        int redPart = (int) Math.round(color1.getRed() * percent + color2.getRed() * inversePercent);
+        int greenPart = (int) Math.round(color1.getGreen() * percent + color2.getGreen() * inversePercent);
+        int bluePart = (int) Math.round(color1.getBlue() * percent + color2.getBlue() * inversePercent);
+        return new Color(redPart, greenPart, bluePart);
+    }
+
+    private static Color referenceShift(final Color c, final double d) {
+        return new Color(referenceShift(c.getRed(), d), referenceShift(c.getGreen(), d),
+                referenceShift(c.getBlue(), d), c.getAlpha());
+    }
+
+    private static int referenceShift(final int colorComponent, final double d) {
+        int n = (int) Math.round(colorComponent * d);
+        return n > 255 ? 255 : Math.max(n, 0);
+    }
+
+    private static Color referenceToAlpha(final Color c, final int a) {
+        return new Color(c.getRed(), c.getGreen(), c.getBlue(), Math.min(Math.max(0, a), 255));
+    }
+}
@@ -97,6 +97,18 @@ class DerivableImageIconTest {
         Assertions.assertSame(icon, icon.derive(img.getWidth(null), img.getHeight(null)));
     }
 
+    @Test
+    void testScaledImagesAreShared() {
+        BufferedImage source = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+        DerivableImageIcon first = new DerivableImageIcon(source, 20, 20);
+        DerivableImageIcon second = new DerivableImageIcon(source).derive(20, 20);
+        Image img = first.getImage();
+        Assertions.assertTrue(img instanceof BufferedImage);
+        Assertions.assertEquals(20, img.getWidth(null));
+        Assertions.assertEquals(20, img.getHeight(null));
+        Assertions.assertSame(img, second.getImage());
+    }
+
     @Test
     void testLoading() {
         IconLoader loader = IconLoader.get(DerivableImageIconTest.class);
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.properties.icons;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IconAtlasTest {
+
+    @TempDir
+    Path atlasDir;
+
+    @Test
+    void testMissingIndex() {
+        Assertions.assertNull(IconAtlas.load(this::resolve));
+    }
+
+    @Test
+    void testLookup() throws IOException {
+        BufferedImage sheet = new BufferedImage(8, 4, BufferedImage.TYPE_INT_ARGB);
+        sheet.setRGB(4, 0, Color.RED.getRGB());
+        ImageIO.write(sheet, "png", atlasDir.resolve("sheet.png").toFile());
+        try (Writer writer = Files.newBufferedWriter(atlasDir.resolve(IconAtlas.INDEX_FILE), StandardCharsets.UTF_8)) {
+            writer.write("size.folder/icon.svg=4,4\n");
+            writer.write("sheet.theme@100=sheet.png\n");
+            writer.write("theme@100|folder/icon.svg=4,0,4,4\n");
+        }
+
+        IconAtlas atlas = IconAtlas.load(this::resolve);
+        Assertions.assertNotNull(atlas);
+        Assertions.assertTrue(atlas.contains("folder/icon.svg"));
+        Assertions.assertFalse(atlas.contains("folder/other.svg"));
+        Assertions.assertEquals(new Dimension(4, 4), atlas.getIconSize("folder/icon.svg"));
+
+        Image image = atlas.getImage("theme", IconAtlas.toScalePercent(1.0), "folder/icon.svg");
+        Assertions.assertTrue(image instanceof BufferedImage);
+        Assertions.assertEquals(4, image.getWidth(null));
+        Assertions.assertEquals(Color.RED.getRGB(), ((BufferedImage) image).getRGB(0, 0));
+        Assertions.assertSame(image, atlas.getImage("theme", 100, "folder/icon.svg"));
+
+        Assertions.assertNull(atlas.getImage("theme", 200, "folder/icon.svg"));
+        Assertions.assertNull(atlas.getImage("otherTheme", 100, "folder/icon.svg"));
+    }
+
+    @Test
+    void testColorEntries() throws IOException {
+        Map<Object, Object> defaults = new HashMap<>();
+        defaults.put("Icons.foreground", Color.RED);
+        defaults.put("Icons.opacity", 50);
+        String[] keys = {"Icons.foreground", "Icons.missing", "Icons.opacity"};
+        String fingerprint = Long.toHexString(IconAtlas.fingerprint(keys, defaults));
+        try (Writer writer = Files.newBufferedWriter(atlasDir.resolve(IconAtlas.INDEX_FILE), StandardCharsets.UTF_8)) {
+            writer.write("size.icon.svg=4,4\n");
+            writer.write("colors.theme|icon.svg=" + fingerprint + ";" + String.join(",", keys) + "\n");
+            writer.write("colors.theme|plain.svg=1;\n");
+        }
+
+        IconAtlas atlas = IconAtlas.load(this::resolve);
+        Assertions.assertNotNull(atlas);
+        Assertions.assertTrue(atlas.matchesColors("theme", "icon.svg", defaults));
+        Assertions.assertFalse(atlas.matchesColors("otherTheme", "icon.svg", defaults));
+        Assertions.assertFalse(atlas.matchesColors("theme", "other.svg", defaults));
+        Assertions.assertTrue(atlas.matchesColors("theme", "plain.svg", defaults));
+
+        defaults.put("Unrelated.color", Color.GREEN);
+        Assertions.assertTrue(atlas.matchesColors("theme", "icon.svg", defaults));
+
+        defaults.put("Icons.foreground", Color.BLUE);
+        Assertions.assertFalse(atlas.matchesColors("theme", "icon.svg", defaults));
+        defaults.put("Icons.foreground", Color.RED);
+        Assertions.assertTrue(atlas.matchesColors("theme", "icon.svg", defaults));
+
+        defaults.put("Icons.missing", Color.RED);
+        Assertions.assertFalse(atlas.matchesColors("theme", "icon.svg", defaults));
+    }
+
+    private URL resolve(final String path) {
+        Path file = atlasDir.resolve(path);
+        if (!Files.exists(file)) return null;
+        try {
+            return file.toUri().toURL();
+        } catch (final MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
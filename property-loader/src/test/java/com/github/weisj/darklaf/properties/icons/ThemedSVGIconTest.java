@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.properties.icons;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.UIDefaults;
+import javax.swing.UIManager;
+import javax.swing.plaf.ColorUIResource;
+import javax.swing.plaf.UIResource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+@ResourceLock(value = "IconLoader")
+class ThemedSVGIconTest {
+
+    private static final String COLOR_KEY = "ThemedSVGIconTest.color";
+    private static final String INLINE_COLOR_KEY = "ThemedSVGIconTest.inlineColor";
+
+    @Test
+    void testInvalidateResolvesLookAndFeelDefaults() {
+        UIDefaults lafDefaults = UIManager.getLookAndFeelDefaults();
+        try {
+            IconLoader.updateThemeStatus(new Object());
+            lafDefaults.put(COLOR_KEY, new ColorUIResource(Color.RED));
+            ThemedSVGIcon icon = (ThemedSVGIcon) IconLoader.get(ThemedSVGIconTest.class)
+                    .loadSVGIcon("themed_svg_icon.svg", true);
+            Assertions.assertEquals(Color.RED, getColor(icon));
+
+            // Putting a value into the look and feel defaults doesn't notify the global defaults.
+            lafDefaults.put(COLOR_KEY, new ColorUIResource(Color.BLUE));
+            icon.invalidate();
+            Assertions.assertEquals(Color.BLUE, getColor(icon));
+        } finally {
+            lafDefaults.remove(COLOR_KEY);
+            IconLoader.updateThemeStatus(new Object());
+        }
+    }
+
+    @Test
+    void testUnchangedDependenciesKeepColorsAndImage() {
+        UIDefaults lafDefaults = UIManager.getLookAndFeelDefaults();
+        try {
+            IconLoader.updateThemeStatus(new Object());
+            lafDefaults.put(COLOR_KEY, new ColorUIResource(Color.RED));
+            ThemedSVGIcon icon = loadIcon("themed_svg_icon.svg");
+            paint(icon);
+            Color patched = getPatchedColor(icon, COLOR_KEY);
+            Assertions.assertNotNull(icon.getDependencies());
+
+            IconLoader.updateThemeStatus(new Object());
+            // The image is only rendered again if ensureLoaded reports a change.
+            Assertions.assertFalse(icon.ensureLoaded(true));
+            Assertions.assertSame(patched, getPatchedColor(icon, COLOR_KEY));
+        } finally {
+            lafDefaults.remove(COLOR_KEY);
+            IconLoader.updateThemeStatus(new Object());
+        }
+    }
+
+    @Test
+    void testChangedDependencyPatchesColors() {
+        UIDefaults lafDefaults = UIManager.getLookAndFeelDefaults();
+        try {
+            IconLoader.updateThemeStatus(new Object());
+            lafDefaults.put(COLOR_KEY, new ColorUIResource(Color.RED));
+            ThemedSVGIcon icon = loadIcon("themed_svg_icon.svg");
+            paint(icon);
+            Assertions.assertEquals(Color.RED, getColor(icon, COLOR_KEY));
+
+            lafDefaults.put(COLOR_KEY, new ColorUIResource(Color.BLUE));
+            IconLoader.updateThemeStatus(new Object());
+            Assertions.assertTrue(icon.ensureLoaded(true));
+            Assertions.assertEquals(Color.BLUE, getColor(icon, COLOR_KEY));
+        } finally {
+            lafDefaults.remove(COLOR_KEY);
+            IconLoader.updateThemeStatus(new Object());
+        }
+    }
+
+    @Test
+    void testInlineReferencesAreAlwaysPatched() {
+        UIDefaults lafDefaults = UIManager.getLookAndFeelDefaults();
+        try {
+            IconLoader.updateThemeStatus(new Object());
+            lafDefaults.put(COLOR_KEY, new ColorUIResource(Color.RED));
+            ThemedSVGIcon icon = loadIcon("themed_svg_icon_inline.svg");
+            paint(icon);
+            Assertions.assertEquals(Color.RED, getColor(icon, INLINE_COLOR_KEY));
+            // The referenced key isn't known to the dependency index.
+            Assertions.assertNull(icon.getDependencies());
+
+            lafDefaults.put(COLOR_KEY, new ColorUIResource(Color.BLUE));
+            IconLoader.updateThemeStatus(new Object());
+            Assertions.assertTrue(icon.ensureLoaded(true));
+            Assertions.assertEquals(Color.BLUE, getColor(icon, INLINE_COLOR_KEY));
+        } finally {
+            lafDefaults.remove(COLOR_KEY);
+            IconLoader.updateThemeStatus(new Object());
+        }
+    }
+
+    @Test
+    void testPatchedColorsArePlainColors() {
+        UIDefaults lafDefaults = UIManager.getLookAndFeelDefaults();
+        try {
+            IconLoader.updateThemeStatus(new Object());
+            lafDefaults.put(COLOR_KEY, new ColorUIResource(Color.RED));
+            ThemedSVGIcon icon = loadIcon("themed_svg_icon.svg");
+            paint(icon);
+            assertPlainColor(getPatchedColor(icon, COLOR_KEY));
+        } finally {
+            lafDefaults.remove(COLOR_KEY);
+            IconLoader.updateThemeStatus(new Object());
+        }
+
+        ThemedSVGIconParserProvider.ThemedSolidColorPaint paint =
+                new ThemedSVGIconParserProvider.ThemedSolidColorPaint(COLOR_KEY, new String[0], null, null, 0.5f);
+        List<ThemedSVGIconParserProvider.ThemedSolidColorPaint> paints = Collections.singletonList(paint);
+        Map<Object, Object> properties = new HashMap<>();
+        properties.put(COLOR_KEY, new ColorUIResource(Color.RED));
+        ThemedSVGIconParserProvider.patchColors(paints, properties, Collections.emptyMap());
+        Color color = (Color) paint.paint();
+        assertPlainColor(color);
+        Assertions.assertEquals(new Color(255, 0, 0, 128), color);
+    }
+
+    private static void assertPlainColor(final Color color) {
+        Assertions.assertFalse(color instanceof UIResource, "Patched color is a UIResource: " + color);
+    }
+
+    private static ThemedSVGIcon loadIcon(final String name) {
+        return (ThemedSVGIcon) IconLoader.get(ThemedSVGIconTest.class).loadSVGIcon(name, true);
+    }
+
+    private static void paint(final ThemedSVGIcon icon) {
+        BufferedImage image = new BufferedImage(icon.getIconWidth(), icon.getIconHeight(),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            icon.paintIcon(null, g, 0, 0);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private static Color getPatchedColor(final ThemedSVGIcon icon, final String key) {
+        Color color = ThemedSVGIconParserProvider.getNamedColors(icon).get(key);
+        Assertions.assertNotNull(color);
+        return color;
+    }
+
+    private static Color getColor(final ThemedSVGIcon icon) {
+        return getColor(icon, COLOR_KEY);
+    }
+
+    private static Color getColor(final ThemedSVGIcon icon, final String key) {
+        Color color = getPatchedColor(icon, key);
+        return new Color(color.getRGB(), true);
+    }
+}
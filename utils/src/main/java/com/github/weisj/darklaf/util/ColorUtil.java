@@ -35,20 +35,11 @@ public final class ColorUtil {
     public static Color blendColors(final Color color1, final Color color2, final double percent) {
         if (percent == 1) return color1;
         if (percent == 0) return color2;
-        double inverse_percent = 1.0 - percent;
-        int redPart = (int) Math.round(color1.getRed() * percent + color2.getRed() * inverse_percent);
-        int greenPart = (int) Math.round(color1.getGreen() * percent + color2.getGreen() * inverse_percent);
-        int bluePart = (int) Math.round(color1.getBlue() * percent + color2.getBlue() * inverse_percent);
-        return new Color(redPart, greenPart, bluePart);
+        return new Color(PackedColor.blend(color1.getRGB(), color2.getRGB(), percent));
     }
 
     public static Color shift(final Color c, final double d) {
-        return new Color(shift(c.getRed(), d), shift(c.getGreen(), d), shift(c.getBlue(), d), c.getAlpha());
-    }
-
-    private static int shift(final int colorComponent, final double d) {
-        int n = (int) Math.round((double) colorComponent * d);
-        return n > 255 ? 255 : Math.max(n, 0);
+        return new Color(PackedColor.shift(c.getRGB(), d), true);
     }
 
     public static Color toAlpha(final Color color, final double alpha) {
@@ -57,7 +48,7 @@ public final class ColorUtil {
 
     public static Color toAlpha(final Color color, final int a) {
         Color c = color != null ? color : Color.black;
-        return new Color(c.getRed(), c.getGreen(), c.getBlue(), Math.min(Math.max(0, a), 255));
+        return new Color(PackedColor.withAlpha(c.getRGB(), a), true);
     }
 
     public static Color fromHex(final String str, final Color defaultValue) {
@@ -129,8 +120,7 @@ public final class ColorUtil {
      * @return the brightness from 0 to 255.
      */
     public static double getPerceivedBrightness(final Color c) {
-        return Math.sqrt(0.299 * c.getRed() * c.getRed() + 0.587 * c.getGreen() * c.getGreen()
-                + 0.114 * c.getBlue() * c.getBlue());
+        return PackedColor.perceivedBrightness(c.getRGB());
     }
 
     public static double getLuminance(final Color c) {
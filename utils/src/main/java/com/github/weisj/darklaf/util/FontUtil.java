@@ -21,6 +21,8 @@
 package com.github.weisj.darklaf.util;
 
 import java.awt.*;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import javax.swing.*;
 import javax.swing.text.StyleContext;
@@ -28,10 +30,19 @@ import javax.swing.text.StyleContext;
 
 public final class FontUtil {
 
+    /*
+     * The style context keeps the fonts it creates, hence wrapping them only once gives fonts created with the
+     * same arguments the same identity. This allows caches keyed by font instance to share derived fonts.
+     */
+    private static final Map<Font, Font> nonUIResourceFonts = new WeakHashMap<>();
+
     public static Font createFont(final String family, final int style, final int size) {
         // This method calls FontUtilities.getCompositeFontUIResource(Font) internally which
         // creates a composite font with fallback support.
-        return new NonUIResourceFont(StyleContext.getDefaultStyleContext().getFont(family, style, size));
+        Font font = StyleContext.getDefaultStyleContext().getFont(family, style, size);
+        synchronized (nonUIResourceFonts) {
+            return nonUIResourceFonts.computeIfAbsent(font, NonUIResourceFont::new);
+        }
     }
 
     public static int getCenteredFontPosition(final int height, final FontMetrics fm) {
@@ -0,0 +1,232 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.util;
+
+import java.awt.Color;
+
+/**
+ * Color arithmetic on packed {@code 0xAARRGGBB} integers. In contrast to the methods in {@link ColorUtil} no
+ * intermediate {@link Color} objects are created, which makes these methods suitable for paint paths.
+ *
+ * <p>
+ * Conversions into other color spaces write their result into an array supplied by the caller. Hue, saturation,
+ * lightness and brightness values are in the range [0, 1].
+ *
+ * @author Jannis Weis
+ */
+public final class PackedColor {
+
+    private PackedColor() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static int alpha(final int argb) {
+        return (argb >>> 24) & 0xFF;
+    }
+
+    public static int red(final int argb) {
+        return (argb >> 16) & 0xFF;
+    }
+
+    public static int green(final int argb) {
+        return (argb >> 8) & 0xFF;
+    }
+
+    public static int blue(final int argb) {
+        return argb & 0xFF;
+    }
+
+    /**
+     * Packs the given components. Values outside of [0, 255] are clamped.
+     */
+    public static int argb(final int a, final int r, final int g, final int b) {
+        return (clamp(a) << 24) | (clamp(r) << 16) | (clamp(g) << 8) | clamp(b);
+    }
+
+    public static int rgb(final int r, final int g, final int b) {
+        return argb(255, r, g, b);
+    }
+
+    public static int argb(final Color color) {
+        return color.getRGB();
+    }
+
+    public static int withAlpha(final int argb, final int alpha) {
+        return (clamp(alpha) << 24) | (argb & 0xFFFFFF);
+    }
+
+    public static int withAlpha(final int argb, final double alpha) {
+        return withAlpha(argb, (int) Math.round(alpha * 255));
+    }
+
+    public static int removeAlpha(final int argb) {
+        return argb | 0xFF000000;
+    }
+
+    /**
+     * Blends the two colors. The result is opaque.
+     *
+     * @param argb1 the first color.
+     * @param argb2 the second color.
+     * @param percent the weight of the first color.
+     * @return the blended color.
+     * @see ColorUtil#blendColors(Color, Color, double)
+     */
+    public static int blend(final int argb1, final int argb2, final double percent) {
+        if (percent == 1) return argb1;
+        if (percent == 0) return argb2;
+        double inverse = 1.0 - percent;
+        return rgb((int) Math.round(red(argb1) * percent + red(argb2) * inverse),
+                (int) Math.round(green(argb1) * percent + green(argb2) * inverse),
+                (int) Math.round(blue(argb1) * percent + blue(argb2) * inverse));
+    }
+
+    /**
+     * Multiplies the color components with the given factor while keeping the alpha value.
+     *
+     * @see ColorUtil#shift(Color, double)
+     */
+    public static int shift(final int argb, final double factor) {
+        return argb(alpha(argb),
+                (int) Math.round(red(argb) * factor),
+                (int) Math.round(green(argb) * factor),
+                (int) Math.round(blue(argb) * factor));
+    }
+
+    /**
+     * @see ColorUtil#getLuminance(Color)
+     */
+    public static double luminance(final int argb) {
+        return ColorUtil.getLuminance(red(argb), green(argb), blue(argb));
+    }
+
+    /**
+     * @see ColorUtil#getPerceivedBrightness(Color)
+     */
+    public static double perceivedBrightness(final int argb) {
+        int r = red(argb);
+        int g = green(argb);
+        int b = blue(argb);
+        return Math.sqrt(0.299 * r * r + 0.587 * g * g + 0.114 * b * b);
+    }
+
+    /**
+     * Calculates the contrast ratio of the two colors as defined by WCAG 2.
+     *
+     * @return the contrast ratio from 1 to 21.
+     */
+    public static double contrastRatio(final int argb1, final int argb2) {
+        double l1 = luminance(argb1);
+        double l2 = luminance(argb2);
+        return (Math.max(l1, l2) + 0.05) / (Math.min(l1, l2) + 0.05);
+    }
+
+    /**
+     * Converts the color to hue, saturation and lightness.
+     *
+     * @param argb the color.
+     * @param hsl the array to store the result in. Has to be of length at least 3.
+     * @return the given array.
+     */
+    public static double[] toHSL(final int argb, final double[] hsl) {
+        double r = red(argb) / 255.0;
+        double g = green(argb) / 255.0;
+        double b = blue(argb) / 255.0;
+        double max = Math.max(Math.max(r, g), b);
+        double min = Math.min(Math.min(r, g), b);
+        double sum = max + min;
+        double saturation = max - min;
+        if (saturation > 0) {
+            saturation /= sum > 1 ? 2 - sum : sum;
+        }
+        hsl[0] = hue(r, g, b, max, min);
+        hsl[1] = saturation;
+        hsl[2] = sum / 2;
+        return hsl;
+    }
+
+    /**
+     * Creates an opaque color from hue, saturation and lightness.
+     */
+    public static int fromHSL(final double h, final double s, final double l) {
+        double hue = h - Math.floor(h);
+        if (s > 0) {
+            hue *= 6;
+            double q = l + s * (l > 0.5 ? 1 - l : l);
+            double p = 2 * l - q;
+            return rgb((int) Math.round(255 * hslComponent(q, p, hue < 4 ? hue + 2 : hue - 4)),
+                    (int) Math.round(255 * hslComponent(q, p, hue)),
+                    (int) Math.round(255 * hslComponent(q, p, hue < 2 ? hue + 4 : hue - 2)));
+        } else {
+            int v = (int) Math.round(255 * l);
+            return rgb(v, v, v);
+        }
+    }
+
+    /**
+     * Converts the color to hue, saturation and brightness.
+     *
+     * @param argb the color.
+     * @param hsb the array to store the result in. Has to be of length at least 3.
+     * @return the given array.
+     */
+    public static float[] toHSB(final int argb, final float[] hsb) {
+        return Color.RGBtoHSB(red(argb), green(argb), blue(argb), hsb);
+    }
+
+    /**
+     * Creates an opaque color from hue, saturation and brightness. All values are clamped to [0, 1].
+     */
+    public static int fromHSB(final double h, final double s, final double b) {
+        return Color.HSBtoRGB((float) clamp01(h), (float) clamp01(s), (float) clamp01(b));
+    }
+
+    private static double hue(final double r, final double g, final double b, final double max, final double min) {
+        double hue = max - min;
+        if (hue > 0) {
+            if (max == r) {
+                hue = (g - b) / hue;
+                if (hue < 0) hue += 6;
+            } else if (max == g) {
+                hue = 2 + (b - r) / hue;
+            } else {
+                hue = 4 + (r - g) / hue;
+            }
+            hue /= 6;
+        }
+        return hue;
+    }
+
+    private static double hslComponent(final double q, final double p, final double c) {
+        if (c < 1) return p + (q - p) * c;
+        if (c < 3) return q;
+        if (c < 4) return p + (q - p) * (4 - c);
+        return p;
+    }
+
+    private static double clamp01(final double value) {
+        return Math.max(Math.min(value, 1), 0);
+    }
+
+    private static int clamp(final int value) {
+        return value > 255 ? 255 : Math.max(value, 0);
+    }
+}
@@ -83,7 +83,11 @@ public final class PropertyUtil {
     }
 
     public static void installBooleanProperty(final JComponent c, final String key, final String valueKey) {
-        installProperty(c, key, new UIResourceString(String.valueOf(UIManager.getBoolean(valueKey))));
+        installBooleanProperty(c, key, UIManager.getBoolean(valueKey));
+    }
+
+    public static void installBooleanProperty(final JComponent c, final String key, final boolean value) {
+        installProperty(c, key, new UIResourceString(String.valueOf(value)));
     }
 
     public static boolean getBooleanProperty(final Component c, final String property) {
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.util.cache;
+
+import java.awt.Color;
+
+import javax.swing.plaf.ColorUIResource;
+
+import com.github.weisj.darklaf.util.PackedColor;
+
+/**
+ * Memoizes colors derived from other colors. Entries are keyed by the operation, the rgb values of the source
+ * colors and the parameters of the operation, such that repeated derivations with the same input return the same
+ * {@link ColorUIResource} without allocating.
+ * <p>
+ * The cache is a fixed size direct mapped table. Colliding entries simply replace each other, hence the memory
+ * footprint stays constant. Lookups don't lock. Entries are immutable and races only result in an additional
+ * computation.
+ */
+public final class DerivedColorCache {
+
+    private static final int SIZE = 512;
+    private static final Entry[] entries = new Entry[SIZE];
+
+    public static final Derivation BLEND = (rgb1, rgb2, p1, p2) -> PackedColor.blend(rgb1, rgb2, p1);
+    public static final Derivation SHIFT = (rgb1, rgb2, p1, p2) -> PackedColor.shift(rgb1, p1);
+    public static final Derivation ALPHA = (rgb1, rgb2, p1, p2) -> PackedColor.withAlpha(rgb1, (int) p1);
+
+    private DerivedColorCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * A derivation of a color. Implementations have to be pure functions of their arguments. Derivations are
+     * compared by identity, hence they should be stored in constants.
+     */
+    @FunctionalInterface
+    public interface Derivation {
+        int derive(int argb1, int argb2, double p1, double p2);
+
+        default ColorUIResource createColor(final int argb) {
+            return new ColorUIResource(new Color(argb, true));
+        }
+    }
+
+    /**
+     * @see PackedColor#blend(int, int, double)
+     */
+    public static ColorUIResource blend(final Color color1, final Color color2, final double percent) {
+        return get(BLEND, color1.getRGB(), color2.getRGB(), percent, 0);
+    }
+
+    /**
+     * @see PackedColor#shift(int, double)
+     */
+    public static ColorUIResource shift(final Color color, final double factor) {
+        return get(SHIFT, color.getRGB(), 0, factor, 0);
+    }
+
+    /**
+     * @see PackedColor#withAlpha(int, int)
+     */
+    public static ColorUIResource withAlpha(final Color color, final int alpha) {
+        return get(ALPHA, color != null ? color.getRGB() : Color.BLACK.getRGB(), 0, Math.min(Math.max(0, alpha), 255),
+                0);
+    }
+
+    public static ColorUIResource withAlpha(final Color color, final double alpha) {
+        return withAlpha(color, (int) Math.round(alpha * 255));
+    }
+
+    public static ColorUIResource removeAlpha(final Color color) {
+        return withAlpha(color, 255);
+    }
+
+    /**
+     * Returns the memoized result of the derivation.
+     *
+     * @param derivation the derivation.
+     * @param argb1 the first source color.
+     * @param argb2 the second source color. Unused derivation arguments should be passed as 0.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @return the derived color.
+     */
+    public static ColorUIResource get(final Derivation derivation, final int argb1, final int argb2, final double p1,
+            final double p2) {
+        long bits1 = Double.doubleToLongBits(p1);
+        long bits2 = Double.doubleToLongBits(p2);
+        int index = index(System.identityHashCode(derivation), argb1, argb2, bits1, bits2);
+        Entry entry = entries[index];
+        if (entry != null && entry.matches(derivation, argb1, argb2, bits1, bits2)) return entry.color;
+        ColorUIResource color = derivation.createColor(derivation.derive(argb1, argb2, p1, p2));
+        entries[index] = new Entry(derivation, argb1, argb2, bits1, bits2, color);
+        return color;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public static void clear() {
+        for (int i = 0; i < SIZE; i++) {
+            entries[i] = null;
+        }
+    }
+
+    private static int index(final int derivation, final int argb1, final int argb2, final long bits1,
+            final long bits2) {
+        int h = derivation;
+        h = 31 * h + argb1;
+        h = 31 * h + argb2;
+        h = 31 * h + Long.hashCode(bits1);
+        h = 31 * h + Long.hashCode(bits2);
+        h ^= h >>> 16;
+        return h & (SIZE - 1);
+    }
+
+    private static final class Entry {
+        private final Derivation derivation;
+        private final int argb1;
+        private final int argb2;
+        private final long bits1;
+        private final long bits2;
+        private final ColorUIResource color;
+
+        private Entry(final Derivation derivation, final int argb1, final int argb2, final long bits1,
+                final long bits2, final ColorUIResource color) {
+            this.derivation = derivation;
+            this.argb1 = argb1;
+            this.argb2 = argb2;
+            this.bits1 = bits1;
+            this.bits2 = bits2;
+            this.color = color;
+        }
+
+        @SuppressWarnings("ReferenceEquality")
+        private boolean matches(final Derivation d, final int a1, final int a2, final long b1, final long b2) {
+            return derivation == d && argb1 == a1 && argb2 == a2 && bits1 == b1 && bits2 == b2;
+        }
+    }
+}
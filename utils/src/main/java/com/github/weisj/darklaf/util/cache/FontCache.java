@@ -0,0 +1,225 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.util.cache;
+
+import java.awt.Font;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.text.AttributedCharacterIterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.swing.plaf.UIResource;
+
+/**
+ * Caches the results of {@code deriveFont} calls per base font, such that repeated derivations of the
+ * same font share a single instance and Java2D can reuse its metrics and glyph caches between them.
+ * <p>
+ * Base fonts are compared by identity rather than by {@link Font#equals(Object)}, as the latter
+ * doesn't take the underlying font into account. A composite font with fallback support (as created
+ * by {@link com.github.weisj.darklaf.util.FontUtil#createFont(String, int, int)}) is equal to the
+ * plain font of the same name, style and size, but must not be exchanged for it.
+ * <p>
+ * Only weak references to the fonts are held, hence fonts which aren't in use anymore can be collected
+ * as usual. Callers should therefore hold on to the font they are actually using. For fonts which end up
+ * in the defaults use the {@code deriveUIResource} methods, which cache the final {@link UIResource}.
+ */
+public final class FontCache {
+
+    private static final Map<IdentityKey, Map<DerivationKey, WeakReference<Font>>> derivedFonts = new HashMap<>();
+    private static final ReferenceQueue<Font> staleKeys = new ReferenceQueue<>();
+
+    private FontCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static Font deriveFont(final Font base, final int style) {
+        return deriveFont(base, new DerivationKey(style, -1, null, false), null);
+    }
+
+    public static Font deriveFont(final Font base, final float size) {
+        return deriveFont(base, new DerivationKey(-1, size, null, false), null);
+    }
+
+    public static Font deriveFont(final Font base, final int style, final float size) {
+        return deriveFont(base, new DerivationKey(style, size, null, false), null);
+    }
+
+    public static Font deriveFont(final Font base,
+            final Map<? extends AttributedCharacterIterator.Attribute, ?> attributes) {
+        return deriveFont(base, new DerivationKey(-1, -1, attributes, false), null);
+    }
+
+    /**
+     * Returns the font as a {@link UIResource}. If the font already is a {@link UIResource} it is returned as
+     * is. Otherwise the font created by the factory is cached for the given font instance.
+     *
+     * @param font the font.
+     * @param uiResourceFactory creates a {@link UIResource} font from a plain font.
+     * @return the font as a {@link UIResource}.
+     */
+    public static Font toUIResource(final Font font, final Function<Font, ? extends Font> uiResourceFactory) {
+        if (font instanceof UIResource) return font;
+        return deriveFont(font, new DerivationKey(-1, -1, null, true), uiResourceFactory);
+    }
+
+    public static Font deriveUIResource(final Font base, final float size,
+            final Function<Font, ? extends Font> uiResourceFactory) {
+        return deriveFont(base, new DerivationKey(-1, size, null, true), uiResourceFactory);
+    }
+
+    public static Font deriveUIResource(final Font base,
+            final Map<? extends AttributedCharacterIterator.Attribute, ?> attributes,
+            final Function<Font, ? extends Font> uiResourceFactory) {
+        return deriveFont(base, new DerivationKey(-1, -1, attributes, true), uiResourceFactory);
+    }
+
+    /**
+     * Derives a font with the given style, size and attributes and returns it as a {@link UIResource}. The
+     * final font is cached, hence fonts derived in the same way from the same base font share a single
+     * instance.
+     *
+     * @param base the base font.
+     * @param style the style of the font.
+     * @param size the size of the font.
+     * @param attributes the attributes to apply after the style and size or null.
+     * @param uiResourceFactory creates a {@link UIResource} font from a plain font. It is only used if the
+     *        derived font isn't a {@link UIResource} already.
+     * @return the derived font.
+     */
+    public static Font deriveUIResource(final Font base, final int style, final float size,
+            final Map<? extends AttributedCharacterIterator.Attribute, ?> attributes,
+            final Function<Font, ? extends Font> uiResourceFactory) {
+        return deriveFont(base, new DerivationKey(style, size, attributes, true), uiResourceFactory);
+    }
+
+    private static Font deriveFont(final Font base, final DerivationKey key,
+            final Function<Font, ? extends Font> uiResourceFactory) {
+        IdentityKey baseKey = new IdentityKey(base, null);
+        synchronized (derivedFonts) {
+            Map<DerivationKey, WeakReference<Font>> derived = derivedFonts.get(baseKey);
+            WeakReference<Font> ref = derived != null ? derived.get(key) : null;
+            Font font = ref != null ? ref.get() : null;
+            if (font != null) return font;
+        }
+        Font font = key.derive(base, uiResourceFactory);
+        synchronized (derivedFonts) {
+            expungeStaleEntries();
+            Map<DerivationKey, WeakReference<Font>> derived = derivedFonts.get(baseKey);
+            if (derived == null) {
+                derived = new HashMap<>();
+                derivedFonts.put(new IdentityKey(base, staleKeys), derived);
+            }
+            derived.put(key, new WeakReference<>(font));
+        }
+        return font;
+    }
+
+    private static void expungeStaleEntries() {
+        Reference<? extends Font> ref;
+        while ((ref = staleKeys.poll()) != null) {
+            derivedFonts.remove(ref);
+        }
+    }
+
+    /**
+     * Removes all cached fonts.
+     */
+    public static void clear() {
+        synchronized (derivedFonts) {
+            derivedFonts.clear();
+        }
+    }
+
+    private static final class IdentityKey extends WeakReference<Font> {
+        private final int hash;
+
+        private IdentityKey(final Font font, final ReferenceQueue<Font> queue) {
+            super(font, queue);
+            this.hash = System.identityHashCode(font);
+        }
+
+        @Override
+        @SuppressWarnings("ReferenceEquality")
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof IdentityKey)) return false;
+            Font font = get();
+            return font != null && font == ((IdentityKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class DerivationKey {
+        private final int style;
+        private final float size;
+        private final Map<? extends AttributedCharacterIterator.Attribute, ?> attributes;
+        private final boolean uiResource;
+
+        private DerivationKey(final int style, final float size,
+                final Map<? extends AttributedCharacterIterator.Attribute, ?> attributes, final boolean uiResource) {
+            this.style = style;
+            this.size = size;
+            this.attributes = attributes != null ? Collections.unmodifiableMap(new HashMap<>(attributes)) : null;
+            this.uiResource = uiResource;
+        }
+
+        private Font derive(final Font base, final Function<Font, ? extends Font> uiResourceFactory) {
+            Font font = base;
+            if (style >= 0 && size >= 0) {
+                font = font.deriveFont(style, size);
+            } else if (style >= 0) {
+                font = font.deriveFont(style);
+            } else if (size >= 0) {
+                font = font.deriveFont(size);
+            }
+            if (attributes != null) font = font.deriveFont(attributes);
+            if (uiResource && !(font instanceof UIResource)) font = uiResourceFactory.apply(font);
+            return font;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            DerivationKey that = (DerivationKey) o;
+            return style == that.style && Float.compare(that.size, size) == 0 && uiResource == that.uiResource
+                    && Objects.equals(attributes, that.attributes);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = style;
+            result = 31 * result + Float.floatToIntBits(size);
+            result = 31 * result + (attributes != null ? attributes.hashCode() : 0);
+            result = 31 * result + (uiResource ? 1 : 0);
+            return result;
+        }
+    }
+}
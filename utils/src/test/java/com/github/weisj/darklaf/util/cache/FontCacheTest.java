@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.github.weisj.darklaf.util.cache;
+
+import java.awt.Font;
+import java.awt.font.TextAttribute;
+import java.util.Collections;
+
+import javax.swing.plaf.FontUIResource;
+import javax.swing.text.StyleContext;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.darklaf.util.FontUtil;
+
+class FontCacheTest {
+
+    @Test
+    void testDerivedFontsAreCached() {
+        Font base = new Font(Font.DIALOG, Font.PLAIN, 12);
+        Font bold = FontCache.deriveFont(base, Font.BOLD);
+        Assertions.assertSame(bold, FontCache.deriveFont(base, Font.BOLD));
+        Assertions.assertTrue(bold.isBold());
+
+        Font larger = FontCache.deriveFont(base, 14f);
+        Assertions.assertSame(larger, FontCache.deriveFont(base, 14f));
+        Assertions.assertEquals(14f, larger.getSize2D());
+
+        Font kerned = FontCache.deriveFont(base,
+                Collections.singletonMap(TextAttribute.KERNING, TextAttribute.KERNING_ON));
+        Assertions.assertSame(kerned, FontCache.deriveFont(base,
+                Collections.singletonMap(TextAttribute.KERNING, TextAttribute.KERNING_ON)));
+    }
+
+    @Test
+    void testDerivedFontsRespectFontClass() {
+        Font font = new Font(Font.DIALOG, Font.PLAIN, 11);
+        Font uiResource = new FontUIResource(Font.DIALOG, Font.PLAIN, 11);
+        Assertions.assertEquals(font, uiResource);
+        Assertions.assertNotSame(FontCache.deriveFont(font, Font.BOLD), FontCache.deriveFont(uiResource, Font.BOLD));
+    }
+
+    @Test
+    void testCompositeFontsAreKeptSeparate() {
+        // StyleContext creates a composite font with fallback support, which is equal to the plain font.
+        Font composite = StyleContext.getDefaultStyleContext().getFont(Font.DIALOG, Font.PLAIN, 13);
+        Font plain = new FontUIResource(Font.DIALOG, Font.PLAIN, 13);
+        Assertions.assertEquals(plain, composite);
+
+        Font compositeBold = FontCache.deriveFont(composite, Font.BOLD);
+        Font plainBold = FontCache.deriveFont(plain, Font.BOLD);
+        Assertions.assertNotSame(compositeBold, plainBold);
+        Assertions.assertSame(compositeBold, FontCache.deriveFont(composite, Font.BOLD));
+        Assertions.assertSame(plainBold, FontCache.deriveFont(plain, Font.BOLD));
+    }
+
+    @Test
+    void testUIResourceFontsAreCached() {
+        Font base = FontUtil.createFont(Font.DIALOG, Font.PLAIN, 12);
+        Assertions.assertSame(base, FontUtil.createFont(Font.DIALOG, Font.PLAIN, 12));
+
+        Font derived = FontCache.deriveUIResource(base, Font.BOLD, 14f, null, FontUIResource::new);
+        Assertions.assertTrue(derived instanceof FontUIResource);
+        Assertions.assertTrue(derived.isBold());
+        Assertions.assertEquals(14f, derived.getSize2D());
+        Assertions.assertSame(derived, FontCache.deriveUIResource(base, Font.BOLD, 14f, null, FontUIResource::new));
+
+        Font uiResource = FontCache.toUIResource(base, FontUIResource::new);
+        Assertions.assertTrue(uiResource instanceof FontUIResource);
+        Assertions.assertSame(uiResource, FontCache.toUIResource(base, FontUIResource::new));
+    }
+
+    @Test
+    void testUIResourceFontsAreNotWrappedAgain() {
+        Font uiResource = new FontUIResource(Font.DIALOG, Font.PLAIN, 12);
+        Assertions.assertSame(uiResource, FontCache.toUIResource(uiResource, f -> {
+            throw new AssertionError("Font is already a UIResource");
+        }));
+        Font derived = FontCache.deriveUIResource(uiResource, 14f, FontUIResource::new);
+        Assertions.assertSame(FontUIResource.class, derived.getClass());
+    }
+}